@@ -0,0 +1,48 @@
+package com.ukraine.dc.benchmark;
+
+import com.ukraine.dc.list.List;
+import com.ukraine.dc.list.impl.ArrayList;
+import com.ukraine.dc.list.impl.CircularArrayList;
+import com.ukraine.dc.list.impl.LinkedList;
+import com.ukraine.dc.list.impl.TreeList;
+import com.ukraine.dc.list.impl.UnrolledLinkedList;
+import com.ukraine.dc.map.HashMap;
+import com.ukraine.dc.map.Map;
+import com.ukraine.dc.map.OpenAddressingHashMap;
+
+/**
+ * Creates collections by the names used in the {@code impl} benchmark parameter.
+ */
+public final class Implementations {
+
+    private Implementations() {
+    }
+
+    public static <T> List<T> newList(String name) {
+        switch (name) {
+            case "ArrayList":
+                return new ArrayList<>();
+            case "LinkedList":
+                return new LinkedList<>();
+            case "UnrolledLinkedList":
+                return new UnrolledLinkedList<>();
+            case "CircularArrayList":
+                return new CircularArrayList<>();
+            case "TreeList":
+                return new TreeList<>();
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + name);
+        }
+    }
+
+    public static <K, V> Map<K, V> newMap(String name) {
+        switch (name) {
+            case "HashMap":
+                return new HashMap<>();
+            case "OpenAddressingHashMap":
+                return new OpenAddressingHashMap<>();
+            default:
+                throw new IllegalArgumentException("Unknown map implementation: " + name);
+        }
+    }
+}
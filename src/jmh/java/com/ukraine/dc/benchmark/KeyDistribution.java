@@ -0,0 +1,93 @@
+package com.ukraine.dc.benchmark;
+
+/**
+ * The key distributions used by the map benchmarks.
+ */
+public enum KeyDistribution {
+    /**
+     * Integer keys 0, 1, 2, ...
+     */
+    SEQUENTIAL {
+        @Override
+        public Object key(int id) {
+            return id;
+        }
+    },
+    /**
+     * Distinct integer keys scattered over the whole int range.
+     * Multiplication by an odd constant is a bijection, so keys never repeat.
+     */
+    RANDOM {
+        @Override
+        public Object key(int id) {
+            return id * 0x9E3779B9;
+        }
+    },
+    /**
+     * Keys that share their hash code in groups of {@link CollidingKey#GROUP_SIZE}.
+     * Groups are kept small on purpose, otherwise populating the large maps takes quadratic time.
+     */
+    COLLIDING {
+        @Override
+        public Object key(int id) {
+            return new CollidingKey(id);
+        }
+    };
+
+    /**
+     * Creates the key with the given id. Different ids always give different keys.
+     *
+     * @param id the id
+     * @return the key
+     */
+    public abstract Object key(int id);
+
+    /**
+     * Creates keys for ids from {@code from} to {@code from + count - 1}.
+     *
+     * @param from  the first id
+     * @param count the keys count
+     * @return the keys array
+     */
+    public Object[] keys(int from, int count) {
+        Object[] keys = new Object[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = key(from + i);
+        }
+        return keys;
+    }
+
+    /**
+     * The key with deliberately poor hash code, imitates attacker-controlled ids.
+     */
+    public static final class CollidingKey implements Comparable<CollidingKey> {
+        public static final int GROUP_SIZE = 16;
+        private final int id;
+
+        public CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id / GROUP_SIZE;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CollidingKey)) return false;
+            return id == ((CollidingKey) o).id;
+        }
+
+        @Override
+        public int compareTo(CollidingKey other) {
+            return Integer.compare(id, other.id);
+        }
+
+        @Override
+        public String toString() {
+            return "CollidingKey{" + id + "}";
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.ukraine.dc.benchmark.list;
+
+import com.ukraine.dc.list.List;
+import com.ukraine.dc.list.impl.ArrayList;
+import com.ukraine.dc.list.impl.CopyOnWriteArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-mostly access shared by three readers iterating the list and one writer replacing an element:
+ * the {@link CopyOnWriteArrayList} against an {@link ArrayList} guarded by a lock. Adding {@code batch}
+ * elements one by one against one addAll, which copies the array once.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CopyOnWriteBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private final Object lock = new Object();
+    private ArrayList<Integer> locked;
+    private CopyOnWriteArrayList<Integer> copyOnWrite;
+    private List<Integer> batch;
+    private int seed;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        locked = new ArrayList<>();
+        copyOnWrite = new CopyOnWriteArrayList<>();
+        batch = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            locked.add(i);
+            batch.add(i);
+        }
+        copyOnWrite.addAll(batch);
+        seed = 42;
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(3)
+    public long lockedRead() {
+        long sum = 0;
+        synchronized (lock) {
+            for (Integer value : locked) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public Integer lockedWrite() {
+        int index = nextIndex();
+        synchronized (lock) {
+            return locked.set(index, index);
+        }
+    }
+
+    @Benchmark
+    @Group("copyOnWrite")
+    @GroupThreads(3)
+    public long copyOnWriteRead() {
+        long sum = 0;
+        for (Integer value : copyOnWrite) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @Group("copyOnWrite")
+    @GroupThreads(1)
+    public Integer copyOnWriteWrite() {
+        int index = nextIndex();
+        return copyOnWrite.set(index, index);
+    }
+
+    @Benchmark
+    @Group("addOneByOne")
+    public List<Integer> addOneByOne() {
+        CopyOnWriteArrayList<Integer> list = new CopyOnWriteArrayList<>();
+        for (Integer value : batch) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    @Group("addAll")
+    public List<Integer> addAll() {
+        CopyOnWriteArrayList<Integer> list = new CopyOnWriteArrayList<>();
+        list.addAll(batch);
+        return list;
+    }
+
+    private int nextIndex() {
+        int s = seed;
+        s ^= s << 13;
+        s ^= s >>> 17;
+        s ^= s << 5;
+        seed = s;
+        return (s & Integer.MAX_VALUE) % size;
+    }
+}
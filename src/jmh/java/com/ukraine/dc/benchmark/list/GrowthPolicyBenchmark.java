@@ -0,0 +1,66 @@
+package com.ukraine.dc.benchmark.list;
+
+import com.ukraine.dc.list.List;
+import com.ukraine.dc.list.impl.ArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building an {@link ArrayList} of {@code size} elements from the default capacity with every growth policy,
+ * against reserving the room by ensureCapacity() first. Refilling a buffer list after clear(),
+ * which keeps the capacity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class GrowthPolicyBenchmark {
+
+    @Param({"ONE_AND_HALF", "DOUBLE", "CHUNKED"})
+    private ArrayList.GrowthPolicy policy;
+
+    @Param({"10000000"})
+    private int size;
+
+    private final ArrayList<Integer> buffer = new ArrayList<>();
+
+    @Benchmark
+    public List<Integer> build() {
+        ArrayList<Integer> list = new ArrayList<>(5, policy);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> buildReserved() {
+        ArrayList<Integer> list = new ArrayList<>(5, policy);
+        list.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> refillAfterClear() {
+        buffer.clear();
+        for (int i = 0; i < size; i++) {
+            buffer.add(i);
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,114 @@
+package com.ukraine.dc.benchmark.list;
+
+import com.ukraine.dc.benchmark.Implementations;
+import com.ukraine.dc.list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot path operations of the {@link List} implementations.
+ * Every mutating benchmark restores the list, so its size stays equal to {@code size} during the run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ListBenchmark {
+
+    @Param({"ArrayList", "LinkedList", "UnrolledLinkedList", "CircularArrayList", "TreeList"})
+    private String impl;
+
+    @Param({"100", "10000", "1000000", "10000000"})
+    private int size;
+
+    private List<Integer> list;
+    private int seed;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = Implementations.newList(impl);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        seed = 42;
+    }
+
+    @Benchmark
+    public void add() {
+        list.add(size);
+        list.remove(size);
+    }
+
+    @Benchmark
+    public void insertAtIndex() {
+        int index = nextIndex();
+        list.add(-1, index);
+        list.remove(index);
+    }
+
+    @Benchmark
+    public void queue() {
+        list.add(list.remove(0));
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer getSequential() {
+        cursor = cursor + 1 == size ? 0 : cursor + 1;
+        return list.get(cursor);
+    }
+
+    @Benchmark
+    public Integer set() {
+        int index = nextIndex();
+        return list.set(index, index);
+    }
+
+    @Benchmark
+    public void remove() {
+        int index = nextIndex();
+        list.add(list.remove(index), index);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(nextIndex());
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Integer value : list) {
+            blackhole.consume(value);
+        }
+    }
+
+    /**
+     * Cheap xorshift, so the index choice does not dominate the measured operation.
+     */
+    private int nextIndex() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return (seed & Integer.MAX_VALUE) % size;
+    }
+}
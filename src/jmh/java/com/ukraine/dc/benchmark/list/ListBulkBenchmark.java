@@ -0,0 +1,84 @@
+package com.ukraine.dc.benchmark.list;
+
+import com.ukraine.dc.benchmark.Implementations;
+import com.ukraine.dc.list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Removing every second element of a fresh list: one by one through the iterator, which shifts the tail
+ * of an ArrayList on every remove, and by a single removeIf() pass. Inserting a block in the middle
+ * element by element and by a single addAll() call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ListBulkBenchmark {
+
+    @Param({"ArrayList", "LinkedList"})
+    private String impl;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Integer> list;
+    private List<Integer> block;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        list = Implementations.newList(impl);
+        block = Implementations.newList(impl);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+            block.add(-i);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> removeByIterator() {
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if ((iterator.next() & 1) == 0) {
+                iterator.remove();
+            }
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> removeIf() {
+        list.removeIf(value -> (value & 1) == 0);
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> insertOneByOne() {
+        int index = size / 2;
+        for (Integer value : block) {
+            list.add(value, index++);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> insertAddAll() {
+        list.addAll(block, size / 2);
+        return list;
+    }
+}
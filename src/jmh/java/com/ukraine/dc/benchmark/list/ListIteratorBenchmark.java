@@ -0,0 +1,77 @@
+package com.ukraine.dc.benchmark.list;
+
+import com.ukraine.dc.benchmark.Implementations;
+import com.ukraine.dc.list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A rewrite pass over the whole list: every element is replaced, and every 8th one gets a neighbour
+ * which is removed right away. The pass by index looks every position up again, the pass by cursor does not.
+ * Both passes leave the list as it was.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ListIteratorBenchmark {
+
+    @Param({"ArrayList", "LinkedList"})
+    private String impl;
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private List<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = Implementations.newList(impl);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> rewriteByIndex() {
+        for (int i = 0; i < list.size(); i++) {
+            Integer value = list.get(i);
+            list.set(value, i);
+            if ((value & 7) == 0) {
+                list.add(-1, i + 1);
+                list.remove(i + 1);
+            }
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> rewriteByCursor() {
+        ListIterator<Integer> iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            Integer value = iterator.next();
+            iterator.set(value);
+            if ((value & 7) == 0) {
+                iterator.add(-1);
+                iterator.previous();
+                iterator.remove();
+            }
+        }
+        return list;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ukraine.dc.benchmark.list;
+
+import com.ukraine.dc.list.List;
+import com.ukraine.dc.list.impl.ArrayList;
+import com.ukraine.dc.list.impl.PersistentVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishing a new snapshot after one update: a copy of the {@link ArrayList} with the element replaced
+ * against {@link PersistentVector#with}. Building a vector of {@code size} elements one version at a time
+ * against a transient.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PersistentVectorBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private ArrayList<Integer> snapshot;
+    private PersistentVector<Integer> persistent;
+    private int seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        snapshot = new ArrayList<>();
+        persistent = PersistentVector.empty();
+        for (int i = 0; i < size; i++) {
+            snapshot.add(i);
+            persistent = persistent.plus(i);
+        }
+        seed = 42;
+    }
+
+    @Benchmark
+    public List<Integer> copyOnUpdate() {
+        ArrayList<Integer> copy = new ArrayList<>(size);
+        copy.addAll(snapshot);
+        int index = nextIndex();
+        copy.set(-index, index);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Integer> persistentUpdate() {
+        int index = nextIndex();
+        return persistent.with(-index, index);
+    }
+
+    @Benchmark
+    public List<Integer> buildByVersions() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < size; i++) {
+            vector = vector.plus(i);
+        }
+        return vector;
+    }
+
+    @Benchmark
+    public List<Integer> buildTransient() {
+        PersistentVector.Transient<Integer> builder = PersistentVector.<Integer>empty().asTransient();
+        for (int i = 0; i < size; i++) {
+            builder.add(i);
+        }
+        return builder.persistent();
+    }
+
+    private int nextIndex() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return (seed & Integer.MAX_VALUE) % size;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ukraine.dc.benchmark.list;
+
+import com.ukraine.dc.list.impl.ArrayList;
+import com.ukraine.dc.list.impl.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boxed {@link ArrayList} of Integer against {@link IntArrayList}: building the list and summing it.
+ * Values are outside of the Integer cache, so the boxed list allocates an object per element.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PrimitiveListBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private ArrayList<Integer> boxed;
+    private IntArrayList primitive;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boxed = buildBoxed();
+        primitive = buildPrimitive();
+    }
+
+    @Benchmark
+    public ArrayList<Integer> buildBoxed() {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i + 1000);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList buildPrimitive() {
+        IntArrayList list = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            list.addInt(i + 1000);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long sumBoxed() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += boxed.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumPrimitive() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += primitive.getInt(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.map.HashMap;
+import com.ukraine.dc.map.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A CPU-heavy aggregation over every entry of the {@link HashMap}: through the iterator on one thread,
+ * by reduce() kept in the calling thread and by reduce() split over the common ForkJoinPool.
+ * The parallel speedup is bounded by the number of available cores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BulkOperationBenchmark {
+    private static final int ROUNDS = 16;
+
+    @Param({"1000000"})
+    private int size;
+
+    private HashMap<Long, Long> map;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        map = new HashMap<>();
+        for (long i = 0; i < size; i++) {
+            map.put(i, i);
+        }
+    }
+
+    @Benchmark
+    public long iterator() {
+        long sum = 0;
+        for (Map.Entry<Long, Long> entry : map) {
+            sum += mix(entry.getValue());
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Long reduceSequential() {
+        return map.reduce(Long.MAX_VALUE, (key, value) -> mix(value), Long::sum);
+    }
+
+    @Benchmark
+    public Long reduceParallel() {
+        return map.reduce(1, (key, value) -> mix(value), Long::sum);
+    }
+
+    private static long mix(long value) {
+        for (int i = 0; i < ROUNDS; i++) {
+            value ^= value << 13;
+            value ^= value >>> 7;
+            value ^= value << 17;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,68 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.benchmark.KeyDistribution;
+import com.ukraine.dc.map.ConcurrentHashMap;
+import com.ukraine.dc.map.HashMap;
+import com.ukraine.dc.map.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a shared map under a read/write mix, the concurrent map against the globally locked one.
+ * The thread count is a JMH option, run the suite for each count to see the scaling:
+ * {@code java -jar target/benchmarks.jar ConcurrentMapBenchmark -t 1}, then {@code -t 2}, ... {@code -t 32}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ConcurrentMapBenchmark {
+
+    @Param({"ConcurrentHashMap", "SynchronizedHashMap"})
+    private String impl;
+
+    @Param({"90", "50"})
+    private int readPercent;
+
+    @Param({"1000000"})
+    private int size;
+
+    private Map<Object, Object> map;
+    private Object[] keys;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = KeyDistribution.RANDOM.keys(0, size);
+        map = "ConcurrentHashMap".equals(impl)
+                ? new ConcurrentHashMap<>()
+                : new SynchronizedMap<>(new HashMap<>());
+        for (Object key : keys) {
+            map.put(key, key);
+        }
+    }
+
+    @Benchmark
+    public Object readWrite() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Object key = keys[random.nextInt(size)];
+        if (random.nextInt(100) < readPercent) {
+            return map.get(key);
+        }
+        return map.put(key, key);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.map.LruCache;
+import com.ukraine.dc.map.Map;
+import com.ukraine.dc.map.TinyLfuCache;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Replays synthetic key traces against the {@link LruCache} and the {@link TinyLfuCache} of several sizes
+ * and prints the hit rates. Every access is a get(), a miss loads the key by put().
+ * The traces are:
+ * ZIPF - keys drawn from a Zipf distribution with the exponent 0.9 over 100 000 keys;
+ * SCAN - the same Zipf traffic where every third access is a key never seen before;
+ * LOOP - the keys 0..n-1 repeated in order, n is one and a half of the cache size.
+ * Run: java -cp target/benchmarks.jar com.ukraine.dc.benchmark.map.HitRateSimulator
+ */
+public class HitRateSimulator {
+    private static final int KEYS = 100_000;
+    private static final int ACCESSES = 2_000_000;
+    private static final int[] CACHE_SIZES = {1_000, 10_000};
+
+    public static void main(String[] args) {
+        System.out.printf("%-6s %10s %10s %10s%n", "trace", "cache", "LRU", "W-TinyLFU");
+        for (int cacheSize : CACHE_SIZES) {
+            simulate("ZIPF", zipf(new Random(1), 0), cacheSize);
+            simulate("SCAN", zipf(new Random(2), 3), cacheSize);
+            simulate("LOOP", loop(cacheSize + cacheSize / 2), cacheSize);
+        }
+    }
+
+    private static void simulate(String trace, int[] keys, int cacheSize) {
+        double lru = hitRate(keys, LruCache::new, cacheSize);
+        double tinyLfu = hitRate(keys, TinyLfuCache::new, cacheSize);
+        System.out.printf("%-6s %10d %9.2f%% %9.2f%%%n", trace, cacheSize, lru, tinyLfu);
+    }
+
+    private static double hitRate(int[] keys, IntFunction<Map<Integer, Integer>> factory, int cacheSize) {
+        Map<Integer, Integer> cache = factory.apply(cacheSize);
+        long hits = 0;
+        for (int key : keys) {
+            if (cache.get(key) != null) {
+                hits++;
+            } else {
+                cache.put(key, key);
+            }
+        }
+        return 100.0 * hits / keys.length;
+    }
+
+    /**
+     * Draws the Zipf keys by a binary search over the cumulative distribution.
+     *
+     * @param random     the source of randomness
+     * @param scanPeriod every scanPeriod-th access is a new unique key, 0 for no scan
+     * @return the trace
+     */
+    private static int[] zipf(Random random, int scanPeriod) {
+        double[] cumulative = new double[KEYS];
+        double sum = 0;
+        for (int i = 0; i < KEYS; i++) {
+            sum += 1 / Math.pow(i + 1, 0.9);
+            cumulative[i] = sum;
+        }
+        int[] keys = new int[ACCESSES];
+        int nextUnique = KEYS;
+        for (int i = 0; i < ACCESSES; i++) {
+            if (scanPeriod > 0 && i % scanPeriod == 0) {
+                keys[i] = nextUnique++;
+                continue;
+            }
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            keys[i] = index >= 0 ? index : -index - 1;
+        }
+        return keys;
+    }
+
+    private static int[] loop(int length) {
+        int[] keys = new int[ACCESSES];
+        for (int i = 0; i < ACCESSES; i++) {
+            keys[i] = i % length;
+        }
+        return keys;
+    }
+}
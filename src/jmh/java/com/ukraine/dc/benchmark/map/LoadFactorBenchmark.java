@@ -0,0 +1,79 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.benchmark.KeyDistribution;
+import com.ukraine.dc.map.HashMap;
+import com.ukraine.dc.map.Map;
+import com.ukraine.dc.map.OpenAddressingHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hit and miss lookups of the chained and the open addressing maps filled up to the exact load factor.
+ * Both maps are created with the same table capacity and never resize during setup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class LoadFactorBenchmark {
+
+    @Param({"HashMap", "OpenAddressingHashMap"})
+    private String impl;
+
+    @Param({"1024", "1048576"})
+    private int capacity;
+
+    @Param({"0.5", "0.6", "0.7", "0.8", "0.9"})
+    private double loadFactor;
+
+    private Map<Object, Object> map;
+    private Object[] keys;
+    private Object[] missingKeys;
+    private int size;
+    private int seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        size = (int) (capacity * loadFactor) - 1;
+        keys = KeyDistribution.RANDOM.keys(0, size);
+        missingKeys = KeyDistribution.RANDOM.keys(size, size);
+        map = "HashMap".equals(impl)
+                ? new HashMap<>(capacity, loadFactor)
+                : new OpenAddressingHashMap<>(capacity, loadFactor);
+        for (Object key : keys) {
+            map.put(key, key);
+        }
+        seed = 42;
+    }
+
+    @Benchmark
+    public Object getHit() {
+        return map.get(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    public Object getMiss() {
+        return map.get(missingKeys[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return (seed & Integer.MAX_VALUE) % size;
+    }
+}
@@ -0,0 +1,90 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.list.impl.LinkedList;
+import com.ukraine.dc.map.HashMap;
+import com.ukraine.dc.map.LruCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A cache lookup, loading the value on a miss, over keys twice as many as the cache holds:
+ * the {@link LruCache} against a {@link HashMap} with a {@link LinkedList} of keys in access order,
+ * which finds the key in the list by indexOf() on every hit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class LruCacheBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private LruCache<Integer, Integer> cache;
+    private HashMap<Integer, Integer> map;
+    private LinkedList<Integer> order;
+    private Integer[] keys;
+    private int seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cache = new LruCache<>(size);
+        map = new HashMap<>();
+        order = new LinkedList<>();
+        keys = new Integer[size * 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+        seed = 42;
+    }
+
+    @Benchmark
+    public Integer lruCache() {
+        Integer key = keys[nextIndex()];
+        Integer value = cache.get(key);
+        if (value == null) {
+            value = key;
+            cache.put(key, value);
+        }
+        return value;
+    }
+
+    @Benchmark
+    public Integer mapWithList() {
+        Integer key = keys[nextIndex()];
+        Integer value = map.get(key);
+        if (value != null) {
+            order.remove(order.indexOf(key));
+            order.add(key);
+            return value;
+        }
+        value = key;
+        map.put(key, value);
+        order.add(key);
+        if (order.size() > size) {
+            map.remove(order.remove(0));
+        }
+        return value;
+    }
+
+    private int nextIndex() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return (seed & Integer.MAX_VALUE) % keys.length;
+    }
+}
@@ -0,0 +1,118 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.benchmark.Implementations;
+import com.ukraine.dc.benchmark.KeyDistribution;
+import com.ukraine.dc.map.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot path operations of the {@link Map} implementations.
+ * Keys with ids {@code [0, size)} are present in the map, keys with ids {@code [size, 2 * size)} are misses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MapBenchmark {
+
+    @Param({"HashMap", "OpenAddressingHashMap"})
+    private String impl;
+
+    @Param({"100", "10000", "1000000", "10000000"})
+    private int size;
+
+    @Param({"SEQUENTIAL", "RANDOM", "COLLIDING"})
+    private KeyDistribution distribution;
+
+    private Map<Object, Object> map;
+    private Object[] keys;
+    private Object[] missingKeys;
+    private int seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = distribution.keys(0, size);
+        missingKeys = distribution.keys(size, size);
+        map = populate();
+        seed = 42;
+    }
+
+    @Benchmark
+    public Object put() {
+        Object key = keys[nextIndex()];
+        return map.put(key, key);
+    }
+
+    @Benchmark
+    public Object get() {
+        return map.get(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    public Object getMiss() {
+        return map.get(missingKeys[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean containsKey() {
+        return map.containsKey(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    public Object remove() {
+        Object key = keys[nextIndex()];
+        Object value = map.remove(key);
+        map.put(key, value);
+        return value;
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Map.Entry<Object, Object> entry : map) {
+            blackhole.consume(entry.getValue());
+        }
+    }
+
+    /**
+     * Fills an empty map with default capacity, so every table growth is part of the measurement.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public Map<Object, Object> resize() {
+        return populate();
+    }
+
+    private Map<Object, Object> populate() {
+        Map<Object, Object> newMap = Implementations.newMap(impl);
+        for (Object key : keys) {
+            newMap.put(key, key);
+        }
+        return newMap;
+    }
+
+    private int nextIndex() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return (seed & Integer.MAX_VALUE) % size;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.map.HashMap;
+import com.ukraine.dc.map.MappedHashMap;
+import com.ukraine.dc.offheap.Serializers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Startup of a service holding a map: opening an existing {@link MappedHashMap} against rebuilding a {@link HashMap}.
+ * Both read one key, so the open path touches the header, one table page and one data page only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class MappedHashMapBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private Path directory;
+    private Path path;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("mapped-map");
+        path = directory.resolve("map");
+        try (MappedHashMap<Long, String> map = new MappedHashMap<>(path, Serializers.LONG, Serializers.STRING,
+                size * 4 / 3 + 1, 0.75)) {
+            for (long i = 0; i < size; i++) {
+                map.put(i, "value" + i);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public String openMapped() {
+        try (MappedHashMap<Long, String> map = new MappedHashMap<>(path, Serializers.LONG, Serializers.STRING)) {
+            return map.get(size / 2L);
+        }
+    }
+
+    @Benchmark
+    public String rebuildHeap() {
+        HashMap<Long, String> map = new HashMap<>(size * 4 / 3 + 1);
+        for (long i = 0; i < size; i++) {
+            map.put(i, "value" + i);
+        }
+        return map.get(size / 2L);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.map.HashMap;
+import com.ukraine.dc.map.Map;
+import com.ukraine.dc.map.OffHeapHashMap;
+import com.ukraine.dc.offheap.Serializers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link HashMap} against the {@link OffHeapHashMap} with String keys and values.
+ * fullGc() measures System.gc() while the map is alive: it grows with the map size for the heap map
+ * and stays flat for the off-heap one. get() shows the price of deserialization on every read.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:MaxDirectMemorySize=2g"})
+public class OffHeapBenchmark {
+
+    @Param({"HashMap", "OffHeapHashMap"})
+    private String impl;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private Map<String, String> map;
+    private int seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        map = "HashMap".equals(impl)
+                ? new HashMap<>(size * 4 / 3 + 1)
+                : new OffHeapHashMap<>(Serializers.STRING, Serializers.STRING, size * 4 / 3 + 1, 0.75, Long.MAX_VALUE);
+        for (int i = 0; i < size; i++) {
+            map.put("key" + i, "value" + i);
+        }
+        seed = 42;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (map instanceof OffHeapHashMap) {
+            ((OffHeapHashMap<String, String>) map).close();
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void fullGc() {
+        System.gc();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String get() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        // the key is built on every call, so nothing but the map stays on the heap between calls
+        return map.get("key" + (seed & Integer.MAX_VALUE) % size);
+    }
+}
@@ -0,0 +1,93 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.map.HashMap;
+import com.ukraine.dc.map.Map;
+import com.ukraine.dc.map.PersistentHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishing a new snapshot after one update: a copy of the {@link HashMap} with the update applied
+ * against {@link PersistentHashMap#with}. Building a map of {@code size} entries one version at a time
+ * against a transient.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PersistentMapBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private HashMap<Integer, Integer> snapshot;
+    private PersistentHashMap<Integer, Integer> persistent;
+    private int seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        snapshot = new HashMap<>();
+        persistent = PersistentHashMap.empty();
+        for (int i = 0; i < size; i++) {
+            snapshot.put(i, i);
+            persistent = persistent.with(i, i);
+        }
+        seed = 42;
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> copyOnUpdate() {
+        HashMap<Integer, Integer> copy = new HashMap<>(size * 2);
+        for (Map.Entry<Integer, Integer> entry : snapshot) {
+            copy.put(entry.getKey(), entry.getValue());
+        }
+        int key = nextKey();
+        copy.put(key, -key);
+        return copy;
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> persistentUpdate() {
+        int key = nextKey();
+        return persistent.with(key, -key);
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> buildByVersions() {
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+        for (int i = 0; i < size; i++) {
+            map = map.with(i, i);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> buildTransient() {
+        PersistentHashMap.Transient<Integer, Integer> builder = PersistentHashMap.<Integer, Integer>empty().asTransient();
+        for (int i = 0; i < size; i++) {
+            builder.put(i, i);
+        }
+        return builder.persistent();
+    }
+
+    private int nextKey() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return (seed & Integer.MAX_VALUE) % size;
+    }
+}
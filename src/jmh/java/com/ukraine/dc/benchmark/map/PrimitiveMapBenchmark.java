@@ -0,0 +1,93 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.map.HashMap;
+import com.ukraine.dc.map.Long2ObjectHashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The generic {@link HashMap} keyed by Long against {@link Long2ObjectHashMap}.
+ * The fill benchmarks put {@link #SIZE} entity ids into a presized map, one operation per entry, so
+ * gc.alloc.rate.norm of the GC profiler reads as bytes allocated per entry, that is the memory footprint
+ * of a mapping plus the table slot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PrimitiveMapBenchmark {
+    private static final int SIZE = 1_000_000;
+    private static final Object VALUE = new Object();
+
+    @Param({"false", "true"})
+    private boolean colliding;
+
+    private long[] ids;
+    private HashMap<Long, Object> boxedMap;
+    private Long2ObjectHashMap<Object> primitiveMap;
+    private int seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ids = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            // entity ids often differ in the high bits only
+            ids[i] = colliding ? (long) i << 32 : i * 0x9E3779B97F4A7C15L;
+        }
+        boxedMap = fillBoxed();
+        primitiveMap = fillPrimitive();
+        seed = 42;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public HashMap<Long, Object> fillBoxed() {
+        HashMap<Long, Object> map = new HashMap<>(SIZE * 4 / 3 + 1);
+        for (long id : ids) {
+            map.put(id, VALUE);
+        }
+        return map;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Long2ObjectHashMap<Object> fillPrimitive() {
+        Long2ObjectHashMap<Object> map = new Long2ObjectHashMap<>(SIZE);
+        for (long id : ids) {
+            map.put(id, VALUE);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Object getBoxed() {
+        return boxedMap.get(ids[nextIndex()]);
+    }
+
+    @Benchmark
+    public Object getPrimitive() {
+        return primitiveMap.get(ids[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return (seed & Integer.MAX_VALUE) % SIZE;
+    }
+}
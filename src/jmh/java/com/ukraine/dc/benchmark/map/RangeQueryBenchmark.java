@@ -0,0 +1,139 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.map.BPlusTreeMap;
+import com.ukraine.dc.map.HashMap;
+import com.ukraine.dc.map.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A point lookup and a sum over a range of 100 keys: the {@link BPlusTreeMap} walking its linked leaves,
+ * java.util.TreeMap walking its red-black tree, and a {@link HashMap} which has to scan all entries
+ * and sort the matching keys. bulkLoad() builds the tree from sorted entries against put() one by one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class RangeQueryBenchmark {
+    private static final int RANGE = 100;
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private BPlusTreeMap<Integer, Integer> tree;
+    private TreeMap<Integer, Integer> treeMap;
+    private HashMap<Integer, Integer> hashMap;
+    private Integer[] keys;
+    private int seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tree = new BPlusTreeMap<>();
+        treeMap = new TreeMap<>();
+        hashMap = new HashMap<>();
+        keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i;
+        }
+        // the tree is built by put() in random order, as a map which was filled over time
+        List<Integer> shuffled = new ArrayList<>(Arrays.asList(keys));
+        Collections.shuffle(shuffled, new Random(24));
+        for (Integer key : shuffled) {
+            tree.put(key, key);
+            treeMap.put(key, key);
+            hashMap.put(key, key);
+        }
+        seed = 42;
+    }
+
+    @Benchmark
+    public Integer getBPlusTree() {
+        return tree.get(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer getTreeMap() {
+        return treeMap.get(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    public long rangeBPlusTree() {
+        int from = nextIndex();
+        long sum = 0;
+        for (Map.Entry<Integer, Integer> entry : tree.subMap(from, from + RANGE)) {
+            sum += entry.getValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rangeTreeMap() {
+        int from = nextIndex();
+        long sum = 0;
+        for (Integer value : treeMap.subMap(from, from + RANGE).values()) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rangeHashMapScan() {
+        int from = nextIndex();
+        int[] found = new int[RANGE];
+        int count = 0;
+        for (Map.Entry<Integer, Integer> entry : hashMap) {
+            int key = entry.getKey();
+            if (key >= from && key < from + RANGE) {
+                found[count++] = key;
+            }
+        }
+        Arrays.sort(found, 0, count);
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += hashMap.get(found[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public BPlusTreeMap<Integer, Integer> bulkLoad() {
+        return BPlusTreeMap.fromSorted(tree);
+    }
+
+    @Benchmark
+    public BPlusTreeMap<Integer, Integer> putSorted() {
+        BPlusTreeMap<Integer, Integer> map = new BPlusTreeMap<>();
+        for (Integer key : keys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    private int nextIndex() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return (seed & Integer.MAX_VALUE) % keys.length;
+    }
+}
@@ -0,0 +1,62 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.benchmark.KeyDistribution;
+import com.ukraine.dc.map.HashMap;
+import com.ukraine.dc.map.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution of put() into a growing {@link HashMap}, with the stop-the-world and the incremental resize.
+ * Compare the p0.99 and p0.999 percentiles: the full rehash shows up there as a single huge sample.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ResizeLatencyBenchmark {
+
+    @Param({"false", "true"})
+    private boolean incremental;
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private Map<Object, Object> map;
+    private Object[] keys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = KeyDistribution.RANDOM.keys(0, size);
+        reset();
+    }
+
+    @Benchmark
+    public Object put() {
+        if (next == size) {
+            reset();
+        }
+        Object key = keys[next++];
+        return map.put(key, key);
+    }
+
+    private void reset() {
+        map = new HashMap<>(16, 0.75, incremental);
+        next = 0;
+    }
+}
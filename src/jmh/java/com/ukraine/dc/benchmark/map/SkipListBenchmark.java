@@ -0,0 +1,103 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.map.BPlusTreeMap;
+import com.ukraine.dc.map.ConcurrentSkipListMap;
+import com.ukraine.dc.map.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A time-series ingest: three writers put and remove keys while one reader sums ranges of 100 keys,
+ * the {@link ConcurrentSkipListMap} against a {@link BPlusTreeMap} behind one global lock, the reader
+ * holds the lock for the whole range. The group runs four threads, the lock-free map can only gain
+ * on a machine with several cores, on a single core the threads just interleave.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SkipListBenchmark {
+    private static final int RANGE = 100;
+
+    @Param({"100000"})
+    private int size;
+
+    private ConcurrentSkipListMap<Integer, Integer> skipList;
+    private SynchronizedMap<Integer, Integer> locked;
+    private BPlusTreeMap<Integer, Integer> tree;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        skipList = new ConcurrentSkipListMap<>();
+        tree = new BPlusTreeMap<>();
+        locked = new SynchronizedMap<>(tree);
+        // every other key is present, so the writers both add and remove
+        for (int i = 0; i < size * 2; i += 2) {
+            skipList.put(i, i);
+            locked.put(i, i);
+        }
+    }
+
+    @Benchmark
+    @Group("skipList")
+    @GroupThreads(3)
+    public Integer skipListWrite() {
+        return write(skipList);
+    }
+
+    @Benchmark
+    @Group("skipList")
+    @GroupThreads(1)
+    public long skipListScan() {
+        int from = ThreadLocalRandom.current().nextInt(size * 2);
+        long sum = 0;
+        for (Map.Entry<Integer, Integer> entry : skipList.subMap(from, from + RANGE)) {
+            sum += entry.getValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(3)
+    public Integer lockedWrite() {
+        return write(locked);
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public long lockedScan() {
+        int from = ThreadLocalRandom.current().nextInt(size * 2);
+        long sum = 0;
+        synchronized (locked) {
+            for (Map.Entry<Integer, Integer> entry : tree.subMap(from, from + RANGE)) {
+                sum += entry.getValue();
+            }
+        }
+        return sum;
+    }
+
+    private Integer write(Map<Integer, Integer> map) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(size * 2);
+        return random.nextBoolean() ? map.put(key, key) : map.remove(key);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.benchmark.KeyDistribution;
+import com.ukraine.dc.map.HashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of the {@link HashMap} statistics on the hot path: get with the statistics disabled and enabled,
+ * and a scan of the table structure as done by a JMX read of the chain length histogram.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class StatisticsBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean statistics;
+
+    private HashMap<Object, Object> map;
+    private Object[] keys;
+    private int seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = KeyDistribution.RANDOM.keys(0, size);
+        map = new HashMap<>();
+        if (statistics) {
+            map.enableStatistics();
+        }
+        for (Object key : keys) {
+            map.put(key, key);
+        }
+        seed = 42;
+    }
+
+    @Benchmark
+    public Object get() {
+        return map.get(keys[nextIndex()]);
+    }
+
+    @Benchmark
+    public long[] chainLengthHistogram() {
+        return statistics ? map.getStatistics().getChainLengthHistogram() : null;
+    }
+
+    private int nextIndex() {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return (seed & Integer.MAX_VALUE) % size;
+    }
+}
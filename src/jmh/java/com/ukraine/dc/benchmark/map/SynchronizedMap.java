@@ -0,0 +1,59 @@
+package com.ukraine.dc.benchmark.map;
+
+import com.ukraine.dc.map.Map;
+
+import java.util.Iterator;
+
+/**
+ * The baseline for the concurrent benchmarks: every call is guarded by one global lock.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+class SynchronizedMap<K, V> implements Map<K, V> {
+    private final Map<K, V> map;
+
+    SynchronizedMap(Map<K, V> map) {
+        this.map = map;
+    }
+
+    @Override
+    public synchronized V put(K key, V value) {
+        return map.put(key, value);
+    }
+
+    @Override
+    public synchronized V get(K key) {
+        return map.get(key);
+    }
+
+    @Override
+    public synchronized int size() {
+        return map.size();
+    }
+
+    @Override
+    public synchronized boolean containsKey(K key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public synchronized V remove(K key) {
+        return map.remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        map.clear();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return map.iterator();
+    }
+}
@@ -0,0 +1,103 @@
+package com.ukraine.dc.benchmark.stream;
+
+import com.ukraine.dc.benchmark.Implementations;
+import com.ukraine.dc.list.List;
+import com.ukraine.dc.map.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A CPU-heavy map/filter/reduce pipeline over a list or the entries of a map. The parallel pipeline runs
+ * in a pool of {@code threads} workers, so the speedup over the sequential one shows how well the spliterator
+ * of the collection splits. The speedup is bounded by the number of available cores.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class StreamBenchmark {
+    private static final int ROUNDS = 64;
+
+    @Param({"ArrayList", "LinkedList", "HashMap"})
+    private String impl;
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"1", "2", "4"})
+    private int threads;
+
+    private List<Long> list;
+    private Map<Long, Long> map;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (impl.endsWith("Map")) {
+            map = Implementations.newMap(impl);
+            for (long i = 0; i < size; i++) {
+                map.put(i, i);
+            }
+        } else {
+            list = Implementations.newList(impl);
+            for (long i = 0; i < size; i++) {
+                list.add(i);
+            }
+        }
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long sequential() {
+        return reduce(false);
+    }
+
+    @Benchmark
+    public long parallel() {
+        // a parallel stream started inside a pool runs its tasks in that pool
+        return pool.submit(() -> reduce(true)).join();
+    }
+
+    private long reduce(boolean parallel) {
+        if (map != null) {
+            return (parallel ? map.parallelStream() : map.stream())
+                    .mapToLong(entry -> mix(entry.getValue()))
+                    .filter(value -> (value & 1) == 0)
+                    .sum();
+        }
+        return (parallel ? list.parallelStream() : list.stream())
+                .mapToLong(StreamBenchmark::mix)
+                .filter(value -> (value & 1) == 0)
+                .sum();
+    }
+
+    private static long mix(long value) {
+        for (int i = 0; i < ROUNDS; i++) {
+            value ^= value << 13;
+            value ^= value >>> 7;
+            value ^= value << 17;
+        }
+        return value;
+    }
+}
@@ -1,6 +1,11 @@
 package com.ukraine.dc.list;
 
 import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The List interface.
@@ -33,6 +38,23 @@ public interface List<T> extends Iterable<T> {
     // otherwise throw new IndexOutOfBoundsException
     T set(T value, int index);
 
+    // add all values to the end of the list, in their order
+    void addAll(List<? extends T> values);
+
+    // add all values by index between [0, size], the first value gets the index
+    // otherwise throw new IndexOutOfBoundsException
+    void addAll(List<? extends T> values, int index);
+
+    // [A, B, C, D] removeIf(x -> x is B or D) -> [A, C], true
+    // false if nothing was removed
+    boolean removeIf(Predicate<? super T> filter);
+
+    // remove every element contained in values
+    boolean removeAll(List<? super T> values);
+
+    // remove every element not contained in values
+    boolean retainAll(List<? super T> values);
+
     void clear();
 
     int size();
@@ -52,4 +74,24 @@ public interface List<T> extends Iterable<T> {
     String toString();
 
     Iterator<T> iterator();
+
+    // bidirectional cursor placed before the first element,
+    // add()/set()/remove() work at the cursor position without looking the index up again
+    ListIterator<T> listIterator();
+
+    // we can place the cursor before index between [0, size]
+    // otherwise throw new IndexOutOfBoundsException
+    ListIterator<T> listIterator(int index);
+
+    // ORDERED, SIZED and SUBSIZED spliterator, the list must not be changed while it is traversed
+    Spliterator<T> spliterator();
+
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    // the elements are processed by the common ForkJoinPool, the parts come from spliterator().trySplit()
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -2,7 +2,12 @@ package com.ukraine.dc.list.impl;
 
 import com.ukraine.dc.list.List;
 
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.StringJoiner;
+import java.util.function.Predicate;
 
 public abstract class AbstractList<T> implements List<T> {
     protected int size;
@@ -16,6 +21,93 @@ public abstract class AbstractList<T> implements List<T> {
         add(data, size);
     }
 
+    /**
+     * Add all values to the end of the list.
+     *
+     * @param values the values
+     */
+    @Override
+    public void addAll(List<? extends T> values) {
+        addAll(values, size);
+    }
+
+    /**
+     * Add all values by index. The values are copied first, so the list may be added to itself.
+     *
+     * @param values the values
+     * @param index  the index of the first value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addAll(List<? extends T> values, int index) {
+        validateIndexOnAdd(index);
+        Object[] copy = new Object[values.size()];
+        int i = 0;
+        for (T value : values) {
+            copy[i++] = value;
+        }
+        for (Object value : copy) {
+            add((T) value, index++);
+        }
+    }
+
+    /**
+     * Removes all elements matching the filter in one pass: the kept elements are moved to the front
+     * through set() and the tail is cut from the end. If the filter throws, the unchecked elements are kept.
+     *
+     * @param filter the filter
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        int oldSize = size;
+        int kept = 0;
+        int read = 0;
+        try {
+            for (; read < size; read++) {
+                T value = get(read);
+                if (!filter.test(value)) {
+                    if (kept != read) {
+                        set(value, kept);
+                    }
+                    kept++;
+                }
+            }
+        } finally {
+            for (; read < size; read++, kept++) {
+                if (kept != read) {
+                    set(get(read), kept);
+                }
+            }
+            while (size > kept) {
+                remove(size - 1);
+            }
+        }
+        return size != oldSize;
+    }
+
+    /**
+     * Removes all elements contained in values.
+     *
+     * @param values the values
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeAll(List<? super T> values) {
+        return removeIf(values::contains);
+    }
+
+    /**
+     * Removes all elements not contained in values.
+     *
+     * @param values the values
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean retainAll(List<? super T> values) {
+        return removeIf(value -> !values.contains(value));
+    }
+
     /**
      * The method checks if collection is empty or no, returns boolean value.
      *
@@ -58,6 +150,40 @@ public abstract class AbstractList<T> implements List<T> {
         return joiner.toString();
     }
 
+    /**
+     * Initialize the list iterator before the first element.
+     *
+     * @return the ListIterator instance
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Initialize the list iterator before the element by index.
+     * The default cursor works through the indexed methods, the lists override it where they can do better.
+     *
+     * @param index the index
+     * @return the ListIterator instance
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        validateIndexOnAdd(index);
+        return new IndexListIterator(index);
+    }
+
+    /**
+     * Initialize the spliterator. The default one splits off batches of elements copied from the iterator,
+     * the lists override it where they can split without copying.
+     *
+     * @return the Spliterator instance
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+    }
+
     /**
      * Validate index when we processed add method.
      *
@@ -80,4 +206,78 @@ public abstract class AbstractList<T> implements List<T> {
             throw new IndexOutOfBoundsException("Incorrect index, it should be from 0 to " + maxIndex);
         }
     }
+
+    /**
+     * The type IndexListIterator, the list iterator based on the indexed methods of the list.
+     */
+    private class IndexListIterator implements ListIterator<T> {
+        private int cursor;
+        private int lastIndex = -1;
+
+        private IndexListIterator(int index) {
+            this.cursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastIndex = cursor++;
+            return get(lastIndex);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastIndex = --cursor;
+            return get(lastIndex);
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            AbstractList.this.remove(lastIndex);
+            cursor = lastIndex;
+            lastIndex = -1;
+        }
+
+        @Override
+        public void set(T data) {
+            if (lastIndex < 0) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called set() previously next() wasn't called");
+            }
+            AbstractList.this.set(data, lastIndex);
+        }
+
+        @Override
+        public void add(T data) {
+            AbstractList.this.add(data, cursor++);
+            lastIndex = -1;
+        }
+    }
 }
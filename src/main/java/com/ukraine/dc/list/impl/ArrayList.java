@@ -1,17 +1,32 @@
 package com.ukraine.dc.list.impl;
 
+import com.ukraine.dc.list.List;
+
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * The ArrayList.
+ * The array grows by the GrowthPolicy of the list, ensureCapacity() reserves the room for a known number
+ * of elements at once and clear() keeps the array for reuse. With auto-shrink the array is halved once
+ * the list uses less than a quarter of it, the gap between the grow and the shrink points keeps
+ * a list that oscillates around one size from reallocating on every change.
  *
  * @param <T> the data type
  */
 public class ArrayList<T> extends AbstractList<T> {
     private static final int INITIAL_CAPACITY = 5;
+    // the largest array size the VM reliably allocates
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private final GrowthPolicy growthPolicy;
+    private final boolean autoShrink;
+    private final int initialCapacity;
     private T[] array;
 
     /**
@@ -27,6 +42,34 @@ public class ArrayList<T> extends AbstractList<T> {
      * @param capacity the capacity
      */
     public ArrayList(int capacity) {
+        this(capacity, GrowthPolicy.DOUBLE);
+    }
+
+    /**
+     * Initialize ArrayList with custom capacity and growth policy.
+     *
+     * @param capacity     the capacity
+     * @param growthPolicy the growth policy
+     */
+    public ArrayList(int capacity, GrowthPolicy growthPolicy) {
+        this(capacity, growthPolicy, false);
+    }
+
+    /**
+     * Initialize ArrayList with custom capacity, growth policy and shrink mode.
+     *
+     * @param capacity     the capacity, the array is never shrunk below it
+     * @param growthPolicy the growth policy
+     * @param autoShrink   the flag to halve the array once less than a quarter of it is used
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayList(int capacity, GrowthPolicy growthPolicy, boolean autoShrink) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Incorrect capacity: " + capacity);
+        }
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+        this.autoShrink = autoShrink;
+        this.initialCapacity = capacity;
         array = (T[]) new Object[capacity];
     }
 
@@ -47,6 +90,65 @@ public class ArrayList<T> extends AbstractList<T> {
         size++;
     }
 
+    /**
+     * Add all values by index, the array grows at most once and the tail is shifted once.
+     *
+     * @param values the values
+     * @param index  the index of the first value
+     */
+    @Override
+    public void addAll(List<? extends T> values, int index) {
+        validateIndexOnAdd(index);
+        int count = values.size();
+        Object[] source;
+        if (values instanceof ArrayList) {
+            source = ((ArrayList<?>) values).array;
+        } else {
+            source = new Object[count];
+            int i = 0;
+            for (T value : values) {
+                source[i++] = value;
+            }
+        }
+        ensureCapacity(size + count);
+        if (source == array) {
+            // the list is added to itself, its elements are shifted by the copy below
+            source = Arrays.copyOf(array, count);
+        }
+        System.arraycopy(array, index, array, index + count, size - index);
+        System.arraycopy(source, 0, array, index, count);
+        size += count;
+    }
+
+    /**
+     * Removes all elements matching the filter in a single pass: the kept elements are moved
+     * to the front with two pointers and the tail is cleared once. If the filter throws, the unchecked elements are kept.
+     *
+     * @param filter the filter
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        int oldSize = size;
+        int kept = 0;
+        int read = 0;
+        try {
+            for (; read < size; read++) {
+                T value = array[read];
+                if (!filter.test(value)) {
+                    array[kept++] = value;
+                }
+            }
+        } finally {
+            System.arraycopy(array, read, array, kept, size - read);
+            kept += size - read;
+            Arrays.fill(array, kept, size, null);
+            size = kept;
+            shrinkIfSparse();
+        }
+        return size != oldSize;
+    }
+
     /**
      * The method removes data by its index and returns the previous value.
      *
@@ -60,6 +162,7 @@ public class ArrayList<T> extends AbstractList<T> {
         System.arraycopy(array, index + 1, array, index, size - index - 1);
         size--;
         array[size] = null;
+        shrinkIfSparse();
         return prevValue;
     }
 
@@ -91,12 +194,12 @@ public class ArrayList<T> extends AbstractList<T> {
     }
 
     /**
-     * The method clear the whole collection.
+     * The method clear the whole collection, the capacity is kept.
      */
     @Override
     public void clear() {
+        Arrays.fill(array, 0, size, null);
         size = 0;
-        array = null;
     }
 
     /**
@@ -131,11 +234,46 @@ public class ArrayList<T> extends AbstractList<T> {
         return -1;
     }
 
+    /**
+     * Grows the array, if needed, so that it holds at least minCapacity elements without another reallocation.
+     * The array grows by the growth policy, or straight to minCapacity when that is more.
+     *
+     * @param minCapacity the number of elements
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > array.length) {
+            if (minCapacity > MAX_CAPACITY) {
+                throw new IllegalStateException("The list reached its maximum capacity " + size);
+            }
+            int newCapacity = growthPolicy.grow(array.length);
+            if (newCapacity < 0 || newCapacity > MAX_CAPACITY) {
+                // the policy overflowed
+                newCapacity = MAX_CAPACITY;
+            }
+            array = Arrays.copyOf(array, Math.max(newCapacity, minCapacity));
+        }
+    }
+
+    /**
+     * Returns the length of the array.
+     *
+     * @return the int value
+     */
+    public int capacity() {
+        return array.length;
+    }
+
     private void expandArray() {
-        int newCapacity = array.length * 2;
-        T[] newArray = (T[]) new Object[newCapacity];
-        System.arraycopy(array, 0, newArray, 0, size);
-        array = newArray;
+        ensureCapacity(size + 1);
+    }
+
+    /**
+     * Halves the array in the auto-shrink mode, once less than a quarter of it is used.
+     */
+    private void shrinkIfSparse() {
+        if (autoShrink && size < array.length >> 2 && array.length > initialCapacity) {
+            array = Arrays.copyOf(array, Math.max(array.length >> 1, initialCapacity));
+        }
     }
 
     /**
@@ -155,6 +293,28 @@ public class ArrayList<T> extends AbstractList<T> {
         return new MyIterator();
     }
 
+    /**
+     * Initialize the list iterator before the element by index.
+     *
+     * @param index the index
+     * @return the MyListIterator instance
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        validateIndexOnAdd(index);
+        return new MyListIterator(index);
+    }
+
+    /**
+     * Initialize the spliterator, it splits the index range in halves.
+     *
+     * @return the ArraySpliterator instance
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator<>(array, 0, size);
+    }
+
     /**
      * The type MyIterator.
      */
@@ -198,4 +358,226 @@ public class ArrayList<T> extends AbstractList<T> {
             canRemove = false;
         }
     }
+
+    /**
+     * The type MyListIterator, the cursor works with the array directly.
+     */
+    public class MyListIterator implements ListIterator<T> {
+        private int cursor;
+        private int lastIndex = -1;
+
+        private MyListIterator(int index) {
+            this.cursor = index;
+        }
+
+        /**
+         * The method checks if collection has one more element after the cursor.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        /**
+         * The method returns the element after the cursor and moves the cursor forward.
+         *
+         * @return the data type
+         */
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastIndex = cursor++;
+            return array[lastIndex];
+        }
+
+        /**
+         * The method checks if collection has one more element before the cursor.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        /**
+         * The method returns the element before the cursor and moves the cursor backward.
+         *
+         * @return the data type
+         */
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastIndex = --cursor;
+            return array[lastIndex];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        /**
+         * The method removes the element returned by the last next() or previous().
+         */
+        @Override
+        public void remove() {
+            if (lastIndex < 0) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            System.arraycopy(array, lastIndex + 1, array, lastIndex, size - lastIndex - 1);
+            array[--size] = null;
+            cursor = lastIndex;
+            lastIndex = -1;
+            shrinkIfSparse();
+        }
+
+        /**
+         * The method replaces the element returned by the last next() or previous().
+         *
+         * @param data the data
+         */
+        @Override
+        public void set(T data) {
+            if (lastIndex < 0) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called set() previously next() wasn't called");
+            }
+            array[lastIndex] = data;
+        }
+
+        /**
+         * The method inserts the element before the cursor.
+         *
+         * @param data the data
+         */
+        @Override
+        public void add(T data) {
+            if (size == array.length) {
+                expandArray();
+            }
+            System.arraycopy(array, cursor, array, cursor + 1, size - cursor);
+            array[cursor++] = data;
+            size++;
+            lastIndex = -1;
+        }
+    }
+
+    /**
+     * The type ArraySpliterator, it traverses the index range of the array captured at creation.
+     *
+     * @param <T> the data type
+     */
+    private static final class ArraySpliterator<T> implements Spliterator<T> {
+        private final T[] array;
+        private int index;
+        private final int fence;
+
+        private ArraySpliterator(T[] array, int index, int fence) {
+            this.array = array;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        /**
+         * Gives away the first half of the remaining range.
+         *
+         * @return the spliterator or null if the range can't be split
+         */
+        @Override
+        public Spliterator<T> trySplit() {
+            int from = index;
+            int middle = (from + fence) >>> 1;
+            if (from >= middle) {
+                return null;
+            }
+            index = middle;
+            return new ArraySpliterator<>(array, from, middle);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(array[index++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            T[] elements = array;
+            int to = fence;
+            for (int i = index; i < to; i++) {
+                action.accept(elements[i]);
+            }
+            index = to;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
+    /**
+     * The type GrowthPolicy, it gives the new capacity of a full array.
+     */
+    public enum GrowthPolicy {
+        /**
+         * Grows by half: more reallocations than DOUBLE, but at most a third of the array is unused.
+         */
+        ONE_AND_HALF {
+            @Override
+            int grow(int capacity) {
+                return capacity + (capacity >> 1);
+            }
+        },
+        /**
+         * Doubles the array: the fewest reallocations, up to half of the array is unused.
+         */
+        DOUBLE {
+            @Override
+            int grow(int capacity) {
+                return capacity * 2;
+            }
+        },
+        /**
+         * Doubles the array up to CHUNK elements, then adds CHUNK elements at a time, so a very large list
+         * wastes at most one chunk. Every growth copies the whole array, so filling it costs more copying
+         * than DOUBLE unless the size is reserved by ensureCapacity().
+         */
+        CHUNKED {
+            @Override
+            int grow(int capacity) {
+                return capacity < CHUNK ? capacity * 2 : capacity + CHUNK;
+            }
+        };
+
+        private static final int CHUNK = 1 << 20;
+
+        /**
+         * Returns the new capacity, it may overflow for huge arrays or stay the same for tiny ones,
+         * the caller corrects it.
+         *
+         * @param capacity the current capacity
+         * @return the int value
+         */
+        abstract int grow(int capacity);
+    }
 }
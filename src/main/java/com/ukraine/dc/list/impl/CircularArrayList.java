@@ -0,0 +1,275 @@
+package com.ukraine.dc.list.impl;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The ArrayList over a circular buffer: the first element may lie anywhere in the array and the elements wrap
+ * around its end. Add and remove at either end are amortized O(1), so the list works as a FIFO queue.
+ * An insert or remove in the middle shifts the elements on the side of the nearer end, which is at most
+ * half of the list. The capacity is a power of two, so the position of an element is found by a mask.
+ *
+ * @param <T> the data type
+ */
+public class CircularArrayList<T> extends AbstractList<T> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private T[] array;
+    private int head;
+
+    /**
+     * Initialize CircularArrayList with default capacity.
+     */
+    public CircularArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Initialize CircularArrayList with custom capacity, it is rounded up to a power of two.
+     *
+     * @param capacity the capacity
+     */
+    @SuppressWarnings("unchecked")
+    public CircularArrayList(int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Incorrect capacity: " + capacity);
+        }
+        int length = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        array = (T[]) new Object[length];
+    }
+
+    /**
+     * Enrich collection via adding data by index into the collection.
+     *
+     * @param data  the data
+     * @param index the index
+     */
+    @Override
+    public void add(T data, int index) {
+        validateIndexOnAdd(index);
+        if (size == array.length) {
+            expandArray();
+        }
+        int mask = array.length - 1;
+        if (index < size - index) {
+            // the elements before the index move one step to the left
+            int newHead = (head - 1) & mask;
+            moveForward(head, newHead, index);
+            head = newHead;
+        } else {
+            int position = (head + index) & mask;
+            moveBackward(position, (position + 1) & mask, size - index);
+        }
+        array[(head + index) & mask] = data;
+        size++;
+    }
+
+    /**
+     * The method removes data by its index and returns the previous value.
+     *
+     * @param index the index
+     * @return the data type
+     */
+    @Override
+    public T remove(int index) {
+        validateIndex(index);
+        int mask = array.length - 1;
+        int position = (head + index) & mask;
+        T prevValue = array[position];
+        if (index < size - index - 1) {
+            // the elements before the index move one step to the right
+            moveBackward(head, (head + 1) & mask, index);
+            array[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            moveForward((position + 1) & mask, position, size - index - 1);
+            array[(head + size - 1) & mask] = null;
+        }
+        size--;
+        return prevValue;
+    }
+
+    /**
+     * Gets the data by its id.
+     *
+     * @param index the index
+     * @return the datatype
+     */
+    @Override
+    public T get(int index) {
+        validateIndex(index);
+        return array[(head + index) & (array.length - 1)];
+    }
+
+    /**
+     * Sets the new value by index and return the previous one.
+     *
+     * @param data  the data
+     * @param index the index
+     * @return the data type
+     */
+    @Override
+    public T set(T data, int index) {
+        validateIndex(index);
+        int position = (head + index) & (array.length - 1);
+        T prevValue = array[position];
+        array[position] = data;
+        return prevValue;
+    }
+
+    /**
+     * The method clear the whole collection, the capacity is kept.
+     */
+    @Override
+    public void clear() {
+        int mask = array.length - 1;
+        for (int i = 0; i < size; i++) {
+            array[(head + i) & mask] = null;
+        }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * The method try to find the data from the beginning of the collection.
+     *
+     * @param data the data
+     * @return the index of data
+     */
+    @Override
+    public int indexOf(T data) {
+        int mask = array.length - 1;
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(data, array[(head + i) & mask])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The method try to find the data from the end of the collection.
+     *
+     * @param data the data
+     * @return the index of data
+     */
+    @Override
+    public int lastIndexOf(T data) {
+        int mask = array.length - 1;
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(data, array[(head + i) & mask])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Doubles the array, the elements are unwrapped to its beginning.
+     */
+    @SuppressWarnings("unchecked")
+    private void expandArray() {
+        if (array.length == MAX_CAPACITY) {
+            throw new IllegalStateException("The list reached its maximum capacity " + size);
+        }
+        T[] newArray = (T[]) new Object[array.length * 2];
+        int firstPart = Math.min(size, array.length - head);
+        System.arraycopy(array, head, newArray, 0, firstPart);
+        System.arraycopy(array, 0, newArray, firstPart, size - firstPart);
+        array = newArray;
+        head = 0;
+    }
+
+    /**
+     * Copies count elements of the ring from the position from to the position to, starting with the first one.
+     * Used when the target lies before the source, so an element is read before it is overwritten.
+     *
+     * @param from  the source position
+     * @param to    the target position
+     * @param count the number of elements
+     */
+    private void moveForward(int from, int to, int count) {
+        int length = array.length;
+        while (count > 0) {
+            int chunk = Math.min(count, Math.min(length - from, length - to));
+            System.arraycopy(array, from, array, to, chunk);
+            from = (from + chunk) & (length - 1);
+            to = (to + chunk) & (length - 1);
+            count -= chunk;
+        }
+    }
+
+    /**
+     * Copies count elements of the ring from the position from to the position to, starting with the last one.
+     * Used when the target lies after the source, so an element is read before it is overwritten.
+     *
+     * @param from  the source position
+     * @param to    the target position
+     * @param count the number of elements
+     */
+    private void moveBackward(int from, int to, int count) {
+        int mask = array.length - 1;
+        while (count > 0) {
+            int fromLast = (from + count - 1) & mask;
+            int toLast = (to + count - 1) & mask;
+            int chunk = Math.min(count, Math.min(fromLast, toLast) + 1);
+            System.arraycopy(array, fromLast - chunk + 1, array, toLast - chunk + 1, chunk);
+            count -= chunk;
+        }
+    }
+
+    /**
+     * Initialize iterator.
+     *
+     * @return the MyIterator instance
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new MyIterator();
+    }
+
+    /**
+     * The type MyIterator.
+     */
+    public class MyIterator implements Iterator<T> {
+        private int index;
+        private boolean canRemove;
+
+        /**
+         * The method checks if collection has one more element.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        /**
+         * The method based on hasNext method result returns data.
+         *
+         * @return the data type
+         */
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            canRemove = true;
+            return array[(head + index++) & (array.length - 1)];
+        }
+
+        /**
+         * The method based on hasNext() and next() methods removes data.
+         */
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            CircularArrayList.this.remove(--index);
+            canRemove = false;
+        }
+    }
+}
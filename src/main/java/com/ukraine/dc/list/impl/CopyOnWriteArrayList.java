@@ -0,0 +1,478 @@
+package com.ukraine.dc.list.impl;
+
+import com.ukraine.dc.list.List;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.StringJoiner;
+import java.util.function.Predicate;
+
+/**
+ * The copy-on-write ArrayList for read-mostly data shared between threads. The elements are kept in an array
+ * which is never changed once published through a volatile field: every write copies the array under a lock
+ * and publishes the copy, a bulk write copies it once. Reads take no lock, an iterator walks the snapshot
+ * taken at its creation and never sees a concurrent change.
+ * It implements List directly, as every read works on one snapshot of the array instead of the size field
+ * of AbstractList.
+ *
+ * @param <T> the data type
+ */
+public class CopyOnWriteArrayList<T> implements List<T> {
+    private static final Object[] EMPTY = new Object[0];
+    private final Object lock = new Object();
+    private volatile Object[] array = EMPTY;
+
+    /**
+     * Add element to the end of the list.
+     *
+     * @param value the value
+     */
+    @Override
+    public void add(T value) {
+        synchronized (lock) {
+            Object[] elements = array;
+            Object[] newElements = Arrays.copyOf(elements, elements.length + 1);
+            newElements[elements.length] = value;
+            array = newElements;
+        }
+    }
+
+    /**
+     * Enrich collection via adding data by index into the collection.
+     *
+     * @param value the value
+     * @param index the index
+     */
+    @Override
+    public void add(T value, int index) {
+        synchronized (lock) {
+            Object[] elements = array;
+            validateIndexOnAdd(index, elements.length);
+            Object[] newElements = new Object[elements.length + 1];
+            System.arraycopy(elements, 0, newElements, 0, index);
+            newElements[index] = value;
+            System.arraycopy(elements, index, newElements, index + 1, elements.length - index);
+            array = newElements;
+        }
+    }
+
+    /**
+     * The method removes data by its index and returns the previous value.
+     *
+     * @param index the index
+     * @return the data type
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        synchronized (lock) {
+            Object[] elements = array;
+            validateIndex(index, elements.length);
+            T prevValue = (T) elements[index];
+            array = copyWithout(elements, index);
+            return prevValue;
+        }
+    }
+
+    /**
+     * Gets the data by its id, without locking.
+     *
+     * @param index the index
+     * @return the datatype
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Object[] elements = array;
+        validateIndex(index, elements.length);
+        return (T) elements[index];
+    }
+
+    /**
+     * Sets the new value by index and return the previous one.
+     *
+     * @param value the value
+     * @param index the index
+     * @return the data type
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(T value, int index) {
+        synchronized (lock) {
+            Object[] elements = array;
+            validateIndex(index, elements.length);
+            T prevValue = (T) elements[index];
+            Object[] newElements = elements.clone();
+            newElements[index] = value;
+            array = newElements;
+            return prevValue;
+        }
+    }
+
+    /**
+     * Add all values to the end of the list with one copy of the array.
+     *
+     * @param values the values
+     */
+    @Override
+    public void addAll(List<? extends T> values) {
+        synchronized (lock) {
+            addAll(values, array.length);
+        }
+    }
+
+    /**
+     * Add all values by index with one copy of the array. The list may be added to itself.
+     *
+     * @param values the values
+     * @param index  the index of the first value
+     */
+    @Override
+    public void addAll(List<? extends T> values, int index) {
+        Object[] source = toArray(values);
+        synchronized (lock) {
+            Object[] elements = array;
+            validateIndexOnAdd(index, elements.length);
+            if (source.length == 0) {
+                return;
+            }
+            Object[] newElements = new Object[elements.length + source.length];
+            System.arraycopy(elements, 0, newElements, 0, index);
+            System.arraycopy(source, 0, newElements, index, source.length);
+            System.arraycopy(elements, index, newElements, index + source.length, elements.length - index);
+            array = newElements;
+        }
+    }
+
+    /**
+     * Removes all elements matching the filter with one copy of the array.
+     * If the filter throws, the matching elements found so far are removed and the unchecked ones are kept.
+     *
+     * @param filter the filter
+     * @return true if any element was removed
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        synchronized (lock) {
+            Object[] elements = array;
+            Object[] kept = new Object[elements.length];
+            int keptCount = 0;
+            int read = 0;
+            try {
+                for (; read < elements.length; read++) {
+                    if (!filter.test((T) elements[read])) {
+                        kept[keptCount++] = elements[read];
+                    }
+                }
+            } finally {
+                int rest = elements.length - read;
+                if (keptCount + rest != elements.length) {
+                    System.arraycopy(elements, read, kept, keptCount, rest);
+                    array = Arrays.copyOf(kept, keptCount + rest);
+                }
+            }
+            return array != elements;
+        }
+    }
+
+    /**
+     * Removes all elements contained in values.
+     *
+     * @param values the values
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeAll(List<? super T> values) {
+        return removeIf(values::contains);
+    }
+
+    /**
+     * Removes all elements not contained in values.
+     *
+     * @param values the values
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean retainAll(List<? super T> values) {
+        return removeIf(value -> !values.contains(value));
+    }
+
+    /**
+     * The method clear the whole collection.
+     */
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            array = EMPTY;
+        }
+    }
+
+    /**
+     * The method returns collection actual size.
+     *
+     * @return the data type
+     */
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    /**
+     * The method checks if collection is empty or no, returns boolean value.
+     *
+     * @return the boolean value
+     */
+    @Override
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    /**
+     * Check if collection contains such data inside or not.
+     *
+     * @param value the searchingData
+     * @return the status reflected in boolean value
+     */
+    @Override
+    public boolean contains(T value) {
+        return indexOf(value) != -1;
+    }
+
+    /**
+     * The method try to find the data from the beginning of the collection.
+     *
+     * @param value the data
+     * @return the index of data
+     */
+    @Override
+    public int indexOf(T value) {
+        Object[] elements = array;
+        for (int i = 0; i < elements.length; i++) {
+            if (Objects.equals(value, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The method try to find the data from the end of the collection.
+     *
+     * @param value the data
+     * @return the index of data
+     */
+    @Override
+    public int lastIndexOf(T value) {
+        Object[] elements = array;
+        for (int i = elements.length - 1; i >= 0; i--) {
+            if (Objects.equals(value, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Display list in a simple string.
+     *
+     * @return the String value
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Object item : array) {
+            joiner.add(String.valueOf(item));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Initialize the iterator over the current snapshot.
+     *
+     * @return the MyIterator instance
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new MyIterator(array, 0);
+    }
+
+    /**
+     * Initialize the read-only list iterator over the current snapshot.
+     *
+     * @return the MyIterator instance
+     */
+    @Override
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Initialize the read-only list iterator over the current snapshot before the element by index.
+     *
+     * @param index the index
+     * @return the MyIterator instance
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        Object[] elements = array;
+        validateIndexOnAdd(index, elements.length);
+        return new MyIterator(elements, index);
+    }
+
+    /**
+     * Initialize the spliterator over the current snapshot, it never changes.
+     *
+     * @return the Spliterator instance
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(array, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    private static Object[] copyWithout(Object[] elements, int index) {
+        Object[] newElements = new Object[elements.length - 1];
+        System.arraycopy(elements, 0, newElements, 0, index);
+        System.arraycopy(elements, index + 1, newElements, index, elements.length - index - 1);
+        return newElements;
+    }
+
+    private static Object[] toArray(List<?> values) {
+        if (values instanceof CopyOnWriteArrayList) {
+            return ((CopyOnWriteArrayList<?>) values).array;
+        }
+        Object[] copy = new Object[values.size()];
+        int i = 0;
+        for (Object value : values) {
+            copy[i++] = value;
+        }
+        return copy;
+    }
+
+    private static void validateIndexOnAdd(int index, int size) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Incorrect index, it should be from 0 to " + size);
+        }
+    }
+
+    private static void validateIndex(int index, int size) {
+        int maxIndex = size - 1;
+        if (index < 0 || index > maxIndex) {
+            throw new IndexOutOfBoundsException("Incorrect index, it should be from 0 to " + maxIndex);
+        }
+    }
+
+    /**
+     * The type MyIterator, it walks the snapshot taken at its creation. remove() removes the element
+     * last returned from the list, add() and set() are not supported.
+     */
+    public class MyIterator implements ListIterator<T> {
+        private final Object[] snapshot;
+        private int cursor;
+        private int lastIndex = -1;
+        private int removed;
+
+        private MyIterator(Object[] snapshot, int cursor) {
+            this.snapshot = snapshot;
+            this.cursor = cursor;
+        }
+
+        /**
+         * The method checks if collection has one more element.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean hasNext() {
+            return cursor < snapshot.length;
+        }
+
+        /**
+         * The method based on hasNext method result returns data.
+         *
+         * @return the data type
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastIndex = cursor;
+            return (T) snapshot[cursor++];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastIndex = --cursor;
+            return (T) snapshot[cursor];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        /**
+         * Removes the element last returned by next() or previous() from the list. The element is looked up by identity,
+         * first at the position it should have now, so the changes made by other threads are respected.
+         */
+        @Override
+        public void remove() {
+            if (lastIndex == -1) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            Object element = snapshot[lastIndex];
+            synchronized (lock) {
+                Object[] elements = array;
+                int index = lastIndex - removed;
+                if (index < 0 || index >= elements.length || elements[index] != element) {
+                    index = -1;
+                    for (int i = 0; i < elements.length; i++) {
+                        if (elements[i] == element) {
+                            index = i;
+                            break;
+                        }
+                    }
+                }
+                if (index != -1) {
+                    array = copyWithout(elements, index);
+                    // only the element returned by next() was before the cursor and shifts the next ones
+                    if (lastIndex < cursor) {
+                        removed++;
+                    }
+                }
+            }
+            lastIndex = -1;
+        }
+
+        @Override
+        public void set(T value) {
+            throw new UnsupportedOperationException("The snapshot iterator is read-only, use set() of the list");
+        }
+
+        @Override
+        public void add(T value) {
+            throw new UnsupportedOperationException("The snapshot iterator is read-only, use add() of the list");
+        }
+    }
+}
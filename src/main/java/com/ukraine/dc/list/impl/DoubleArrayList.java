@@ -0,0 +1,261 @@
+package com.ukraine.dc.list.impl;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.DoubleConsumer;
+
+/**
+ * The ArrayList specialized for double values.
+ * Elements are stored in double[], the primitive methods (addDouble, getDouble, forEachDouble, ...) never box,
+ * the methods of the List interface box and unbox on the way. Null elements are not supported.
+ * Values are compared like Double.equals() does: NaN is found by indexOf, 0.0 and -0.0 are different values.
+ */
+public class DoubleArrayList extends AbstractList<Double> {
+    private static final int INITIAL_CAPACITY = 5;
+    private double[] array;
+
+    /**
+     * Initialize DoubleArrayList with default capacity.
+     */
+    public DoubleArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Initialize DoubleArrayList with custom capacity.
+     *
+     * @param capacity the capacity
+     */
+    public DoubleArrayList(int capacity) {
+        array = new double[capacity];
+    }
+
+    /**
+     * Add value to the end of the list.
+     *
+     * @param value the value
+     */
+    public void addDouble(double value) {
+        addDouble(value, size);
+    }
+
+    /**
+     * Add value by index into the list.
+     *
+     * @param value the value
+     * @param index the index
+     */
+    public void addDouble(double value, int index) {
+        validateIndexOnAdd(index);
+        if (size == array.length) {
+            expandArray();
+        }
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+    }
+
+    /**
+     * The method removes value by its index and returns it.
+     *
+     * @param index the index
+     * @return the removed value
+     */
+    public double removeDouble(int index) {
+        validateIndex(index);
+        double prevValue = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return prevValue;
+    }
+
+    /**
+     * Gets the value by its index.
+     *
+     * @param index the index
+     * @return the value
+     */
+    public double getDouble(int index) {
+        validateIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Sets the new value by index and return the previous one.
+     *
+     * @param value the value
+     * @param index the index
+     * @return the previous value
+     */
+    public double setDouble(double value, int index) {
+        validateIndex(index);
+        double prevValue = array[index];
+        array[index] = value;
+        return prevValue;
+    }
+
+    /**
+     * Finds the first occurrence of the value.
+     *
+     * @param value the value
+     * @return the index of value or -1
+     */
+    public int indexOfDouble(double value) {
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(array[i]) == Double.doubleToLongBits(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the last occurrence of the value.
+     *
+     * @param value the value
+     * @return the index of value or -1
+     */
+    public int lastIndexOfDouble(double value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Double.doubleToLongBits(array[i]) == Double.doubleToLongBits(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if list contains the value.
+     *
+     * @param value the value
+     * @return the boolean value
+     */
+    public boolean containsDouble(double value) {
+        return indexOfDouble(value) != -1;
+    }
+
+    /**
+     * Performs the action for each value in order, without boxing.
+     *
+     * @param action the action
+     */
+    public void forEachDouble(DoubleConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(array[i]);
+        }
+    }
+
+    /**
+     * Copies values to a new array.
+     *
+     * @return the array of values
+     */
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public void add(Double value, int index) {
+        addDouble(value, index);
+    }
+
+    @Override
+    public Double remove(int index) {
+        return removeDouble(index);
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public Double set(Double value, int index) {
+        return setDouble(value, index);
+    }
+
+    /**
+     * The method clears the list, the allocated array is kept.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public int indexOf(Double value) {
+        return value == null ? -1 : indexOfDouble(value);
+    }
+
+    @Override
+    public int lastIndexOf(Double value) {
+        return value == null ? -1 : lastIndexOfDouble(value);
+    }
+
+    private void expandArray() {
+        int newCapacity = Math.max(array.length * 2, INITIAL_CAPACITY);
+        array = Arrays.copyOf(array, newCapacity);
+    }
+
+    /**
+     * Trim the capacity of the list.
+     */
+    public void trimToSize() {
+        array = Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Initialize iterator, it boxes every value. Use forEachDouble() to avoid that.
+     *
+     * @return the MyIterator instance
+     */
+    @Override
+    public Iterator<Double> iterator() {
+        return new MyIterator();
+    }
+
+    /**
+     * The type MyIterator.
+     */
+    public class MyIterator implements Iterator<Double> {
+        private int index;
+        private boolean canRemove;
+
+        /**
+         * The method checks if collection has one more element.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        /**
+         * The method based on hasNext method result returns data.
+         *
+         * @return the data type
+         */
+        @Override
+        public Double next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            canRemove = true;
+            return array[index++];
+        }
+
+        /**
+         * The method based on hasNext() and next() methods removes data.
+         */
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            DoubleArrayList.this.removeDouble(--index);
+            canRemove = false;
+        }
+    }
+}
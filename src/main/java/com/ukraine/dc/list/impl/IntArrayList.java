@@ -0,0 +1,260 @@
+package com.ukraine.dc.list.impl;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+
+/**
+ * The ArrayList specialized for int values.
+ * Elements are stored in int[], the primitive methods (addInt, getInt, forEachInt, ...) never box,
+ * the methods of the List interface box and unbox on the way. Null elements are not supported.
+ */
+public class IntArrayList extends AbstractList<Integer> {
+    private static final int INITIAL_CAPACITY = 5;
+    private int[] array;
+
+    /**
+     * Initialize IntArrayList with default capacity.
+     */
+    public IntArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Initialize IntArrayList with custom capacity.
+     *
+     * @param capacity the capacity
+     */
+    public IntArrayList(int capacity) {
+        array = new int[capacity];
+    }
+
+    /**
+     * Add value to the end of the list.
+     *
+     * @param value the value
+     */
+    public void addInt(int value) {
+        addInt(value, size);
+    }
+
+    /**
+     * Add value by index into the list.
+     *
+     * @param value the value
+     * @param index the index
+     */
+    public void addInt(int value, int index) {
+        validateIndexOnAdd(index);
+        if (size == array.length) {
+            expandArray();
+        }
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+    }
+
+    /**
+     * The method removes value by its index and returns it.
+     *
+     * @param index the index
+     * @return the removed value
+     */
+    public int removeInt(int index) {
+        validateIndex(index);
+        int prevValue = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return prevValue;
+    }
+
+    /**
+     * Gets the value by its index.
+     *
+     * @param index the index
+     * @return the value
+     */
+    public int getInt(int index) {
+        validateIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Sets the new value by index and return the previous one.
+     *
+     * @param value the value
+     * @param index the index
+     * @return the previous value
+     */
+    public int setInt(int value, int index) {
+        validateIndex(index);
+        int prevValue = array[index];
+        array[index] = value;
+        return prevValue;
+    }
+
+    /**
+     * Finds the first occurrence of the value.
+     *
+     * @param value the value
+     * @return the index of value or -1
+     */
+    public int indexOfInt(int value) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the last occurrence of the value.
+     *
+     * @param value the value
+     * @return the index of value or -1
+     */
+    public int lastIndexOfInt(int value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if list contains the value.
+     *
+     * @param value the value
+     * @return the boolean value
+     */
+    public boolean containsInt(int value) {
+        return indexOfInt(value) != -1;
+    }
+
+    /**
+     * Performs the action for each value in order, without boxing.
+     *
+     * @param action the action
+     */
+    public void forEachInt(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(array[i]);
+        }
+    }
+
+    /**
+     * Copies values to a new array.
+     *
+     * @return the array of values
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public void add(Integer value, int index) {
+        addInt(value, index);
+    }
+
+    @Override
+    public Integer remove(int index) {
+        return removeInt(index);
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public Integer set(Integer value, int index) {
+        return setInt(value, index);
+    }
+
+    /**
+     * The method clears the list, the allocated array is kept.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public int indexOf(Integer value) {
+        return value == null ? -1 : indexOfInt(value);
+    }
+
+    @Override
+    public int lastIndexOf(Integer value) {
+        return value == null ? -1 : lastIndexOfInt(value);
+    }
+
+    private void expandArray() {
+        int newCapacity = Math.max(array.length * 2, INITIAL_CAPACITY);
+        array = Arrays.copyOf(array, newCapacity);
+    }
+
+    /**
+     * Trim the capacity of the list.
+     */
+    public void trimToSize() {
+        array = Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Initialize iterator, it boxes every value. Use forEachInt() to avoid that.
+     *
+     * @return the MyIterator instance
+     */
+    @Override
+    public Iterator<Integer> iterator() {
+        return new MyIterator();
+    }
+
+    /**
+     * The type MyIterator.
+     */
+    public class MyIterator implements Iterator<Integer> {
+        private int index;
+        private boolean canRemove;
+
+        /**
+         * The method checks if collection has one more element.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        /**
+         * The method based on hasNext method result returns data.
+         *
+         * @return the data type
+         */
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            canRemove = true;
+            return array[index++];
+        }
+
+        /**
+         * The method based on hasNext() and next() methods removes data.
+         */
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            IntArrayList.this.removeInt(--index);
+            canRemove = false;
+        }
+    }
+}
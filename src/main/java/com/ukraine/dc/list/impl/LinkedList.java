@@ -1,17 +1,31 @@
 package com.ukraine.dc.list.impl;
 
+import com.ukraine.dc.list.List;
+
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * The LinkedList implementation.
+ * The list remembers the last accessed node with its index, the finger, and walks to the requested index
+ * from the nearest of the head, the tail and the finger. So sequential and near-sequential indexed access
+ * costs amortized O(1) per call.
  *
  * @param <T> the data type
  */
 public class LinkedList<T> extends AbstractList<T> {
+    private static final int SPLIT_BATCH = 1024;
+    private static final int MAX_SPLIT_BATCH = 1 << 25;
     private Node<T> head;
     private Node<T> tail;
+    private Node<T> finger;
+    private int fingerIndex;
 
     /**
      * The method stands for adding data by index.
@@ -22,24 +36,73 @@ public class LinkedList<T> extends AbstractList<T> {
     @Override
     public void add(T data, int index) {
         validateIndexOnAdd(index);
-        Node<T> value = new Node<>(data);
-        if (isEmpty()) {
-            head = tail = value;
-        } else if (index == 0) {
-            head.prev = value;
-            value.next = head;
-            head = value;
-        } else if (index == size) {
-            tail.next = value;
-            value.prev = tail;
-            tail = value;
+        linkBefore(data, index == size ? null : getNode(index), index);
+    }
+
+    /**
+     * Add all values by index. The new nodes are chained first and linked in at once,
+     * so the list may be added to itself.
+     *
+     * @param values the values
+     * @param index  the index of the first value
+     */
+    @Override
+    public void addAll(List<? extends T> values, int index) {
+        validateIndexOnAdd(index);
+        Node<T> first = null;
+        Node<T> last = null;
+        int count = 0;
+        for (T value : values) {
+            Node<T> node = new Node<>(value);
+            if (first == null) {
+                first = node;
+            } else {
+                last.next = node;
+                node.prev = last;
+            }
+            last = node;
+            count++;
+        }
+        if (count == 0) {
+            return;
+        }
+        Node<T> successor = index == size ? null : getNode(index);
+        Node<T> predecessor = successor == null ? tail : successor.prev;
+        first.prev = predecessor;
+        last.next = successor;
+        if (predecessor == null) {
+            head = first;
         } else {
-            Node<T> dataByIndex = getNode(index);
-            dataByIndex.prev.next = value;
-            value.next = dataByIndex;
-            dataByIndex.prev = value;
+            predecessor.next = first;
         }
-        size++;
+        if (successor == null) {
+            tail = last;
+        } else {
+            successor.prev = last;
+        }
+        size += count;
+        finger = first;
+        fingerIndex = index;
+    }
+
+    /**
+     * Removes all elements matching the filter in a single traversal.
+     *
+     * @param filter the filter
+     * @return true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        int oldSize = size;
+        int index = 0;
+        for (Node<T> node = head; node != null; node = node.next) {
+            if (filter.test(node.value)) {
+                unlink(node, index);
+            } else {
+                index++;
+            }
+        }
+        return size != oldSize;
     }
 
     /**
@@ -52,21 +115,8 @@ public class LinkedList<T> extends AbstractList<T> {
     public T remove(int index) {
         validateIndex(index);
         Node<T> oldValue = getNode(index);
-        T res = oldValue.value;
-        if (size == 1) {
-            head = tail = null;
-        } else if (index == size - 1) {
-            tail.prev.next = null;
-            tail = tail.prev;
-        } else if (index == 0) {
-            head.next.prev = null;
-            head = head.next;
-        } else {
-            oldValue.prev.next = oldValue.next;
-            oldValue.next.prev = oldValue.prev;
-        }
-        size--;
-        return res;
+        unlink(oldValue, index);
+        return oldValue.value;
     }
 
     /**
@@ -103,6 +153,7 @@ public class LinkedList<T> extends AbstractList<T> {
     public void clear() {
         head = null;
         tail = null;
+        finger = null;
         size = 0;
     }
 
@@ -142,9 +193,70 @@ public class LinkedList<T> extends AbstractList<T> {
         return -1;
     }
 
+    /**
+     * Inserts the data before the node, the new node becomes the finger.
+     *
+     * @param data      the data
+     * @param successor the node, null to insert at the end
+     * @param index     the index of the new node
+     */
+    private void linkBefore(T data, Node<T> successor, int index) {
+        Node<T> value = new Node<>(data);
+        Node<T> predecessor = successor == null ? tail : successor.prev;
+        value.prev = predecessor;
+        value.next = successor;
+        if (predecessor == null) {
+            head = value;
+        } else {
+            predecessor.next = value;
+        }
+        if (successor == null) {
+            tail = value;
+        } else {
+            successor.prev = value;
+        }
+        size++;
+        finger = value;
+        fingerIndex = index;
+    }
+
+    /**
+     * Unlinks the node, the finger keeps pointing to the same element or moves to the successor of the node.
+     *
+     * @param node  the node
+     * @param index the index of the node
+     */
+    private void unlink(Node<T> node, int index) {
+        if (finger == node) {
+            finger = node.next;
+        } else if (finger != null && fingerIndex > index) {
+            fingerIndex--;
+        }
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        size--;
+    }
+
     private Node<T> getNode(int index) {
         Node<T> node;
-        if (index < size / 2) {
+        int distanceToFinger = finger == null ? Integer.MAX_VALUE : Math.abs(index - fingerIndex);
+        if (distanceToFinger <= index && distanceToFinger < size - index) {
+            node = finger;
+            for (int i = fingerIndex; i < index; i++) {
+                node = node.next;
+            }
+            for (int i = fingerIndex; i > index; i--) {
+                node = node.prev;
+            }
+        } else if (index < size / 2) {
             node = head;
             for (int i = 0; i < index; i++) {
                 node = node.next;
@@ -155,6 +267,8 @@ public class LinkedList<T> extends AbstractList<T> {
                 node = node.prev;
             }
         }
+        finger = node;
+        fingerIndex = index;
         return node;
     }
 
@@ -189,8 +303,7 @@ public class LinkedList<T> extends AbstractList<T> {
     public class MyIterator implements Iterator<T> {
         private Node<T> currentNode = head;
         private Node<T> previous;
-        private Node<T> nodeBeforePrev;
-        private boolean canRemove;
+        private int nextIndex;
 
         /**
          * Checks if collection has next element or not.
@@ -212,12 +325,10 @@ public class LinkedList<T> extends AbstractList<T> {
             if (currentNode == null) {
                 throw new NoSuchElementException("There are no more element in the collection.");
             }
-            T prevValue = currentNode.value;
-            nodeBeforePrev = previous;
             previous = currentNode;
             currentNode = currentNode.next;
-            canRemove = false;
-            return prevValue;
+            nextIndex++;
+            return previous.value;
         }
 
         /**
@@ -225,17 +336,223 @@ public class LinkedList<T> extends AbstractList<T> {
          */
         @Override
         public void remove() {
-            if (previous == null || canRemove) {
+            if (previous == null) {
                 throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
             }
-            if (nodeBeforePrev == null) {
-                head = currentNode;
+            unlink(previous, --nextIndex);
+            previous = null;
+        }
+    }
+
+    /**
+     * Initialize the list iterator before the element by index.
+     *
+     * @param index the index
+     * @return the MyListIterator instance
+     */
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        validateIndexOnAdd(index);
+        return new MyListIterator(index);
+    }
+
+    /**
+     * Initialize the spliterator, it splits off growing batches of elements copied into arrays.
+     *
+     * @return the NodeSpliterator instance
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new NodeSpliterator<>(head, size);
+    }
+
+    /**
+     * The type MyListIterator, the cursor keeps the node after it, so every operation at the cursor is O(1).
+     */
+    public class MyListIterator implements ListIterator<T> {
+        private Node<T> nextNode;
+        private Node<T> lastReturned;
+        private int nextIndex;
+
+        private MyListIterator(int index) {
+            this.nextNode = index == size ? null : getNode(index);
+            this.nextIndex = index;
+        }
+
+        /**
+         * Checks if collection has an element after the cursor.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        /**
+         * Returns the element after the cursor and moves the cursor forward.
+         *
+         * @return the data
+         */
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastReturned = nextNode;
+            nextNode = nextNode.next;
+            nextIndex++;
+            return lastReturned.value;
+        }
+
+        /**
+         * Checks if collection has an element before the cursor.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        /**
+         * Returns the element before the cursor and moves the cursor backward.
+         *
+         * @return the data
+         */
+        @Override
+        public T previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            nextNode = nextNode == null ? tail : nextNode.prev;
+            lastReturned = nextNode;
+            nextIndex--;
+            return lastReturned.value;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        /**
+         * Removes the element returned by the last next() or previous().
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            if (nextNode == lastReturned) {
+                // the element was returned by previous(), the cursor stays before its successor
+                nextNode = lastReturned.next;
             } else {
-                nodeBeforePrev.next = currentNode;
+                nextIndex--;
             }
-            previous = nodeBeforePrev;
-            size--;
-            canRemove = true;
+            unlink(lastReturned, nextIndex);
+            lastReturned = null;
+        }
+
+        /**
+         * Replaces the element returned by the last next() or previous().
+         *
+         * @param data the data
+         */
+        @Override
+        public void set(T data) {
+            if (lastReturned == null) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called set() previously next() wasn't called");
+            }
+            lastReturned.value = data;
+        }
+
+        /**
+         * Inserts the element before the cursor.
+         *
+         * @param data the data
+         */
+        @Override
+        public void add(T data) {
+            linkBefore(data, nextNode, nextIndex);
+            nextIndex++;
+            lastReturned = null;
+        }
+    }
+
+    /**
+     * The type NodeSpliterator. The nodes can only be walked one by one, so a split copies the next batch
+     * of elements into an array, every batch is SPLIT_BATCH elements larger than the previous one.
+     *
+     * @param <T> the data type
+     */
+    private static final class NodeSpliterator<T> implements Spliterator<T> {
+        private Node<T> current;
+        private int remaining;
+        private int batch;
+
+        private NodeSpliterator(Node<T> current, int remaining) {
+            this.current = current;
+            this.remaining = remaining;
+        }
+
+        /**
+         * Gives away the next batch of elements.
+         *
+         * @return the array spliterator or null if at most one element is left
+         */
+        @Override
+        public Spliterator<T> trySplit() {
+            if (remaining <= 1) {
+                return null;
+            }
+            int count = Math.min(Math.min(batch + SPLIT_BATCH, MAX_SPLIT_BATCH), remaining);
+            Object[] elements = new Object[count];
+            for (int i = 0; i < count; i++) {
+                elements[i] = current.value;
+                current = current.next;
+            }
+            batch = count;
+            remaining -= count;
+            return Spliterators.spliterator(elements, 0, count, ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (remaining == 0) {
+                return false;
+            }
+            T value = current.value;
+            current = current.next;
+            remaining--;
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Node<T> node = current;
+            for (int i = remaining; i > 0; i--) {
+                action.accept(node.value);
+                node = node.next;
+            }
+            current = node;
+            remaining = 0;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
         }
     }
 }
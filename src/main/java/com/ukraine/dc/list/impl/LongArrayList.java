@@ -0,0 +1,260 @@
+package com.ukraine.dc.list.impl;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * The ArrayList specialized for long values.
+ * Elements are stored in long[], the primitive methods (addLong, getLong, forEachLong, ...) never box,
+ * the methods of the List interface box and unbox on the way. Null elements are not supported.
+ */
+public class LongArrayList extends AbstractList<Long> {
+    private static final int INITIAL_CAPACITY = 5;
+    private long[] array;
+
+    /**
+     * Initialize LongArrayList with default capacity.
+     */
+    public LongArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Initialize LongArrayList with custom capacity.
+     *
+     * @param capacity the capacity
+     */
+    public LongArrayList(int capacity) {
+        array = new long[capacity];
+    }
+
+    /**
+     * Add value to the end of the list.
+     *
+     * @param value the value
+     */
+    public void addLong(long value) {
+        addLong(value, size);
+    }
+
+    /**
+     * Add value by index into the list.
+     *
+     * @param value the value
+     * @param index the index
+     */
+    public void addLong(long value, int index) {
+        validateIndexOnAdd(index);
+        if (size == array.length) {
+            expandArray();
+        }
+        System.arraycopy(array, index, array, index + 1, size - index);
+        array[index] = value;
+        size++;
+    }
+
+    /**
+     * The method removes value by its index and returns it.
+     *
+     * @param index the index
+     * @return the removed value
+     */
+    public long removeLong(int index) {
+        validateIndex(index);
+        long prevValue = array[index];
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return prevValue;
+    }
+
+    /**
+     * Gets the value by its index.
+     *
+     * @param index the index
+     * @return the value
+     */
+    public long getLong(int index) {
+        validateIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Sets the new value by index and return the previous one.
+     *
+     * @param value the value
+     * @param index the index
+     * @return the previous value
+     */
+    public long setLong(long value, int index) {
+        validateIndex(index);
+        long prevValue = array[index];
+        array[index] = value;
+        return prevValue;
+    }
+
+    /**
+     * Finds the first occurrence of the value.
+     *
+     * @param value the value
+     * @return the index of value or -1
+     */
+    public int indexOfLong(long value) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the last occurrence of the value.
+     *
+     * @param value the value
+     * @return the index of value or -1
+     */
+    public int lastIndexOfLong(long value) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if list contains the value.
+     *
+     * @param value the value
+     * @return the boolean value
+     */
+    public boolean containsLong(long value) {
+        return indexOfLong(value) != -1;
+    }
+
+    /**
+     * Performs the action for each value in order, without boxing.
+     *
+     * @param action the action
+     */
+    public void forEachLong(LongConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(array[i]);
+        }
+    }
+
+    /**
+     * Copies values to a new array.
+     *
+     * @return the array of values
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public void add(Long value, int index) {
+        addLong(value, index);
+    }
+
+    @Override
+    public Long remove(int index) {
+        return removeLong(index);
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public Long set(Long value, int index) {
+        return setLong(value, index);
+    }
+
+    /**
+     * The method clears the list, the allocated array is kept.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public int indexOf(Long value) {
+        return value == null ? -1 : indexOfLong(value);
+    }
+
+    @Override
+    public int lastIndexOf(Long value) {
+        return value == null ? -1 : lastIndexOfLong(value);
+    }
+
+    private void expandArray() {
+        int newCapacity = Math.max(array.length * 2, INITIAL_CAPACITY);
+        array = Arrays.copyOf(array, newCapacity);
+    }
+
+    /**
+     * Trim the capacity of the list.
+     */
+    public void trimToSize() {
+        array = Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Initialize iterator, it boxes every value. Use forEachLong() to avoid that.
+     *
+     * @return the MyIterator instance
+     */
+    @Override
+    public Iterator<Long> iterator() {
+        return new MyIterator();
+    }
+
+    /**
+     * The type MyIterator.
+     */
+    public class MyIterator implements Iterator<Long> {
+        private int index;
+        private boolean canRemove;
+
+        /**
+         * The method checks if collection has one more element.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        /**
+         * The method based on hasNext method result returns data.
+         *
+         * @return the data type
+         */
+        @Override
+        public Long next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            canRemove = true;
+            return array[index++];
+        }
+
+        /**
+         * The method based on hasNext() and next() methods removes data.
+         */
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            LongArrayList.this.removeLong(--index);
+            canRemove = false;
+        }
+    }
+}
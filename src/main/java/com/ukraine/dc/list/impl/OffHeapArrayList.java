@@ -0,0 +1,334 @@
+package com.ukraine.dc.list.impl;
+
+import com.ukraine.dc.offheap.OffHeapLog;
+import com.ukraine.dc.offheap.OffHeapMemory;
+import com.ukraine.dc.offheap.Serializer;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The ArrayList which keeps its elements in direct memory, the heap holds only a small handle.
+ * With a fixed-width serializer the elements are stored inline in the slots buffer, null elements are not supported.
+ * With a variable-width serializer the slots hold addresses of the elements in an {@link OffHeapLog},
+ * which is compacted once the removed and replaced elements take more space than the live ones.
+ * Every read deserializes a new copy of the element. The memory is released by {@link #close()},
+ * the list can't be used afterwards.
+ *
+ * @param <T> the data type
+ */
+public class OffHeapArrayList<T> extends AbstractList<T> implements AutoCloseable {
+    private static final int INITIAL_CAPACITY = 16;
+    private final Serializer<T> serializer;
+    private final OffHeapMemory memory;
+    private final boolean inline;
+    private final int slotSize;
+    private ByteBuffer slots;
+    private OffHeapLog log;
+
+    /**
+     * Initialize OffHeapArrayList with default capacity and without a memory limit.
+     *
+     * @param serializer the serializer
+     */
+    public OffHeapArrayList(Serializer<T> serializer) {
+        this(serializer, INITIAL_CAPACITY, OffHeapMemory.UNBOUNDED);
+    }
+
+    /**
+     * Initialize OffHeapArrayList with custom capacity and memory limit.
+     *
+     * @param serializer the serializer
+     * @param capacity   the capacity
+     * @param maxBytes   the maximum size of the direct memory used by the list
+     */
+    public OffHeapArrayList(Serializer<T> serializer, int capacity, long maxBytes) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Incorrect capacity: " + capacity);
+        }
+        this.serializer = serializer;
+        this.memory = new OffHeapMemory(maxBytes);
+        this.log = new OffHeapLog(memory);
+        this.inline = serializer.fixedSize() != Serializer.VARIABLE_SIZE;
+        this.slotSize = inline ? serializer.fixedSize() : Long.BYTES;
+        this.slots = memory.allocate(Math.multiplyExact(Math.max(capacity, 1), slotSize));
+    }
+
+    /**
+     * Enrich collection via adding data by index into the collection.
+     *
+     * @param data  the data
+     * @param index the index
+     */
+    @Override
+    public void add(T data, int index) {
+        memory.ensureOpen();
+        validateIndexOnAdd(index);
+        if ((size + 1) * (long) slotSize > slots.capacity()) {
+            expandSlots();
+        }
+        long address = store(data);
+        moveSlots(index, index + 1, size - index);
+        writeSlot(data, address, index);
+        size++;
+    }
+
+    /**
+     * The method removes data by its index and returns the previous value.
+     *
+     * @param index the index
+     * @return the data type
+     */
+    @Override
+    public T remove(int index) {
+        memory.ensureOpen();
+        validateIndex(index);
+        T prevValue = readSlot(index);
+        releaseSlot(index);
+        moveSlots(index + 1, index, size - index - 1);
+        size--;
+        compactIfNeeded();
+        return prevValue;
+    }
+
+    /**
+     * Gets the data by its id.
+     *
+     * @param index the index
+     * @return the datatype
+     */
+    @Override
+    public T get(int index) {
+        memory.ensureOpen();
+        validateIndex(index);
+        return readSlot(index);
+    }
+
+    /**
+     * Sets the new value by index and return the previous one.
+     *
+     * @param data  the data
+     * @param index the index
+     * @return the data type
+     */
+    @Override
+    public T set(T data, int index) {
+        memory.ensureOpen();
+        validateIndex(index);
+        long address = store(data);
+        T prevValue = readSlot(index);
+        releaseSlot(index);
+        writeSlot(data, address, index);
+        compactIfNeeded();
+        return prevValue;
+    }
+
+    /**
+     * The method clear the whole collection, the slots buffer is kept.
+     */
+    @Override
+    public void clear() {
+        memory.ensureOpen();
+        size = 0;
+        log.free();
+    }
+
+    /**
+     * The method try to find the data from the beginning of the collection.
+     *
+     * @param data the data
+     * @return the index of data
+     */
+    @Override
+    public int indexOf(T data) {
+        memory.ensureOpen();
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(data, readSlot(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The method try to find the data from the end of the collection.
+     *
+     * @param data the data
+     * @return the index of data
+     */
+    @Override
+    public int lastIndexOf(T data) {
+        memory.ensureOpen();
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(data, readSlot(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of direct memory bytes held by the list.
+     *
+     * @return the long value
+     */
+    public long offHeapBytes() {
+        return memory.allocatedBytes();
+    }
+
+    /**
+     * Releases the direct memory, the list can't be used afterwards.
+     */
+    @Override
+    public void close() {
+        memory.close();
+        slots = null;
+        size = 0;
+    }
+
+    private T readSlot(int index) {
+        int offset = index * slotSize;
+        if (inline) {
+            return serializer.read(slots, offset, slotSize);
+        }
+        return log.read(serializer, slots.getLong(offset));
+    }
+
+    /**
+     * Writes the element to the log before any slot is touched, so a failed allocation leaves the list unchanged.
+     *
+     * @param data the data
+     * @return the address in the log, unused for inline elements
+     */
+    private long store(T data) {
+        if (inline) {
+            if (data == null) {
+                throw new IllegalArgumentException("Null elements are not supported with a fixed-width serializer");
+            }
+            return OffHeapLog.NULL_ADDRESS;
+        }
+        return log.write(serializer, data);
+    }
+
+    private void writeSlot(T data, long address, int index) {
+        int offset = index * slotSize;
+        if (inline) {
+            serializer.write(data, slots, offset);
+        } else {
+            slots.putLong(offset, address);
+        }
+    }
+
+    private void releaseSlot(int index) {
+        if (!inline) {
+            log.release(serializer, slots.getLong(index * slotSize));
+        }
+    }
+
+    private void moveSlots(int from, int to, int count) {
+        if (count == 0) {
+            return;
+        }
+        ByteBuffer source = slots.duplicate();
+        source.limit((from + count) * slotSize).position(from * slotSize);
+        ByteBuffer target = slots.duplicate();
+        target.position(to * slotSize);
+        // the source is copied as if through an intermediate buffer, so the ranges may overlap
+        target.put(source);
+    }
+
+    private void expandSlots() {
+        long newCapacity = Math.max(slots.capacity() * 2L, (long) slotSize);
+        if (newCapacity > Integer.MAX_VALUE) {
+            newCapacity = (long) Integer.MAX_VALUE / slotSize * slotSize;
+            if (newCapacity <= slots.capacity()) {
+                throw new IllegalStateException("The list reached its maximum capacity " + size);
+            }
+        }
+        ByteBuffer newSlots = memory.allocate((int) newCapacity);
+        ByteBuffer source = slots.duplicate();
+        source.limit(size * slotSize).position(0);
+        newSlots.put(source);
+        memory.free(slots);
+        slots = newSlots;
+    }
+
+    private void compactIfNeeded() {
+        if (inline || !log.needsCompaction()) {
+            return;
+        }
+        // the slots keep the old addresses until every element is copied, so a failed copy changes nothing
+        OffHeapLog newLog = new OffHeapLog(memory);
+        long[] addresses = new long[size];
+        try {
+            for (int i = 0; i < size; i++) {
+                addresses[i] = newLog.copy(log, serializer, slots.getLong(i * slotSize));
+            }
+        } catch (IllegalStateException e) {
+            newLog.free();
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            slots.putLong(i * slotSize, addresses[i]);
+        }
+        log.free();
+        log = newLog;
+    }
+
+    /**
+     * Initialize iterator.
+     *
+     * @return the MyIterator instance
+     */
+    @Override
+    public Iterator<T> iterator() {
+        memory.ensureOpen();
+        return new MyIterator();
+    }
+
+    /**
+     * The type MyIterator.
+     */
+    public class MyIterator implements Iterator<T> {
+        private int index;
+        private boolean canRemove;
+
+        /**
+         * The method checks if collection has one more element.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        /**
+         * The method based on hasNext method result returns data.
+         *
+         * @return the data type
+         */
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            canRemove = true;
+            return get(index++);
+        }
+
+        /**
+         * The method based on hasNext() and next() methods removes data.
+         */
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            OffHeapArrayList.this.remove(--index);
+            canRemove = false;
+        }
+    }
+}
@@ -0,0 +1,480 @@
+package com.ukraine.dc.list.impl;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The PersistentVector, an immutable list on a 32-way radix trie. The elements lie in the leaves of 32 elements,
+ * the element by index is found by 5 bits of the index per level, the last elements are kept in a separate
+ * tail array. plus(), with() and withoutLast() return a new vector which copies only the path to the changed
+ * leaf and shares the rest with the old one, so any version can be handed to readers as a snapshot.
+ * A {@link Transient} builds a vector with in-place updates of the nodes it has created, then freezes it in O(1).
+ * The mutating methods of the List interface throw UnsupportedOperationException.
+ *
+ * @param <T> the data type
+ */
+public final class PersistentVector<T> extends AbstractList<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * @param <T> the data type
+     * @return the PersistentVector instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Returns the vector with the value added to the end, this vector stays unchanged.
+     *
+     * @param value the value
+     * @return the new vector
+     */
+    public PersistentVector<T> plus(T value) {
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        int newShift = shift;
+        Node newRoot;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tailNode);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{value});
+    }
+
+    /**
+     * Returns the vector with the value by index replaced, this vector stays unchanged.
+     *
+     * @param value the value
+     * @param index the index
+     * @return the new vector
+     */
+    public PersistentVector<T> with(T value, int index) {
+        validateIndex(index);
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = value;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, assoc(null, shift, root, index, value), tail);
+    }
+
+    /**
+     * Returns the vector without the last element, this vector stays unchanged.
+     *
+     * @return the new vector
+     */
+    public PersistentVector<T> withoutLast() {
+        validateIndex(size - 1);
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset(size) > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = leafFor(size - 2);
+        Node newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Returns the transient copy of this vector, it is created in O(1).
+     *
+     * @return the Transient instance
+     */
+    public Transient<T> asTransient() {
+        return new Transient<>(this);
+    }
+
+    /**
+     * Gets the data by its id.
+     *
+     * @param index the index
+     * @return the datatype
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        validateIndex(index);
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Not supported, the vector is immutable.
+     *
+     * @param data  the data
+     * @param index the index
+     */
+    @Override
+    public void add(T data, int index) {
+        throw new UnsupportedOperationException("The persistent vector is immutable, use plus() instead");
+    }
+
+    /**
+     * Not supported, the vector is immutable.
+     *
+     * @param index the index
+     * @return nothing
+     */
+    @Override
+    public T remove(int index) {
+        throw new UnsupportedOperationException("The persistent vector is immutable, use withoutLast() instead");
+    }
+
+    /**
+     * Not supported, the vector is immutable.
+     *
+     * @param data  the data
+     * @param index the index
+     * @return nothing
+     */
+    @Override
+    public T set(T data, int index) {
+        throw new UnsupportedOperationException("The persistent vector is immutable, use with() instead");
+    }
+
+    /**
+     * Not supported, the vector is immutable.
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("The persistent vector is immutable, use empty() instead");
+    }
+
+    /**
+     * The method try to find the data from the beginning of the collection.
+     *
+     * @param data the data
+     * @return the index of data
+     */
+    @Override
+    public int indexOf(T data) {
+        for (int start = 0; start < size; start += WIDTH) {
+            Object[] leaf = leafFor(start);
+            for (int i = 0; i < Math.min(WIDTH, size - start); i++) {
+                if (Objects.equals(data, leaf[i])) {
+                    return start + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The method try to find the data from the end of the collection.
+     *
+     * @param data the data
+     * @return the index of data
+     */
+    @Override
+    public int lastIndexOf(T data) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (Objects.equals(data, leafFor(i)[i & MASK])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Object[] leafFor(int index) {
+        return leafFor(index, size, shift, root, tail);
+    }
+
+    private static Object[] leafFor(int index, int size, int shift, Node root, Object[] tail) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private Node popTail(int level, Node node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node newChild = popTail(level - BITS, (Node) node.array[subIndex]);
+            if (newChild == null && subIndex == 0) {
+                return null;
+            }
+            Node result = new Node(null, node.array.clone());
+            result.array[subIndex] = newChild;
+            return result;
+        }
+        if (subIndex == 0) {
+            return null;
+        }
+        Node result = new Node(null, node.array.clone());
+        result.array[subIndex] = null;
+        return result;
+    }
+
+    /**
+     * Returns the index of the first element in the tail.
+     *
+     * @param size the size of the vector
+     * @return the int value
+     */
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Hangs the full tail as the next leaf of the trie, copying the nodes on the path which the edit doesn't own.
+     *
+     * @param edit     the owner of the nodes updated in place, or null
+     * @param size     the size of the vector before the tail is pushed
+     * @param level    the level of the parent
+     * @param parent   the parent node
+     * @param tailNode the leaf
+     * @return the new parent node
+     */
+    private static Node pushTail(Object edit, int size, int level, Node parent, Node tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Node result = editable(edit, parent);
+        Node insert;
+        if (level == BITS) {
+            insert = tailNode;
+        } else {
+            Node child = (Node) parent.array[subIndex];
+            insert = child != null
+                    ? pushTail(edit, size, level - BITS, child, tailNode)
+                    : newPath(edit, level - BITS, tailNode);
+        }
+        result.array[subIndex] = insert;
+        return result;
+    }
+
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node result = new Node(edit, new Object[WIDTH]);
+        result.array[0] = newPath(edit, level - BITS, node);
+        return result;
+    }
+
+    private static Node assoc(Object edit, int level, Node node, int index, Object value) {
+        Node result = editable(edit, node);
+        if (level == 0) {
+            result.array[index & MASK] = value;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = assoc(edit, level - BITS, (Node) node.array[subIndex], index, value);
+        }
+        return result;
+    }
+
+    private static Node editable(Object edit, Node node) {
+        if (edit != null && node.edit == edit) {
+            return node;
+        }
+        return new Node(edit, node.array.clone());
+    }
+
+    /**
+     * The node of the trie: the sub-nodes of an inner node or the elements of a leaf.
+     * The owner of a node is the transient which created it, or null.
+     */
+    private static final class Node {
+        private final Object edit;
+        private final Object[] array;
+
+        private Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    /**
+     * Initialize iterator, the elements can't be removed.
+     *
+     * @return the MyIterator instance
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new MyIterator();
+    }
+
+    /**
+     * The type MyIterator, it looks up the leaf once per 32 elements.
+     */
+    public class MyIterator implements Iterator<T> {
+        private int index;
+        private Object[] leaf;
+
+        /**
+         * The method checks if collection has one more element.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        /**
+         * The method based on hasNext method result returns data.
+         *
+         * @return the data type
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            if ((index & MASK) == 0) {
+                leaf = leafFor(index);
+            }
+            return (T) leaf[index++ & MASK];
+        }
+    }
+
+    /**
+     * The type Transient, the mutable vector for batch construction. It updates in place the nodes
+     * it has created itself and copies the shared ones once, the tail is a full leaf filled in place.
+     * persistent() freezes the vector, the transient can't be used afterwards.
+     *
+     * @param <T> the data type
+     */
+    public static final class Transient<T> {
+        private Object edit = new Object();
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private Transient(PersistentVector<T> vector) {
+            this.size = vector.size;
+            this.shift = vector.shift;
+            this.root = vector.root;
+            this.tail = Arrays.copyOf(vector.tail, WIDTH);
+        }
+
+        /**
+         * Add element to the end.
+         *
+         * @param value the value
+         */
+        public void add(T value) {
+            ensureEditable();
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = value;
+                size++;
+                return;
+            }
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = value;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(edit, size, shift, root, tailNode);
+            }
+            size++;
+        }
+
+        /**
+         * Sets the new value by index and return the previous one.
+         *
+         * @param value the value
+         * @param index the index
+         * @return the previous value
+         */
+        public T set(T value, int index) {
+            T prevValue = get(index);
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = value;
+            } else {
+                root = assoc(edit, shift, root, index, value);
+            }
+            return prevValue;
+        }
+
+        /**
+         * Gets the data by its id.
+         *
+         * @param index the index
+         * @return the data
+         */
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            ensureEditable();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Incorrect index, it should be from 0 to " + (size - 1));
+            }
+            return (T) leafFor(index, size, shift, root, tail)[index & MASK];
+        }
+
+        /**
+         * Returns the current size.
+         *
+         * @return the int value
+         */
+        public int size() {
+            ensureEditable();
+            return size;
+        }
+
+        /**
+         * Freezes the vector in O(1), the transient can't be used afterwards.
+         *
+         * @return the PersistentVector instance
+         */
+        public PersistentVector<T> persistent() {
+            ensureEditable();
+            edit = null;
+            if (size == 0) {
+                return empty();
+            }
+            return new PersistentVector<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+
+        private void ensureEditable() {
+            if (edit == null) {
+                throw new IllegalStateException("The transient vector is already persistent");
+            }
+        }
+    }
+}
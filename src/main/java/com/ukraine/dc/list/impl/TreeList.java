@@ -0,0 +1,574 @@
+package com.ukraine.dc.list.impl;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The TreeList, a rope: the elements are kept in small arrays, the leaves of an AVL tree whose inner nodes
+ * know the number of elements below them. get, set, add and remove by index walk one path of the tree, so they
+ * cost O(log n) at any position. A full leaf is split in halves, an insert at an end of a full leaf starts
+ * a new leaf instead. A leaf which gets empty is unlinked and neighbour leaves are merged once they fit
+ * into a half of a leaf.
+ * Two lists are concatenated and a list is split by index in O(log n), without copying the elements.
+ *
+ * @param <T> the data type
+ */
+public class TreeList<T> extends AbstractList<T> {
+    private static final int DEFAULT_LEAF_CAPACITY = 64;
+    private final int leafCapacity;
+    private Node<T> root;
+    // the offset inside the leaf returned by the last findLeaf() call
+    private int foundOffset;
+
+    /**
+     * Initialize TreeList with default leaf capacity.
+     */
+    public TreeList() {
+        this(DEFAULT_LEAF_CAPACITY);
+    }
+
+    /**
+     * Initialize TreeList with custom leaf capacity.
+     *
+     * @param leafCapacity the number of elements in one leaf
+     */
+    public TreeList(int leafCapacity) {
+        if (leafCapacity < 2) {
+            throw new IllegalArgumentException("Incorrect leaf capacity, it should be at least 2: " + leafCapacity);
+        }
+        this.leafCapacity = leafCapacity;
+    }
+
+    private TreeList(int leafCapacity, Node<T> root) {
+        this(leafCapacity);
+        this.root = root;
+        this.size = size(root);
+    }
+
+    /**
+     * The method stands for adding data by index.
+     *
+     * @param data  the data
+     * @param index the index
+     */
+    @Override
+    public void add(T data, int index) {
+        validateIndexOnAdd(index);
+        root = root == null ? newLeaf(data) : insert(root, index, data);
+        size++;
+    }
+
+    /**
+     * The method stands for the removing element from the list by its id.
+     *
+     * @param index the index
+     * @return the removeData
+     */
+    @Override
+    public T remove(int index) {
+        validateIndex(index);
+        Node<T> leaf = findLeaf(index);
+        T prevValue = leaf.get(foundOffset);
+        root = delete(root, index);
+        size--;
+        return prevValue;
+    }
+
+    /**
+     * The method returns data by its index in the list.
+     *
+     * @param index the index
+     * @return the data by index
+     */
+    @Override
+    public T get(int index) {
+        validateIndex(index);
+        return findLeaf(index).get(foundOffset);
+    }
+
+    /**
+     * Sets new data by specified index and returns the previous one.
+     *
+     * @param data  the newData
+     * @param index the index
+     * @return the previousValue
+     */
+    @Override
+    public T set(T data, int index) {
+        validateIndex(index);
+        Node<T> leaf = findLeaf(index);
+        T prevValue = leaf.get(foundOffset);
+        leaf.elements[foundOffset] = data;
+        return prevValue;
+    }
+
+    /**
+     * Clears thw whole collection.
+     */
+    @Override
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Finds the first match from the beginning of the collection.
+     *
+     * @param data the searchingData
+     * @return the index of searchingData
+     */
+    @Override
+    public int indexOf(T data) {
+        int index = 0;
+        for (T value : this) {
+            if (Objects.equals(data, value)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first match from the end of the collection.
+     *
+     * @param data the searchingData
+     * @return the index of searchingData
+     */
+    @Override
+    public int lastIndexOf(T data) {
+        return root == null ? -1 : lastIndexOf(root, data, 0);
+    }
+
+    /**
+     * Appends all the elements of the other list in O(log n) and leaves the other list empty.
+     *
+     * @param other the list, it must not be this list
+     */
+    public void concat(TreeList<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("The list can't be concatenated with itself");
+        }
+        root = join(root, other.root);
+        size += other.size;
+        other.clear();
+    }
+
+    /**
+     * Cuts the elements from the index to the end off this list in O(log n).
+     *
+     * @param index the index between 0 and size
+     * @return the new list with the elements from the index to the end
+     */
+    public TreeList<T> split(int index) {
+        validateIndexOnAdd(index);
+        Node<T> left = root;
+        Node<T> right = null;
+        if (index == 0) {
+            left = null;
+            right = root;
+        } else if (index < size) {
+            Node<T>[] parts = split(root, index);
+            left = parts[0];
+            right = parts[1];
+        }
+        root = left;
+        size = index;
+        return new TreeList<>(leafCapacity, right);
+    }
+
+    /**
+     * Removes the elements from fromIndex inclusive to toIndex exclusive in O(log n) and returns them.
+     *
+     * @param fromIndex the index of the first extracted element
+     * @param toIndex   the index after the last extracted element
+     * @return the new list with the extracted elements
+     */
+    public TreeList<T> extract(int fromIndex, int toIndex) {
+        validateIndexOnAdd(toIndex);
+        if (fromIndex < 0 || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Incorrect index, it should be from 0 to " + toIndex);
+        }
+        TreeList<T> tail = split(fromIndex);
+        TreeList<T> rest = tail.split(toIndex - fromIndex);
+        concat(rest);
+        return tail;
+    }
+
+    /**
+     * Finds the leaf holding the element, the offset of the element inside the leaf is stored in foundOffset.
+     *
+     * @param index the valid index of the element
+     * @return the leaf
+     */
+    private Node<T> findLeaf(int index) {
+        Node<T> node = root;
+        while (!node.isLeaf()) {
+            int leftSize = node.left.size;
+            if (index < leftSize) {
+                node = node.left;
+            } else {
+                index -= leftSize;
+                node = node.right;
+            }
+        }
+        foundOffset = index;
+        return node;
+    }
+
+    private Node<T> insert(Node<T> node, int index, T data) {
+        if (node.isLeaf()) {
+            if (node.count < node.elements.length) {
+                node.insert(index, data);
+                return node;
+            }
+            // an insert at an end of the leaf starts a new one, so appending keeps the leaves full
+            int at = index == 0 || index == node.count ? index : node.count / 2;
+            Node<T> right = node.splitLeaf(at);
+            if (index <= node.count && node.count < node.elements.length) {
+                node.insert(index, data);
+            } else {
+                right.insert(index - node.count, data);
+            }
+            return newBranch(node, right);
+        }
+        int leftSize = node.left.size;
+        if (index < leftSize) {
+            node.left = insert(node.left, index, data);
+        } else {
+            node.right = insert(node.right, index - leftSize, data);
+        }
+        return balance(node);
+    }
+
+    /**
+     * Removes the element from the subtree.
+     *
+     * @param node  the subtree
+     * @param index the index inside the subtree
+     * @return the new subtree or null if it got empty
+     */
+    private Node<T> delete(Node<T> node, int index) {
+        if (node.isLeaf()) {
+            node.remove(index);
+            return node.count == 0 ? null : node;
+        }
+        int leftSize = node.left.size;
+        if (index < leftSize) {
+            node.left = delete(node.left, index);
+        } else {
+            node.right = delete(node.right, index - leftSize);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        if (node.left.isLeaf() && node.right.isLeaf() && node.left.count + node.right.count <= node.left.elements.length / 2) {
+            node.left.append(node.right);
+            return node.left;
+        }
+        return balance(node);
+    }
+
+    /**
+     * Joins two subtrees of any heights, all the elements of the left one go first.
+     * The shorter tree is hung on the inner edge of the taller one at the level of its own height,
+     * so the cost is O(height difference).
+     *
+     * @param left  the left subtree or null
+     * @param right the right subtree or null
+     * @return the joined subtree
+     */
+    private Node<T> join(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.height > right.height + 1) {
+            left.right = join(left.right, right);
+            return balance(left);
+        }
+        if (right.height > left.height + 1) {
+            right.left = join(left, right.left);
+            return balance(right);
+        }
+        if (left.isLeaf() && right.isLeaf() && left.count + right.count <= left.elements.length) {
+            left.append(right);
+            return left;
+        }
+        return newBranch(left, right);
+    }
+
+    /**
+     * Splits the subtree into the first index elements and the rest, both parts are balanced.
+     *
+     * @param node  the subtree
+     * @param index the index between 1 and the subtree size - 1
+     * @return the left and the right parts
+     */
+    private Node<T>[] split(Node<T> node, int index) {
+        if (node.isLeaf()) {
+            return parts(node, node.splitLeaf(index));
+        }
+        int leftSize = node.left.size;
+        if (index == leftSize) {
+            return parts(node.left, node.right);
+        }
+        if (index < leftSize) {
+            Node<T>[] parts = split(node.left, index);
+            parts[1] = join(parts[1], node.right);
+            return parts;
+        }
+        Node<T>[] parts = split(node.right, index - leftSize);
+        parts[0] = join(node.left, parts[0]);
+        return parts;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Node<T>[] parts(Node<T> left, Node<T> right) {
+        return new Node[]{left, right};
+    }
+
+    private int lastIndexOf(Node<T> node, T data, int start) {
+        if (node.isLeaf()) {
+            for (int i = node.count - 1; i >= 0; i--) {
+                if (Objects.equals(data, node.elements[i])) {
+                    return start + i;
+                }
+            }
+            return -1;
+        }
+        int found = lastIndexOf(node.right, data, start + node.left.size);
+        return found != -1 ? found : lastIndexOf(node.left, data, start);
+    }
+
+    private Node<T> newLeaf(T data) {
+        Node<T> leaf = new Node<>(new Object[leafCapacity]);
+        leaf.insert(0, data);
+        return leaf;
+    }
+
+    private static <T> Node<T> newBranch(Node<T> left, Node<T> right) {
+        Node<T> node = new Node<>(null);
+        node.left = left;
+        node.right = right;
+        update(node);
+        return node;
+    }
+
+    private static <T> Node<T> balance(Node<T> node) {
+        update(node);
+        int balance = node.left.height - node.right.height;
+        if (balance > 1) {
+            if (node.left.left.height < node.left.right.height) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (node.right.right.height < node.right.left.height) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static void update(Node<?> node) {
+        node.size = node.left.size + node.right.size;
+        node.height = Math.max(node.left.height, node.right.height) + 1;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * The node of the tree: a leaf with elements or an inner node with both children.
+     *
+     * @param <T> the data type
+     */
+    private static final class Node<T> {
+        private final Object[] elements;
+        private int count;
+        private Node<T> left;
+        private Node<T> right;
+        private int size;
+        private int height = 1;
+
+        private Node(Object[] elements) {
+            this.elements = elements;
+        }
+
+        private boolean isLeaf() {
+            return elements != null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T get(int offset) {
+            return (T) elements[offset];
+        }
+
+        private void insert(int offset, T value) {
+            System.arraycopy(elements, offset, elements, offset + 1, count - offset);
+            elements[offset] = value;
+            count++;
+            size = count;
+        }
+
+        private void remove(int offset) {
+            System.arraycopy(elements, offset + 1, elements, offset, count - offset - 1);
+            elements[--count] = null;
+            size = count;
+        }
+
+        /**
+         * Moves the elements from the offset to a new leaf of the same capacity.
+         *
+         * @param offset the offset of the first moved element
+         * @return the new leaf
+         */
+        private Node<T> splitLeaf(int offset) {
+            Node<T> right = new Node<>(new Object[elements.length]);
+            right.count = count - offset;
+            right.size = right.count;
+            System.arraycopy(elements, offset, right.elements, 0, right.count);
+            Arrays.fill(elements, offset, count, null);
+            count = offset;
+            size = count;
+            return right;
+        }
+
+        /**
+         * Moves all the elements of the other leaf to the end of this one.
+         *
+         * @param other the leaf
+         */
+        private void append(Node<T> other) {
+            System.arraycopy(other.elements, 0, elements, count, other.count);
+            count += other.count;
+            size = count;
+        }
+    }
+
+    /**
+     * Initialize the iterator.
+     *
+     * @return the Iterator implementation for collection
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new MyIterator();
+    }
+
+    /**
+     * The type MyIterator, it keeps the path to the current leaf, so the next element is found in O(1) amortized.
+     */
+    public class MyIterator implements Iterator<T> {
+        // the inner nodes whose right subtrees are not visited yet
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+        private Node<T> leaf;
+        private int offset;
+        private int index;
+        private boolean canRemove;
+
+        private MyIterator() {
+            seek(0);
+        }
+
+        /**
+         * Checks if collection has next element or not.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        /**
+         * Returns the data based on result of the hasNext() method.
+         *
+         * @return the data
+         */
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            if (offset == leaf.count) {
+                Node<T> node = path.pop().right;
+                while (!node.isLeaf()) {
+                    path.push(node);
+                    node = node.left;
+                }
+                leaf = node;
+                offset = 0;
+            }
+            canRemove = true;
+            index++;
+            return leaf.get(offset++);
+        }
+
+        /**
+         * Removes data from the collection based on previous method implemented in MyIterator: hasNext, next.
+         */
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            TreeList.this.remove(--index);
+            canRemove = false;
+            // the leaves may be merged and the tree rotated, so the path is built again
+            seek(index);
+        }
+
+        private void seek(int target) {
+            path.clear();
+            leaf = null;
+            offset = 0;
+            if (target >= size) {
+                return;
+            }
+            Node<T> node = root;
+            while (!node.isLeaf()) {
+                if (target < node.left.size) {
+                    path.push(node);
+                    node = node.left;
+                } else {
+                    target -= node.left.size;
+                    node = node.right;
+                }
+            }
+            leaf = node;
+            offset = target;
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package com.ukraine.dc.list.impl;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The unrolled LinkedList, every node holds a small array of elements.
+ * A full node is split in halves on insert. A node which drops below half of its capacity on remove
+ * takes elements from the next node or is merged with it, so all nodes except the tail are at least half full.
+ * Indexed access walks nodes instead of elements and the elements of a node lie next to each other in memory.
+ *
+ * @param <T> the data type
+ */
+public class UnrolledLinkedList<T> extends AbstractList<T> {
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+    private final int nodeCapacity;
+    private final int minNodeSize;
+    private Node<T> head;
+    private Node<T> tail;
+    // the offset inside the node returned by the last findNode() call
+    private int foundOffset;
+
+    /**
+     * Initialize UnrolledLinkedList with default node capacity.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Initialize UnrolledLinkedList with custom node capacity.
+     *
+     * @param nodeCapacity the number of elements in one node
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Incorrect node capacity, it should be at least 2: " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+        this.minNodeSize = nodeCapacity / 2;
+    }
+
+    /**
+     * The method stands for adding data by index.
+     *
+     * @param data  the data
+     * @param index the index
+     */
+    @Override
+    public void add(T data, int index) {
+        validateIndexOnAdd(index);
+        if (head == null) {
+            head = tail = new Node<>(nodeCapacity);
+        }
+        Node<T> node;
+        int offset;
+        if (index == size) {
+            node = tail;
+            offset = tail.count;
+        } else {
+            node = findNode(index);
+            offset = foundOffset;
+        }
+        if (node.count == nodeCapacity) {
+            if (node == tail && offset == node.count) {
+                // appending to the end keeps the nodes full instead of splitting them
+                node = insertNodeAfter(node);
+                offset = 0;
+            } else {
+                Node<T> right = split(node);
+                if (offset > node.count) {
+                    offset -= node.count;
+                    node = right;
+                }
+            }
+        }
+        node.insert(offset, data);
+        size++;
+    }
+
+    /**
+     * The method stands for the removing element from the list by its id.
+     *
+     * @param index the index
+     * @return the removeData
+     */
+    @Override
+    public T remove(int index) {
+        validateIndex(index);
+        Node<T> node = findNode(index);
+        return removeAt(node, foundOffset);
+    }
+
+    /**
+     * The method returns data by its index in the list.
+     *
+     * @param index the index
+     * @return the data by index
+     */
+    @Override
+    public T get(int index) {
+        validateIndex(index);
+        return findNode(index).get(foundOffset);
+    }
+
+    /**
+     * Sets new data by specified index and returns the previous one.
+     *
+     * @param data  the newData
+     * @param index the index
+     * @return the previousValue
+     */
+    @Override
+    public T set(T data, int index) {
+        validateIndex(index);
+        Node<T> node = findNode(index);
+        T prevValue = node.get(foundOffset);
+        node.elements[foundOffset] = data;
+        return prevValue;
+    }
+
+    /**
+     * Clears thw whole collection.
+     */
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * Finds the first match from the beginning of the collection.
+     *
+     * @param data the searchingData
+     * @return the index of searchingData
+     */
+    @Override
+    public int indexOf(T data) {
+        int nodeStart = 0;
+        for (Node<T> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                if (Objects.equals(data, node.elements[i])) {
+                    return nodeStart + i;
+                }
+            }
+            nodeStart += node.count;
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the first match from the end of the collection.
+     *
+     * @param data the searchingData
+     * @return the index of searchingData
+     */
+    @Override
+    public int lastIndexOf(T data) {
+        int nodeStart = size;
+        for (Node<T> node = tail; node != null; node = node.prev) {
+            nodeStart -= node.count;
+            for (int i = node.count - 1; i >= 0; i--) {
+                if (Objects.equals(data, node.elements[i])) {
+                    return nodeStart + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the node holding the element, walking from the closer end of the list.
+     * The offset of the element inside the node is stored in foundOffset.
+     *
+     * @param index the valid index of the element
+     * @return the node
+     */
+    private Node<T> findNode(int index) {
+        Node<T> node;
+        if (index < size / 2) {
+            node = head;
+            while (index >= node.count) {
+                index -= node.count;
+                node = node.next;
+            }
+        } else {
+            node = tail;
+            int nodeStart = size - node.count;
+            while (index < nodeStart) {
+                node = node.prev;
+                nodeStart -= node.count;
+            }
+            index -= nodeStart;
+        }
+        foundOffset = index;
+        return node;
+    }
+
+    private T removeAt(Node<T> node, int offset) {
+        T prevValue = node.remove(offset);
+        size--;
+        rebalance(node);
+        return prevValue;
+    }
+
+    /**
+     * Restores the minimum node size after remove: the node takes elements from the next node
+     * or absorbs it completely when both fit into one node. The tail may stay underfilled and is unlinked when empty.
+     *
+     * @param node the node
+     */
+    private void rebalance(Node<T> node) {
+        if (node.count >= minNodeSize) {
+            return;
+        }
+        Node<T> next = node.next;
+        if (next == null) {
+            if (node.count == 0) {
+                unlink(node);
+            }
+            return;
+        }
+        if (node.count + next.count <= nodeCapacity) {
+            node.moveFrom(next, next.count);
+            unlink(next);
+        } else {
+            node.moveFrom(next, minNodeSize - node.count);
+        }
+    }
+
+    private Node<T> split(Node<T> node) {
+        Node<T> right = insertNodeAfter(node);
+        int moved = node.count / 2;
+        System.arraycopy(node.elements, node.count - moved, right.elements, 0, moved);
+        Arrays.fill(node.elements, node.count - moved, node.count, null);
+        right.count = moved;
+        node.count -= moved;
+        return right;
+    }
+
+    private Node<T> insertNodeAfter(Node<T> node) {
+        Node<T> newNode = new Node<>(nodeCapacity);
+        newNode.prev = node;
+        newNode.next = node.next;
+        if (node.next == null) {
+            tail = newNode;
+        } else {
+            node.next.prev = newNode;
+        }
+        node.next = newNode;
+        return newNode;
+    }
+
+    private void unlink(Node<T> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    /**
+     * The node, a chunk of the collection.
+     *
+     * @param <T> the data type
+     */
+    private static final class Node<T> {
+        private final Object[] elements;
+        private int count;
+        private Node<T> prev;
+        private Node<T> next;
+
+        private Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        private T get(int offset) {
+            return (T) elements[offset];
+        }
+
+        private void insert(int offset, T value) {
+            System.arraycopy(elements, offset, elements, offset + 1, count - offset);
+            elements[offset] = value;
+            count++;
+        }
+
+        private T remove(int offset) {
+            T prevValue = get(offset);
+            System.arraycopy(elements, offset + 1, elements, offset, count - offset - 1);
+            elements[--count] = null;
+            return prevValue;
+        }
+
+        /**
+         * Moves the first elements of the other node to the end of this one.
+         *
+         * @param other  the next node
+         * @param number the number of elements
+         */
+        private void moveFrom(Node<T> other, int number) {
+            System.arraycopy(other.elements, 0, elements, count, number);
+            count += number;
+            System.arraycopy(other.elements, number, other.elements, 0, other.count - number);
+            Arrays.fill(other.elements, other.count - number, other.count, null);
+            other.count -= number;
+        }
+    }
+
+    /**
+     * Initialize the iterator.
+     *
+     * @return the Iterator implementation for collection
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new MyIterator();
+    }
+
+    /**
+     * The type MyIterator.
+     */
+    public class MyIterator implements Iterator<T> {
+        private Node<T> node = head;
+        private int offset;
+        private Node<T> lastNode;
+        private int lastOffset;
+
+        /**
+         * Checks if collection has next element or not.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean hasNext() {
+            while (node != null && offset >= node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            return node != null;
+        }
+
+        /**
+         * Returns the data based on result of the hasNext() method.
+         *
+         * @return the data
+         */
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastNode = node;
+            lastOffset = offset;
+            return node.get(offset++);
+        }
+
+        /**
+         * Removes data from the collection based on previous method implemented in MyIterator: hasNext, next.
+         */
+        @Override
+        public void remove() {
+            if (lastNode == null) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            Node<T> after = lastNode.next;
+            removeAt(lastNode, lastOffset);
+            // the node either keeps the following elements, possibly taken from the next node, or is unlinked as empty
+            if (lastNode.count == 0) {
+                node = after;
+                offset = 0;
+            } else {
+                node = lastNode;
+                offset = lastOffset;
+            }
+            lastNode = null;
+        }
+    }
+}
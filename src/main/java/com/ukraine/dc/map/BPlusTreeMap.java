@@ -0,0 +1,819 @@
+package com.ukraine.dc.map;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.StringJoiner;
+
+/**
+ * The type BPlusTreeMap, a sorted map over a B+-tree.
+ * Entries are kept only in the leaves, sorted arrays of up to nodeCapacity keys linked in both directions,
+ * the inner nodes hold separator keys and children. Wide nodes keep the tree shallow and a search touches
+ * a few contiguous arrays, a range is read by walking the leaf chain. A node which drops under half of
+ * its capacity borrows from a sibling or is merged with it.
+ * The keys are ordered by the comparator or by their natural order, the null key is the smallest one.
+ * subMap() iterates a range lazily, fromSorted() builds the tree from sorted entries in O(n).
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public class BPlusTreeMap<K, V> implements Map<K, V> {
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+    private static final int MIN_NODE_CAPACITY = 3;
+    private final int nodeCapacity;
+    private final int minKeys;
+    private final Comparator<Object> comparator;
+    private Node root;
+    private Leaf first;
+    private Leaf last;
+    private int size;
+    // the inner nodes and child indexes on the way to the leaf, reused by put() and remove()
+    private Inner[] path = new Inner[8];
+    private int[] pathIndexes = new int[8];
+
+    /**
+     * Initialize BPlusTreeMap with default node capacity and the natural order of keys.
+     */
+    public BPlusTreeMap() {
+        this(DEFAULT_NODE_CAPACITY, null);
+    }
+
+    /**
+     * Initialize BPlusTreeMap with default node capacity and the comparator.
+     *
+     * @param comparator the comparator of keys, null for the natural order
+     */
+    public BPlusTreeMap(Comparator<? super K> comparator) {
+        this(DEFAULT_NODE_CAPACITY, comparator);
+    }
+
+    /**
+     * Initialize BPlusTreeMap with custom node capacity and the comparator.
+     *
+     * @param nodeCapacity the maximum number of keys in a node, at least 3
+     * @param comparator   the comparator of keys, null for the natural order
+     */
+    @SuppressWarnings("unchecked")
+    public BPlusTreeMap(int nodeCapacity, Comparator<? super K> comparator) {
+        if (nodeCapacity < MIN_NODE_CAPACITY) {
+            throw new IllegalArgumentException("Incorrect node capacity, it should be at least "
+                    + MIN_NODE_CAPACITY + ": " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+        this.minKeys = nodeCapacity / 2;
+        Comparator<Object> order = comparator == null
+                ? (a, b) -> ((Comparable<Object>) a).compareTo(b)
+                : (Comparator<Object>) comparator;
+        this.comparator = Comparator.nullsFirst(order);
+        clear();
+    }
+
+    /**
+     * Builds the map from the entries sorted by the natural order of keys, see
+     * {@link #fromSorted(Iterable, int, Comparator)}.
+     *
+     * @param entries the entries in ascending order of keys
+     * @param <K>     the key
+     * @param <V>     the value
+     * @return the BPlusTreeMap instance
+     */
+    public static <K, V> BPlusTreeMap<K, V> fromSorted(Iterable<? extends Map.Entry<? extends K, ? extends V>> entries) {
+        return fromSorted(entries, DEFAULT_NODE_CAPACITY, null);
+    }
+
+    /**
+     * Builds the map from the sorted entries in O(n): the leaves are filled level by level from the left,
+     * the entries are spread evenly, so every node is at least half full.
+     *
+     * @param entries      the entries in ascending order of keys, without duplicates
+     * @param nodeCapacity the maximum number of keys in a node
+     * @param comparator   the comparator of keys, null for the natural order
+     * @param <K>          the key
+     * @param <V>          the value
+     * @return the BPlusTreeMap instance
+     */
+    public static <K, V> BPlusTreeMap<K, V> fromSorted(Iterable<? extends Map.Entry<? extends K, ? extends V>> entries,
+                                                       int nodeCapacity, Comparator<? super K> comparator) {
+        BPlusTreeMap<K, V> map = new BPlusTreeMap<>(nodeCapacity, comparator);
+        Object[] keys = new Object[16];
+        Object[] values = new Object[16];
+        int count = 0;
+        for (Map.Entry<? extends K, ? extends V> entry : entries) {
+            if (count > 0 && map.comparator.compare(keys[count - 1], entry.getKey()) >= 0) {
+                throw new IllegalArgumentException("The keys are not sorted in ascending order: "
+                        + keys[count - 1] + " before " + entry.getKey());
+            }
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count * 2);
+                values = Arrays.copyOf(values, count * 2);
+            }
+            keys[count] = entry.getKey();
+            values[count] = entry.getValue();
+            count++;
+        }
+        map.build(keys, values, count);
+        return map;
+    }
+
+    /**
+     * Puts new element by its key.
+     *
+     * @param key   the unique value
+     * @param value the value
+     * @return the previous value if the key was present, otherwise the value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        Node node = root;
+        int depth = 0;
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            int index = childIndex(inner, key);
+            pushPath(depth++, inner, index);
+            node = inner.children[index];
+        }
+        Leaf leaf = (Leaf) node;
+        int index = search(leaf, key);
+        if (index >= 0) {
+            V prevValue = (V) leaf.values[index];
+            leaf.values[index] = value;
+            return prevValue;
+        }
+        leaf.insert(-index - 1, key, value);
+        size++;
+        if (leaf.count > nodeCapacity) {
+            Leaf right = splitLeaf(leaf);
+            insertSeparator(depth, right.keys[0], right);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the data by its unique key.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        Leaf leaf = findLeaf(key);
+        int index = search(leaf, key);
+        return index >= 0 ? (V) leaf.values[index] : null;
+    }
+
+    /**
+     * Returns the current size.
+     *
+     * @return the int value
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if map contains such key or not.
+     *
+     * @param key the key
+     * @return the boolean value
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return search(findLeaf(key), key) >= 0;
+    }
+
+    /**
+     * Removes data by its key, the nodes on the path which drop under half of the capacity are rebalanced.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        Node node = root;
+        int depth = 0;
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            int index = childIndex(inner, key);
+            pushPath(depth++, inner, index);
+            node = inner.children[index];
+        }
+        Leaf leaf = (Leaf) node;
+        int index = search(leaf, key);
+        if (index < 0) {
+            return null;
+        }
+        V prevValue = (V) leaf.values[index];
+        leaf.removeAt(index);
+        size--;
+        while (depth > 0 && node.count < minKeys) {
+            depth--;
+            rebalance(path[depth], pathIndexes[depth]);
+            node = path[depth];
+        }
+        if (root instanceof Inner && root.count == 0) {
+            root = ((Inner) root).children[0];
+        }
+        return prevValue;
+    }
+
+    /**
+     * Clear the collection.
+     */
+    @Override
+    public void clear() {
+        Leaf leaf = new Leaf(nodeCapacity);
+        root = leaf;
+        first = leaf;
+        last = leaf;
+        size = 0;
+        Arrays.fill(path, null);
+    }
+
+    /**
+     * Checks if the collection empty or not.
+     *
+     * @return the boolean value
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the smallest key.
+     *
+     * @return the key
+     */
+    @SuppressWarnings("unchecked")
+    public K firstKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("There are no more element in the collection.");
+        }
+        return (K) first.keys[0];
+    }
+
+    /**
+     * Returns the largest key.
+     *
+     * @return the key
+     */
+    @SuppressWarnings("unchecked")
+    public K lastKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("There are no more element in the collection.");
+        }
+        return (K) last.keys[last.count - 1];
+    }
+
+    /**
+     * Returns the entry with the largest key less than or equal to the key.
+     *
+     * @param key the key
+     * @return the entry or null if there is no such key
+     */
+    public Map.Entry<K, V> floorEntry(K key) {
+        Leaf leaf = findLeaf(key);
+        int index = search(leaf, key);
+        if (index >= 0) {
+            return entry(leaf, index);
+        }
+        index = -index - 2;
+        if (index >= 0) {
+            return entry(leaf, index);
+        }
+        // the keys of the leaf are all greater, the floor is the last key of the previous leaf
+        Leaf prev = leaf.prev;
+        return prev == null ? null : entry(prev, prev.count - 1);
+    }
+
+    /**
+     * Returns the entry with the smallest key greater than or equal to the key.
+     *
+     * @param key the key
+     * @return the entry or null if there is no such key
+     */
+    public Map.Entry<K, V> ceilingEntry(K key) {
+        Leaf leaf = findLeaf(key);
+        int index = search(leaf, key);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        if (index < leaf.count) {
+            return entry(leaf, index);
+        }
+        Leaf next = leaf.next;
+        return next == null ? null : entry(next, 0);
+    }
+
+    /**
+     * Returns the entries with keys from fromKey inclusive to toKey exclusive. The range is not copied:
+     * every iterator finds fromKey and walks the leaves until toKey, it sees the changes of the map.
+     *
+     * @param fromKey the lowest key, inclusive
+     * @param toKey   the highest key, exclusive
+     * @return the Iterable instance
+     */
+    public Iterable<Map.Entry<K, V>> subMap(K fromKey, K toKey) {
+        if (comparator.compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("Incorrect range, from " + fromKey + " is greater than to " + toKey);
+        }
+        return () -> new MapIterator(fromKey, toKey);
+    }
+
+    /**
+     * Initialize map iterator, it walks the leaves in the ascending order of keys.
+     *
+     * @return the Iterator impl
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new MapIterator();
+    }
+
+    /**
+     * Initialize the spliterator, it reports the entries in the ascending order of keys.
+     *
+     * @return the Spliterator instance
+     */
+    @Override
+    public Spliterator<Map.Entry<K, V>> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.DISTINCT | Spliterator.ORDERED);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Map.Entry<K, V> entry : this) {
+            joiner.add(entry.toString());
+        }
+        return joiner.toString();
+    }
+
+    private Leaf findLeaf(Object key) {
+        Node node = root;
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            node = inner.children[childIndex(inner, key)];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Returns the child which may hold the key: the keys of the child i are at least keys[i - 1]
+     * and less than keys[i].
+     *
+     * @param inner the inner node
+     * @param key   the key
+     * @return the child index
+     */
+    private int childIndex(Inner inner, Object key) {
+        int index = search(inner, key);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Binary search of the key in the node.
+     *
+     * @param node the node
+     * @param key  the key
+     * @return the index of the key, or -(insertion point) - 1 if it is absent
+     */
+    private int search(Node node, Object key) {
+        Object[] keys = node.keys;
+        int low = 0;
+        int high = node.count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int cmp = comparator.compare(keys[middle], key);
+            if (cmp < 0) {
+                low = middle + 1;
+            } else if (cmp > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void pushPath(int depth, Inner inner, int index) {
+        if (depth == path.length) {
+            path = Arrays.copyOf(path, depth * 2);
+            pathIndexes = Arrays.copyOf(pathIndexes, depth * 2);
+        }
+        path[depth] = inner;
+        pathIndexes[depth] = index;
+    }
+
+    /**
+     * Inserts the separator and the new right node into the parents on the path, splitting the parents
+     * which overflow. A split root is replaced with a new inner node.
+     *
+     * @param depth     the depth of the split node
+     * @param separator the smallest key of the right node
+     * @param right     the right node
+     */
+    private void insertSeparator(int depth, Object separator, Node right) {
+        while (depth > 0) {
+            depth--;
+            Inner parent = path[depth];
+            parent.insert(pathIndexes[depth], separator, right);
+            if (parent.count <= nodeCapacity) {
+                return;
+            }
+            int middle = parent.count / 2;
+            separator = parent.keys[middle];
+            right = splitInner(parent, middle);
+        }
+        Inner newRoot = new Inner(nodeCapacity);
+        newRoot.keys[0] = separator;
+        newRoot.children[0] = root;
+        newRoot.children[1] = right;
+        newRoot.count = 1;
+        root = newRoot;
+    }
+
+    private Leaf splitLeaf(Leaf leaf) {
+        int leftCount = leaf.count / 2;
+        Leaf right = new Leaf(nodeCapacity);
+        right.count = leaf.count - leftCount;
+        System.arraycopy(leaf.keys, leftCount, right.keys, 0, right.count);
+        System.arraycopy(leaf.values, leftCount, right.values, 0, right.count);
+        Arrays.fill(leaf.keys, leftCount, leaf.count, null);
+        Arrays.fill(leaf.values, leftCount, leaf.count, null);
+        leaf.count = leftCount;
+        right.prev = leaf;
+        right.next = leaf.next;
+        if (leaf.next == null) {
+            last = right;
+        } else {
+            leaf.next.prev = right;
+        }
+        leaf.next = right;
+        return right;
+    }
+
+    /**
+     * Moves the keys after the middle one and their children to a new node, the middle key goes to the parent.
+     *
+     * @param inner  the inner node
+     * @param middle the index of the middle key
+     * @return the right node
+     */
+    private Inner splitInner(Inner inner, int middle) {
+        Inner right = new Inner(nodeCapacity);
+        right.count = inner.count - middle - 1;
+        System.arraycopy(inner.keys, middle + 1, right.keys, 0, right.count);
+        System.arraycopy(inner.children, middle + 1, right.children, 0, right.count + 1);
+        Arrays.fill(inner.keys, middle, inner.count, null);
+        Arrays.fill(inner.children, middle + 1, inner.count + 1, null);
+        inner.count = middle;
+        return right;
+    }
+
+    /**
+     * Restores the child which dropped under half of the capacity: borrows an entry from a sibling
+     * which has more than half, otherwise merges the child with a sibling.
+     *
+     * @param parent the parent
+     * @param index  the index of the child
+     */
+    private void rebalance(Inner parent, int index) {
+        Node child = parent.children[index];
+        Node left = index > 0 ? parent.children[index - 1] : null;
+        Node right = index < parent.count ? parent.children[index + 1] : null;
+        if (left != null && left.count > minKeys) {
+            borrowFromLeft(parent, index, left, child);
+        } else if (right != null && right.count > minKeys) {
+            borrowFromRight(parent, index, child, right);
+        } else if (left != null) {
+            merge(parent, index - 1, left, child);
+        } else {
+            merge(parent, index, child, right);
+        }
+    }
+
+    private void borrowFromLeft(Inner parent, int index, Node left, Node child) {
+        int last = left.count - 1;
+        if (child instanceof Leaf) {
+            Leaf leftLeaf = (Leaf) left;
+            ((Leaf) child).insert(0, leftLeaf.keys[last], leftLeaf.values[last]);
+            leftLeaf.removeAt(last);
+            parent.keys[index - 1] = child.keys[0];
+        } else {
+            Inner leftInner = (Inner) left;
+            Inner inner = (Inner) child;
+            System.arraycopy(inner.keys, 0, inner.keys, 1, inner.count);
+            System.arraycopy(inner.children, 0, inner.children, 1, inner.count + 1);
+            inner.keys[0] = parent.keys[index - 1];
+            inner.children[0] = leftInner.children[last + 1];
+            inner.count++;
+            parent.keys[index - 1] = leftInner.keys[last];
+            leftInner.keys[last] = null;
+            leftInner.children[last + 1] = null;
+            leftInner.count--;
+        }
+    }
+
+    private void borrowFromRight(Inner parent, int index, Node child, Node right) {
+        if (child instanceof Leaf) {
+            Leaf rightLeaf = (Leaf) right;
+            ((Leaf) child).insert(child.count, rightLeaf.keys[0], rightLeaf.values[0]);
+            rightLeaf.removeAt(0);
+            parent.keys[index] = rightLeaf.keys[0];
+        } else {
+            Inner rightInner = (Inner) right;
+            Inner inner = (Inner) child;
+            inner.keys[inner.count] = parent.keys[index];
+            inner.children[inner.count + 1] = rightInner.children[0];
+            inner.count++;
+            parent.keys[index] = rightInner.keys[0];
+            System.arraycopy(rightInner.keys, 1, rightInner.keys, 0, rightInner.count - 1);
+            System.arraycopy(rightInner.children, 1, rightInner.children, 0, rightInner.count);
+            rightInner.keys[rightInner.count - 1] = null;
+            rightInner.children[rightInner.count] = null;
+            rightInner.count--;
+        }
+    }
+
+    /**
+     * Moves everything from the right node to the left one and removes the separator and the right node
+     * from the parent.
+     *
+     * @param parent         the parent
+     * @param separatorIndex the index of the separator between the nodes
+     * @param left           the left node
+     * @param right          the right node
+     */
+    private void merge(Inner parent, int separatorIndex, Node left, Node right) {
+        if (left instanceof Leaf) {
+            Leaf leftLeaf = (Leaf) left;
+            Leaf rightLeaf = (Leaf) right;
+            System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.count, rightLeaf.count);
+            System.arraycopy(rightLeaf.values, 0, leftLeaf.values, leftLeaf.count, rightLeaf.count);
+            leftLeaf.count += rightLeaf.count;
+            leftLeaf.next = rightLeaf.next;
+            if (rightLeaf.next == null) {
+                last = leftLeaf;
+            } else {
+                rightLeaf.next.prev = leftLeaf;
+            }
+        } else {
+            Inner leftInner = (Inner) left;
+            Inner rightInner = (Inner) right;
+            leftInner.keys[leftInner.count] = parent.keys[separatorIndex];
+            System.arraycopy(rightInner.keys, 0, leftInner.keys, leftInner.count + 1, rightInner.count);
+            System.arraycopy(rightInner.children, 0, leftInner.children, leftInner.count + 1, rightInner.count + 1);
+            leftInner.count += rightInner.count + 1;
+        }
+        System.arraycopy(parent.keys, separatorIndex + 1, parent.keys, separatorIndex, parent.count - separatorIndex - 1);
+        System.arraycopy(parent.children, separatorIndex + 2, parent.children, separatorIndex + 1,
+                parent.count - separatorIndex - 1);
+        parent.count--;
+        parent.keys[parent.count] = null;
+        parent.children[parent.count + 1] = null;
+    }
+
+    /**
+     * Builds the tree bottom-up from sorted keys: count entries are spread evenly over the fewest leaves,
+     * then the nodes of every level are spread evenly over the fewest parents.
+     *
+     * @param keys   the sorted keys
+     * @param values the values
+     * @param count  the number of entries
+     */
+    private void build(Object[] keys, Object[] values, int count) {
+        if (count == 0) {
+            return;
+        }
+        int leafCount = (count + nodeCapacity - 1) / nodeCapacity;
+        Node[] level = new Node[leafCount];
+        Object[] lowKeys = new Object[leafCount];
+        Leaf prev = null;
+        int offset = 0;
+        for (int i = 0; i < leafCount; i++) {
+            Leaf leaf = new Leaf(nodeCapacity);
+            leaf.count = count / leafCount + (i < count % leafCount ? 1 : 0);
+            System.arraycopy(keys, offset, leaf.keys, 0, leaf.count);
+            System.arraycopy(values, offset, leaf.values, 0, leaf.count);
+            leaf.prev = prev;
+            if (prev == null) {
+                first = leaf;
+            } else {
+                prev.next = leaf;
+            }
+            level[i] = leaf;
+            lowKeys[i] = keys[offset];
+            offset += leaf.count;
+            prev = leaf;
+        }
+        last = prev;
+        while (level.length > 1) {
+            int parentCount = (level.length + nodeCapacity) / (nodeCapacity + 1);
+            Node[] parents = new Node[parentCount];
+            Object[] parentLowKeys = new Object[parentCount];
+            offset = 0;
+            for (int i = 0; i < parentCount; i++) {
+                int children = level.length / parentCount + (i < level.length % parentCount ? 1 : 0);
+                Inner inner = new Inner(nodeCapacity);
+                System.arraycopy(level, offset, inner.children, 0, children);
+                System.arraycopy(lowKeys, offset + 1, inner.keys, 0, children - 1);
+                inner.count = children - 1;
+                parents[i] = inner;
+                parentLowKeys[i] = lowKeys[offset];
+                offset += children;
+            }
+            level = parents;
+            lowKeys = parentLowKeys;
+        }
+        root = level[0];
+        size = count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map.Entry<K, V> entry(Leaf leaf, int index) {
+        return new Entry<>((K) leaf.keys[index], (V) leaf.values[index]);
+    }
+
+    /**
+     * The type Node, keys are stored in a sorted array with one spare slot for the overflow before a split.
+     */
+    private abstract static class Node {
+        final Object[] keys;
+        int count;
+
+        Node(int capacity) {
+            keys = new Object[capacity + 1];
+        }
+    }
+
+    /**
+     * The type Leaf, the entries of the map, linked with the neighbour leaves.
+     */
+    private static final class Leaf extends Node {
+        final Object[] values;
+        Leaf prev;
+        Leaf next;
+
+        Leaf(int capacity) {
+            super(capacity);
+            values = new Object[capacity + 1];
+        }
+
+        void insert(int index, Object key, Object value) {
+            System.arraycopy(keys, index, keys, index + 1, count - index);
+            System.arraycopy(values, index, values, index + 1, count - index);
+            keys[index] = key;
+            values[index] = value;
+            count++;
+        }
+
+        void removeAt(int index) {
+            System.arraycopy(keys, index + 1, keys, index, count - index - 1);
+            System.arraycopy(values, index + 1, values, index, count - index - 1);
+            count--;
+            keys[count] = null;
+            values[count] = null;
+        }
+    }
+
+    /**
+     * The type Inner, count separator keys and count + 1 children.
+     */
+    private static final class Inner extends Node {
+        final Node[] children;
+
+        Inner(int capacity) {
+            super(capacity);
+            children = new Node[capacity + 2];
+        }
+
+        /**
+         * Inserts the key at the index and the child right after it.
+         *
+         * @param index the index of the key
+         * @param key   the key
+         * @param child the child
+         */
+        void insert(int index, Object key, Node child) {
+            System.arraycopy(keys, index, keys, index + 1, count - index);
+            System.arraycopy(children, index + 1, children, index + 2, count - index);
+            keys[index] = key;
+            children[index + 1] = child;
+            count++;
+        }
+    }
+
+    /**
+     * The type Entry, a snapshot of the mapping returned by the iterator.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static class Entry<K, V> implements Map.Entry<K, V> {
+        private final K key;
+        private final V value;
+
+        private Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * The type MapIterator, it walks the leaf chain from the first key of the range up to its bound.
+     * remove() may merge the current leaf, so the position is found again by the removed key.
+     */
+    private class MapIterator implements Iterator<Map.Entry<K, V>> {
+        private final Object toKey;
+        private final boolean bounded;
+        private Leaf leaf;
+        private int index;
+        private Object lastKey;
+        private boolean canRemove;
+
+        private MapIterator() {
+            leaf = first;
+            toKey = null;
+            bounded = false;
+        }
+
+        private MapIterator(Object fromKey, Object toKey) {
+            seek(fromKey);
+            this.toKey = toKey;
+            bounded = true;
+        }
+
+        /**
+         * The method checks if map has one more element.
+         *
+         * @return the boolean value.
+         */
+        @Override
+        public boolean hasNext() {
+            while (index >= leaf.count && leaf.next != null) {
+                leaf = leaf.next;
+                index = 0;
+            }
+            return index < leaf.count && (!bounded || comparator.compare(leaf.keys[index], toKey) < 0);
+        }
+
+        /**
+         * The method based on hasNext() return element of the collection.
+         *
+         * @return the Entry instance
+         */
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastKey = leaf.keys[index];
+            canRemove = true;
+            return entry(leaf, index++);
+        }
+
+        /**
+         * The method based on hasNext() and next() methods removes data.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            BPlusTreeMap.this.remove((K) lastKey);
+            // the removed key is gone, so its position is taken by the next one
+            seek(lastKey);
+            canRemove = false;
+        }
+
+        private void seek(Object key) {
+            leaf = findLeaf(key);
+            int position = search(leaf, key);
+            index = position >= 0 ? position : -position - 1;
+        }
+    }
+}
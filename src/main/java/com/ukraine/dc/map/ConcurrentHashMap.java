@@ -0,0 +1,576 @@
+package com.ukraine.dc.map;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The type ConcurrentHashMap, a thread-safe chained hash map.
+ * Reads take no locks: bins are read with volatile semantics and nodes are safely published through volatile links.
+ * Writes CAS an empty bin or lock the head node of the bin. The table is resized cooperatively: moved bins are
+ * replaced with a forwarding node and every writer that meets one helps to move the remaining bins.
+ * Iteration is weakly consistent, it never throws ConcurrentModificationException.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public class ConcurrentHashMap<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int TRANSFER_STRIDE = 16;
+    private static final int MOVED = -1;
+    private static final int HASH_BITS = 0x7fffffff;
+    private static final Object NULL_KEY = new Object();
+    private final AtomicReference<Resize<K, V>> resize = new AtomicReference<>();
+    private final LongAdder count = new LongAdder();
+    private final Object resizeLock = new Object();
+    private volatile AtomicReferenceArray<Node<K, V>> table;
+    private volatile long threshold;
+
+    /**
+     * Initialize ConcurrentHashMap with default capacity.
+     */
+    public ConcurrentHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Initialize ConcurrentHashMap with custom capacity.
+     *
+     * @param capacity the capacity, rounded up to the power of two
+     */
+    public ConcurrentHashMap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Incorrect capacity: " + capacity);
+        }
+        int n = Math.max(capacity, 2);
+        n = n >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit(n - 1) << 1;
+        setTable(new AtomicReferenceArray<>(n));
+    }
+
+    /**
+     * Puts new element by its key.
+     *
+     * @param key   the unique value
+     * @param value the value
+     * @return the previous value if the key was present, otherwise the value
+     */
+    @Override
+    public V put(K key, V value) {
+        Object maskedKey = maskNull(key);
+        int hash = spread(maskedKey.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        while (true) {
+            int index = hash & (tab.length() - 1);
+            Node<K, V> head = tab.get(index);
+            if (head == null) {
+                if (tab.compareAndSet(index, null, new Node<>(hash, maskedKey, value))) {
+                    break;
+                }
+            } else if (head.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) head);
+            } else {
+                synchronized (head) {
+                    if (tab.get(index) == head) {
+                        Node<K, V> node = head;
+                        while (true) {
+                            if (node.matches(hash, maskedKey)) {
+                                V prevValue = node.value;
+                                node.value = value;
+                                return prevValue;
+                            }
+                            if (node.next == null) {
+                                node.next = new Node<>(hash, maskedKey, value);
+                                break;
+                            }
+                            node = node.next;
+                        }
+                    } else {
+                        continue;
+                    }
+                }
+                break;
+            }
+        }
+        count.increment();
+        checkForResize();
+        return value;
+    }
+
+    /**
+     * Gets the data by its unique key, without locking.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V get(K key) {
+        Node<K, V> node = findNode(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Checks if the collection empty or not.
+     *
+     * @return the boolean value
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the current size, it is an estimate while other threads modify the map.
+     *
+     * @return the int value
+     */
+    @Override
+    public int size() {
+        long sum = count.sum();
+        return sum < 0 ? 0 : (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Checks if map contains such key or not.
+     *
+     * @param key the key
+     * @return the boolean value
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return findNode(key) != null;
+    }
+
+    /**
+     * Removes data by its key.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V remove(K key) {
+        Object maskedKey = maskNull(key);
+        int hash = spread(maskedKey.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        while (true) {
+            int index = hash & (tab.length() - 1);
+            Node<K, V> head = tab.get(index);
+            if (head == null) {
+                return null;
+            }
+            if (head.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) head);
+                continue;
+            }
+            synchronized (head) {
+                if (tab.get(index) != head) {
+                    continue;
+                }
+                Node<K, V> prev = null;
+                for (Node<K, V> node = head; node != null; prev = node, node = node.next) {
+                    if (node.matches(hash, maskedKey)) {
+                        // the removed node keeps its next link, so concurrent readers can walk past it
+                        if (prev == null) {
+                            tab.set(index, node.next);
+                        } else {
+                            prev.next = node.next;
+                        }
+                        count.decrement();
+                        return node.value;
+                    }
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Clear the collection, bin by bin.
+     */
+    @Override
+    public void clear() {
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        int index = 0;
+        while (index < tab.length()) {
+            Node<K, V> head = tab.get(index);
+            if (head == null) {
+                index++;
+            } else if (head.hash == MOVED) {
+                // bins which are not moved yet are still empty in the next table, so wait for the whole resize
+                Resize<K, V> current = ((ForwardingNode<K, V>) head).resize;
+                transfer(current);
+                while (resize.get() == current) {
+                    Thread.onSpinWait();
+                }
+                tab = table;
+                index = 0;
+            } else {
+                synchronized (head) {
+                    if (tab.get(index) == head) {
+                        int removed = 0;
+                        for (Node<K, V> node = head; node != null; node = node.next) {
+                            removed++;
+                        }
+                        tab.set(index, null);
+                        count.add(-removed);
+                        index++;
+                    }
+                }
+            }
+        }
+    }
+
+    private Node<K, V> findNode(K key) {
+        Object maskedKey = maskNull(key);
+        int hash = spread(maskedKey.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        while (true) {
+            Node<K, V> node = tab.get(hash & (tab.length() - 1));
+            if (node == null) {
+                return null;
+            }
+            if (node.hash != MOVED) {
+                for (; node != null; node = node.next) {
+                    if (node.matches(hash, maskedKey)) {
+                        return node;
+                    }
+                }
+                return null;
+            }
+            tab = ((ForwardingNode<K, V>) node).resize.nextTable;
+        }
+    }
+
+    /**
+     * Starts the resize when the size reaches the threshold, or joins the resize which is in progress.
+     */
+    private void checkForResize() {
+        while (true) {
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            Resize<K, V> current = resize.get();
+            if (current != null) {
+                if (current.table == tab) {
+                    transfer(current);
+                    return;
+                }
+                // the resize has finished, the new table is already published
+                Thread.onSpinWait();
+                continue;
+            }
+            if (count.sum() < threshold || tab.length() >= MAXIMUM_CAPACITY) {
+                return;
+            }
+            synchronized (resizeLock) {
+                if (table == tab && resize.get() == null) {
+                    resize.set(new Resize<>(tab));
+                }
+            }
+        }
+    }
+
+    /**
+     * Helps the resize which forwarded the bin and returns the table to retry the operation in.
+     *
+     * @param forwardingNode the forwarding node
+     * @return the next table
+     */
+    private AtomicReferenceArray<Node<K, V>> helpTransfer(ForwardingNode<K, V> forwardingNode) {
+        transfer(forwardingNode.resize);
+        return forwardingNode.resize.nextTable;
+    }
+
+    /**
+     * Claims strides of bins from the top of the table and moves them until nothing is left to claim.
+     * The thread which moves the last bin publishes the new table.
+     *
+     * @param current the resize
+     */
+    private void transfer(Resize<K, V> current) {
+        int length = current.table.length();
+        while (true) {
+            int end = current.transferIndex.get();
+            if (end <= 0) {
+                return;
+            }
+            int start = Math.max(end - TRANSFER_STRIDE, 0);
+            if (!current.transferIndex.compareAndSet(end, start)) {
+                continue;
+            }
+            for (int index = end - 1; index >= start; index--) {
+                transferBin(current, index);
+            }
+            if (current.movedBins.addAndGet(end - start) == length) {
+                setTable(current.nextTable);
+                resize.set(null);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Copies the bin into the bins index and index + length of the next table, then forwards the old bin.
+     * Nodes are copied, not relinked, as readers may still walk the old chain.
+     *
+     * @param current the resize
+     * @param index   the bin index
+     */
+    private void transferBin(Resize<K, V> current, int index) {
+        AtomicReferenceArray<Node<K, V>> tab = current.table;
+        int length = tab.length();
+        while (true) {
+            Node<K, V> head = tab.get(index);
+            if (head == null) {
+                if (tab.compareAndSet(index, null, current.forwardingNode)) {
+                    return;
+                }
+                continue;
+            }
+            synchronized (head) {
+                if (tab.get(index) != head) {
+                    continue;
+                }
+                Node<K, V> lo = null;
+                Node<K, V> hi = null;
+                Node<K, V> loTail = null;
+                Node<K, V> hiTail = null;
+                for (Node<K, V> node = head; node != null; node = node.next) {
+                    Node<K, V> copy = new Node<>(node.hash, node.key, node.value);
+                    if ((node.hash & length) == 0) {
+                        if (loTail == null) {
+                            lo = copy;
+                        } else {
+                            loTail.next = copy;
+                        }
+                        loTail = copy;
+                    } else {
+                        if (hiTail == null) {
+                            hi = copy;
+                        } else {
+                            hiTail.next = copy;
+                        }
+                        hiTail = copy;
+                    }
+                }
+                current.nextTable.set(index, lo);
+                current.nextTable.set(index + length, hi);
+                tab.set(index, current.forwardingNode);
+                return;
+            }
+        }
+    }
+
+    private void setTable(AtomicReferenceArray<Node<K, V>> newTable) {
+        int length = newTable.length();
+        threshold = length == MAXIMUM_CAPACITY ? Long.MAX_VALUE : length - (length >>> 2);
+        table = newTable;
+    }
+
+    private static Object maskNull(Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    /**
+     * Spreads higher bits of the hash code downwards and clears the sign bit, negative hashes mark special nodes.
+     *
+     * @param h the hash code
+     * @return the hash
+     */
+    private static int spread(int h) {
+        return (h ^ (h >>> 16)) & HASH_BITS;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Map.Entry<K, V> entry : this) {
+            joiner.add(entry.toString());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Initialize weakly consistent map iterator.
+     *
+     * @return the Iterator impl
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new MapIterator();
+    }
+
+    /**
+     * Initialize weakly consistent map spliterator, the map may be changed while it is traversed,
+     * so the size is only an estimate.
+     *
+     * @return the Spliterator impl
+     */
+    @Override
+    public Spliterator<Map.Entry<K, V>> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT | Spliterator.CONCURRENT);
+    }
+
+    /**
+     * The type Node.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static class Node<K, V> implements Map.Entry<K, V> {
+        private final int hash;
+        private final Object key;
+        private volatile V value;
+        private volatile Node<K, V> next;
+
+        private Node(int hash, Object key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        private boolean matches(int hash, Object key) {
+            return this.hash == hash && (this.key == key || key.equals(this.key));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return key == NULL_KEY ? null : (K) key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + value;
+        }
+    }
+
+    /**
+     * The node which replaces a moved bin, it points readers and writers to the next table.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static final class ForwardingNode<K, V> extends Node<K, V> {
+        private final Resize<K, V> resize;
+
+        private ForwardingNode(Resize<K, V> resize) {
+            super(MOVED, null, null);
+            this.resize = resize;
+        }
+    }
+
+    /**
+     * The state of a single table resize, shared by all threads that help it.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static final class Resize<K, V> {
+        private final AtomicReferenceArray<Node<K, V>> table;
+        private final AtomicReferenceArray<Node<K, V>> nextTable;
+        private final ForwardingNode<K, V> forwardingNode;
+        private final AtomicInteger transferIndex;
+        private final AtomicInteger movedBins = new AtomicInteger();
+
+        private Resize(AtomicReferenceArray<Node<K, V>> table) {
+            this.table = table;
+            this.nextTable = new AtomicReferenceArray<>(table.length() * 2);
+            this.forwardingNode = new ForwardingNode<>(this);
+            this.transferIndex = new AtomicInteger(table.length());
+        }
+    }
+
+    /**
+     * The type MapIterator. Forwarded bins are followed into the next table, where the bin i of a table
+     * of length n is split into the bins i and i + n.
+     */
+    private class MapIterator implements Iterator<Map.Entry<K, V>> {
+        private final AtomicReferenceArray<Node<K, V>> baseTable = table;
+        private final Deque<Bin<K, V>> forwardedBins = new ArrayDeque<>();
+        private int baseIndex;
+        private Node<K, V> nextNode;
+        private Node<K, V> lastReturned;
+
+        /**
+         * The method checks if map has one more element.
+         *
+         * @return the boolean value.
+         */
+        @Override
+        public boolean hasNext() {
+            while (nextNode == null) {
+                Bin<K, V> bin = forwardedBins.poll();
+                if (bin == null) {
+                    if (baseIndex >= baseTable.length()) {
+                        return false;
+                    }
+                    bin = new Bin<>(baseTable, baseIndex++);
+                }
+                Node<K, V> head = bin.table.get(bin.index);
+                if (head != null && head.hash == MOVED) {
+                    AtomicReferenceArray<Node<K, V>> nextTable = ((ForwardingNode<K, V>) head).resize.nextTable;
+                    forwardedBins.push(new Bin<>(nextTable, bin.index + bin.table.length()));
+                    forwardedBins.push(new Bin<>(nextTable, bin.index));
+                } else {
+                    nextNode = head;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * The method based on hasNext() return element of the collection.
+         *
+         * @return the Entry instance
+         */
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastReturned = nextNode;
+            nextNode = nextNode.next;
+            return lastReturned;
+        }
+
+        /**
+         * The method based on hasNext() and next() methods removes data.
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            ConcurrentHashMap.this.remove(lastReturned.getKey());
+            lastReturned = null;
+        }
+    }
+
+    /**
+     * The bin of a particular table, pending in the iterator.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static final class Bin<K, V> {
+        private final AtomicReferenceArray<Node<K, V>> table;
+        private final int index;
+
+        private Bin(AtomicReferenceArray<Node<K, V>> table, int index) {
+            this.table = table;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,618 @@
+package com.ukraine.dc.map;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The type ConcurrentSkipListMap, a thread-safe sorted map over a lock-free skip list.
+ * Every node is linked into the bottom level and into a random number of upper levels, each one skipping
+ * about half of the nodes of the level below, so a search takes O(log n) steps. All changes are made by CAS:
+ * put() links a new node bottom-up, remove() first CASes the value of the node to null, which is the moment
+ * the key disappears, then marks the links of the node, and the marked node is unlinked by the next search
+ * passing by. A link is marked by replacing it with a Marker which wraps the successor, so a CAS expecting
+ * the plain successor fails on a marked link. Reads take no locks and never write.
+ * Iteration and range views are weakly consistent: they walk the bottom level, skip the removed nodes
+ * and may or may not see the changes made after they started, they never throw ConcurrentModificationException.
+ * The keys are ordered by the comparator or by their natural order, the null key is the smallest one.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public class ConcurrentSkipListMap<K, V> implements Map<K, V> {
+    private static final int MAX_LEVEL = 32;
+    // the null value is stored masked, as null marks a removed node
+    private static final Object NULL_VALUE = new Object();
+    private final Node<K, V> head = new Node<>(null, null, MAX_LEVEL - 1);
+    private final LongAdder count = new LongAdder();
+    private final Comparator<Object> comparator;
+
+    /**
+     * Initialize ConcurrentSkipListMap with the natural order of keys.
+     */
+    public ConcurrentSkipListMap() {
+        this(null);
+    }
+
+    /**
+     * Initialize ConcurrentSkipListMap with the comparator.
+     *
+     * @param comparator the comparator of keys, null for the natural order
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentSkipListMap(Comparator<? super K> comparator) {
+        Comparator<Object> order = comparator == null
+                ? (a, b) -> ((Comparable<Object>) a).compareTo(b)
+                : (Comparator<Object>) comparator;
+        this.comparator = Comparator.nullsFirst(order);
+    }
+
+    /**
+     * Puts new element by its key. A new node is linked into the bottom level first, that makes it visible,
+     * then into its upper levels.
+     *
+     * @param key   the unique value
+     * @param value the value
+     * @return the previous value if the key was present, otherwise the value
+     */
+    @Override
+    public V put(K key, V value) {
+        Object newValue = maskNull(value);
+        Node<K, V>[] preds = newPath();
+        Node<K, V>[] succs = newPath();
+        while (true) {
+            if (find(key, preds, succs)) {
+                Node<K, V> node = succs[0];
+                Object prevValue = node.value;
+                if (prevValue == null) {
+                    // the node is being removed: help to mark it, so the next find() unlinks it
+                    markLinks(node);
+                } else if (node.casValue(prevValue, newValue)) {
+                    return unmaskNull(prevValue);
+                }
+                continue;
+            }
+            int topLevel = randomLevel();
+            Node<K, V> node = new Node<>(key, newValue, topLevel);
+            for (int level = 0; level <= topLevel; level++) {
+                node.next.set(level, succs[level]);
+            }
+            if (preds[0].casNext(0, succs[0], node)) {
+                count.increment();
+                linkUpperLevels(node, preds, succs);
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Gets the data by its unique key.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V get(K key) {
+        Node<K, V> node = findLast(key, true, true);
+        if (node == null || comparator.compare(node.key, key) != 0) {
+            return null;
+        }
+        return unmaskNull(node.value);
+    }
+
+    /**
+     * Returns the current size, an estimate while the map is changed concurrently.
+     *
+     * @return the int value
+     */
+    @Override
+    public int size() {
+        long sum = count.sum();
+        return sum < 0 ? 0 : (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Checks if map contains such key or not.
+     *
+     * @param key the key
+     * @return the boolean value
+     */
+    @Override
+    public boolean containsKey(K key) {
+        Node<K, V> node = findLast(key, true, true);
+        return node != null && comparator.compare(node.key, key) == 0 && node.value != null;
+    }
+
+    /**
+     * Removes data by its key. The thread which CASes the value to null owns the removal and returns the value.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V remove(K key) {
+        Node<K, V>[] preds = newPath();
+        Node<K, V>[] succs = newPath();
+        if (!find(key, preds, succs)) {
+            return null;
+        }
+        Node<K, V> node = succs[0];
+        while (true) {
+            Object prevValue = node.value;
+            if (prevValue == null) {
+                return null;
+            }
+            if (node.casValue(prevValue, null)) {
+                count.decrement();
+                markLinks(node);
+                // unlinks the marked node from every level
+                find(key, preds, succs);
+                return unmaskNull(prevValue);
+            }
+        }
+    }
+
+    /**
+     * Clear the collection by removing the keys one by one, it is not atomic.
+     */
+    @Override
+    public void clear() {
+        for (Node<K, V> node = head.next(0); node != null; node = node.next(0)) {
+            remove(node.key);
+        }
+    }
+
+    /**
+     * Checks if the collection empty or not.
+     *
+     * @return the boolean value
+     */
+    @Override
+    public boolean isEmpty() {
+        return firstNode() == null;
+    }
+
+    /**
+     * Returns the smallest key.
+     *
+     * @return the key
+     */
+    public K firstKey() {
+        Node<K, V> node = firstNode();
+        if (node == null) {
+            throw new NoSuchElementException("There are no more element in the collection.");
+        }
+        return node.key;
+    }
+
+    /**
+     * Returns the largest key.
+     *
+     * @return the key
+     */
+    public K lastKey() {
+        Map.Entry<K, V> entry = lastEntry(null, true, false);
+        if (entry == null) {
+            throw new NoSuchElementException("There are no more element in the collection.");
+        }
+        return entry.getKey();
+    }
+
+    /**
+     * Returns the entry with the largest key less than or equal to the key.
+     *
+     * @param key the key
+     * @return the entry or null if there is no such key
+     */
+    public Map.Entry<K, V> floorEntry(K key) {
+        return lastEntry(key, true, true);
+    }
+
+    /**
+     * Returns the entry with the smallest key greater than or equal to the key.
+     *
+     * @param key the key
+     * @return the entry or null if there is no such key
+     */
+    public Map.Entry<K, V> ceilingEntry(K key) {
+        Node<K, V> pred = findLast(key, false, true);
+        Node<K, V> node = pred == null ? head : pred;
+        while (true) {
+            node = node.next(0);
+            if (node == null) {
+                return null;
+            }
+            Object value = node.value;
+            // a removed predecessor may lead to the nodes which are still less than the key
+            if (value != null && comparator.compare(node.key, key) >= 0) {
+                return new Entry<>(node.key, unmaskNull(value));
+            }
+        }
+    }
+
+    /**
+     * Returns the weakly consistent view of the entries with keys from fromKey inclusive to toKey exclusive.
+     * Every iterator finds fromKey and walks the bottom level until toKey.
+     *
+     * @param fromKey the lowest key, inclusive
+     * @param toKey   the highest key, exclusive
+     * @return the Iterable instance
+     */
+    public Iterable<Map.Entry<K, V>> subMap(K fromKey, K toKey) {
+        if (comparator.compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("Incorrect range, from " + fromKey + " is greater than to " + toKey);
+        }
+        return () -> new MapIterator(fromKey, toKey);
+    }
+
+    /**
+     * Initialize weakly consistent map iterator, it walks the keys in the ascending order.
+     *
+     * @return the Iterator impl
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new MapIterator();
+    }
+
+    /**
+     * Initialize weakly consistent map spliterator, the map may be changed while it is traversed,
+     * so the size is only an estimate.
+     *
+     * @return the Spliterator impl
+     */
+    @Override
+    public Spliterator<Map.Entry<K, V>> spliterator() {
+        return Spliterators.spliterator(iterator(), size(),
+                Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.CONCURRENT);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Map.Entry<K, V> entry : this) {
+            joiner.add(entry.toString());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Finds the predecessors and successors of the key on every level and unlinks the marked nodes on the way.
+     * The successor on a level is the first node with a key greater than or equal to the key.
+     *
+     * @param key   the key
+     * @param preds the predecessors by level
+     * @param succs the successors by level
+     * @return true if the successor on the bottom level has the key
+     */
+    private boolean find(Object key, Node<K, V>[] preds, Node<K, V>[] succs) {
+        retry:
+        while (true) {
+            Node<K, V> pred = head;
+            for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                Node<K, V> current = pred.next(level);
+                while (current != null) {
+                    Object link = current.next.get(level);
+                    Node<K, V> succ = successor(link);
+                    if (link instanceof Marker) {
+                        if (!pred.casNext(level, current, succ)) {
+                            // the predecessor was changed or removed, start from the head
+                            continue retry;
+                        }
+                        current = succ;
+                    } else if (comparator.compare(current.key, key) < 0) {
+                        pred = current;
+                        current = succ;
+                    } else {
+                        break;
+                    }
+                }
+                preds[level] = pred;
+                succs[level] = current;
+            }
+            return succs[0] != null && comparator.compare(succs[0].key, key) == 0;
+        }
+    }
+
+    /**
+     * Finds the last node with a key less than the key, or equal to it if inclusive, without writing.
+     * The marked nodes are stepped over, their links still lead forward.
+     *
+     * @param key       the key
+     * @param inclusive if the node may have the key
+     * @param bounded   false to find the last node of the list
+     * @return the node, it may be removed already, or null if there is no such node
+     */
+    private Node<K, V> findLast(Object key, boolean inclusive, boolean bounded) {
+        Node<K, V> pred = head;
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            Node<K, V> current = pred.next(level);
+            while (current != null) {
+                Object link = current.next.get(level);
+                if (!(link instanceof Marker)) {
+                    if (bounded) {
+                        int cmp = comparator.compare(current.key, key);
+                        if (cmp > 0 || cmp == 0 && !inclusive) {
+                            break;
+                        }
+                    }
+                    pred = current;
+                }
+                current = successor(link);
+            }
+        }
+        return pred == head ? null : pred;
+    }
+
+    /**
+     * Returns the last live entry with a key less than or equal to the key. A skip list can't step back,
+     * so if the node found was removed meanwhile, the search is repeated below its key.
+     *
+     * @param key       the key
+     * @param inclusive if the entry may have the key
+     * @param bounded   false to find the last entry of the map
+     * @return the entry or null if there is no such entry
+     */
+    private Map.Entry<K, V> lastEntry(Object key, boolean inclusive, boolean bounded) {
+        while (true) {
+            Node<K, V> node = findLast(key, inclusive, bounded);
+            if (node == null) {
+                return null;
+            }
+            Object value = node.value;
+            if (value != null) {
+                return new Entry<>(node.key, unmaskNull(value));
+            }
+            key = node.key;
+            inclusive = false;
+            bounded = true;
+        }
+    }
+
+    private Node<K, V> firstNode() {
+        for (Node<K, V> node = head.next(0); node != null; node = node.next(0)) {
+            if (node.value != null) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Links the node, already present on the bottom level, into its upper levels. The predecessors are searched
+     * again after a failed CAS. Linking stops if the node is removed meanwhile.
+     *
+     * @param node  the node
+     * @param preds the predecessors by level
+     * @param succs the successors by level
+     */
+    private void linkUpperLevels(Node<K, V> node, Node<K, V>[] preds, Node<K, V>[] succs) {
+        for (int level = 1; level < node.next.length(); level++) {
+            while (true) {
+                Node<K, V> succ = succs[level];
+                Object link = node.next.get(level);
+                if (link instanceof Marker) {
+                    return;
+                }
+                if (link != succ && !node.next.compareAndSet(level, link, succ)) {
+                    continue;
+                }
+                if (preds[level].casNext(level, succ, node)) {
+                    break;
+                }
+                if (!find(node.key, preds, succs) || succs[0] != node) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the links of the node from the top level down, no node can be linked after it anymore.
+     *
+     * @param node the node
+     */
+    private static <K, V> void markLinks(Node<K, V> node) {
+        for (int level = node.next.length() - 1; level >= 0; level--) {
+            while (true) {
+                Object link = node.next.get(level);
+                if (link instanceof Marker || node.next.compareAndSet(level, link, new Marker(link))) {
+                    break;
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V> successor(Object link) {
+        return (Node<K, V>) (link instanceof Marker ? ((Marker) link).next : link);
+    }
+
+    /**
+     * Returns the top level of a new node, the level i is reached with probability 1 / 2^i.
+     *
+     * @return the int value
+     */
+    private static int randomLevel() {
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | 1 << (MAX_LEVEL - 1));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K, V> Node<K, V>[] newPath() {
+        return new Node[MAX_LEVEL];
+    }
+
+    private static Object maskNull(Object value) {
+        return value == null ? NULL_VALUE : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V unmaskNull(Object value) {
+        return value == NULL_VALUE ? null : (V) value;
+    }
+
+    /**
+     * The type Node, the value is null once the node is removed. The links hold the successors, or a Marker
+     * once the node is removed.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static final class Node<K, V> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Object> VALUE =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Object.class, "value");
+        private final K key;
+        private final AtomicReferenceArray<Object> next;
+        private volatile Object value;
+
+        private Node(K key, Object value, int topLevel) {
+            this.key = key;
+            this.value = value;
+            this.next = new AtomicReferenceArray<>(topLevel + 1);
+        }
+
+        private Node<K, V> next(int level) {
+            return successor(next.get(level));
+        }
+
+        private boolean casNext(int level, Node<K, V> expected, Node<K, V> update) {
+            return next.compareAndSet(level, expected, update);
+        }
+
+        private boolean casValue(Object expected, Object update) {
+            return VALUE.compareAndSet(this, expected, update);
+        }
+    }
+
+    /**
+     * The type Marker, it replaces the link of a removed node and keeps the successor.
+     */
+    private static final class Marker {
+        private final Object next;
+
+        private Marker(Object next) {
+            this.next = next;
+        }
+    }
+
+    /**
+     * The type Entry, a snapshot of the mapping returned by the iterator.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static class Entry<K, V> implements Map.Entry<K, V> {
+        private final K key;
+        private final V value;
+
+        private Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * The type MapIterator, it walks the bottom level and returns the nodes which were live when reached.
+     */
+    private class MapIterator implements Iterator<Map.Entry<K, V>> {
+        private final Object fromKey;
+        private final Object toKey;
+        private final boolean bounded;
+        private Node<K, V> nextNode;
+        private Object nextValue;
+        private Node<K, V> lastReturned;
+
+        private MapIterator() {
+            fromKey = null;
+            toKey = null;
+            bounded = false;
+            advance(head);
+        }
+
+        private MapIterator(Object fromKey, Object toKey) {
+            this.fromKey = fromKey;
+            this.toKey = toKey;
+            bounded = true;
+            Node<K, V> pred = findLast(fromKey, false, true);
+            advance(pred == null ? head : pred);
+        }
+
+        /**
+         * The method checks if map has one more element.
+         *
+         * @return the boolean value.
+         */
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        /**
+         * The method based on hasNext() return element of the collection.
+         *
+         * @return the Entry instance
+         */
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastReturned = nextNode;
+            Map.Entry<K, V> entry = new Entry<>(nextNode.key, unmaskNull(nextValue));
+            advance(nextNode);
+            return entry;
+        }
+
+        /**
+         * The method based on hasNext() and next() methods removes data.
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            ConcurrentSkipListMap.this.remove(lastReturned.key);
+            lastReturned = null;
+        }
+
+        private void advance(Node<K, V> from) {
+            for (Node<K, V> node = from.next(0); node != null; node = node.next(0)) {
+                if (bounded && comparator.compare(node.key, toKey) >= 0) {
+                    break;
+                }
+                Object value = node.value;
+                // the walk may start from a removed node, whose successors are still less than fromKey
+                if (value != null && (!bounded || comparator.compare(node.key, fromKey) >= 0)) {
+                    nextNode = node;
+                    nextValue = value;
+                    return;
+                }
+            }
+            nextNode = null;
+            nextValue = null;
+        }
+    }
+}
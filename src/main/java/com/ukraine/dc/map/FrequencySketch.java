@@ -0,0 +1,93 @@
+package com.ukraine.dc.map;
+
+/**
+ * The type FrequencySketch, a count-min sketch of 4-bit counters which estimates how often a key was seen.
+ * Every long of the table holds 16 counters, a key owns one counter in each of four longs picked by
+ * different hash functions and its frequency is the minimum of them, so collisions may only overestimate it.
+ * After 10 * maximumSize increments all counters are halved: the history ages and recent keys win.
+ * The sketch is not thread-safe.
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+    private static final int MAXIMUM_TABLE_SIZE = 1 << 30;
+    private final long[] table;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * Initialize FrequencySketch for the cache of the maximum size.
+     *
+     * @param maximumSize the maximum size of the cache
+     */
+    FrequencySketch(int maximumSize) {
+        int n = Math.max(maximumSize, 8);
+        table = new long[n >= MAXIMUM_TABLE_SIZE ? MAXIMUM_TABLE_SIZE : Integer.highestOneBit(n - 1) << 1];
+        sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of times the key was seen, at most 15.
+     *
+     * @param key the key
+     * @return the int value
+     */
+    int frequency(Object key) {
+        int hash = spread(key);
+        int start = (hash & 3) << 2;
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int shift = (start + i) << 2;
+            int count = (int) ((table[indexOf(hash, i)] >>> shift) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Increments the counters of the key, unless they are saturated, and ages the sketch once the sample is full.
+     *
+     * @param key the key
+     */
+    void increment(Object key) {
+        int hash = spread(key);
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            int shift = (start + i) << 2;
+            if (((table[index] >>> shift) & 0xfL) != MAX_COUNT) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Halves all counters.
+     */
+    void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private int indexOf(int hash, int depth) {
+        long h = (hash + SEEDS[depth]) * SEEDS[depth];
+        h += h >>> 32;
+        return (int) h & (table.length - 1);
+    }
+
+    private static int spread(Object key) {
+        int x = key == null ? 0 : key.hashCode();
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
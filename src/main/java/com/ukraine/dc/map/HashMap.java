@@ -3,19 +3,42 @@ package com.ukraine.dc.map;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.StringJoiner;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 /**
  * The type HashMap.
+ * In the incremental resize mode the table growth is spread over the following operations: the old and
+ * the new buckets arrays live side by side and every put/get/remove moves a few old buckets to the new array.
+ * A chain that grows to TREEIFY_THRESHOLD entries is converted into a balanced tree ordered by hash, then by
+ * Comparable key, so even keys with the same hash code cost O(log n) per operation.
+ * The bulk operations forEach, reduce and search split the buckets array into ranges processed
+ * by the common ForkJoinPool, the map must not be changed while they run.
+ * The statistics of the table are collected after enableStatistics() and may be exported through JMX.
  *
  * @param <K> the key
  * @param <V> the value
  */
 public class HashMap<K, V> implements Map<K, V> {
     private static final int DEFAULT_CAPACITY = 16;
-    private static final double LOAD_FACTOR = 0.75;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int MIGRATION_STEP = 8;
+    private static final int TREEIFY_THRESHOLD = 8;
+    private static final int UNTREEIFY_HEIGHT = 2;
+    private final double loadFactor;
+    private final boolean incrementalResize;
     private Entry<K, V>[] buckets;
+    private Entry<K, V>[] oldBuckets;
+    private int migrationIndex;
     private int size;
+    private HashMapStatistics statistics;
 
     /**
      * Initialize HashMap with default capacity;
@@ -30,6 +53,32 @@ public class HashMap<K, V> implements Map<K, V> {
      * @param capacity the capacity
      */
     public HashMap(int capacity) {
+        this(capacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Initialize HashMap with custom capacity and load factor.
+     *
+     * @param capacity   the capacity
+     * @param loadFactor the load factor
+     */
+    public HashMap(int capacity, double loadFactor) {
+        this(capacity, loadFactor, false);
+    }
+
+    /**
+     * Initialize HashMap with custom capacity, load factor and resize mode.
+     *
+     * @param capacity          the capacity
+     * @param loadFactor        the load factor
+     * @param incrementalResize the flag to move entries to the grown table by small portions on each operation
+     */
+    public HashMap(int capacity, double loadFactor, boolean incrementalResize) {
+        if (!(loadFactor > 0)) {
+            throw new IllegalArgumentException("Incorrect load factor, it should be positive: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.incrementalResize = incrementalResize;
         buckets = new Entry[capacity];
     }
 
@@ -42,13 +91,19 @@ public class HashMap<K, V> implements Map<K, V> {
      */
     @Override
     public V put(K key, V value) {
-        if (size >= buckets.length * LOAD_FACTOR) {
-            buckets = expandBucketsSize();
+        migrateBuckets();
+        if (size >= buckets.length * loadFactor) {
+            expandBucketsSize();
         }
-        int index = getIndex(key);
-        Entry<K, V> entry = buckets[index];
         int hash = hash(key);
+        Entry<K, V>[] table = bucketsFor(hash);
+        int index = getIndex(hash, table.length);
+        Entry<K, V> entry = table[index];
+        if (entry instanceof TreeBin) {
+            return putTreeValue((TreeBin<K, V>) entry, hash, key, value);
+        }
         Entry<K, V> prevEntry = null;
+        int binCount = 0;
 
         while (entry != null) {
             if (hash == entry.hash) {
@@ -60,14 +115,18 @@ public class HashMap<K, V> implements Map<K, V> {
             }
             prevEntry = entry;
             entry = entry.next;
+            binCount++;
         }
         if (prevEntry != null) {
-            prevEntry.next = new Entry<>(hash(key), key, value);
+            prevEntry.next = new Entry<>(hash, key, value);
             size++;
+            if (binCount + 1 >= TREEIFY_THRESHOLD) {
+                treeify(table, index);
+            }
             return value;
         }
-        entry = new Entry<>(hash(key), key, value);
-        buckets[index] = entry;
+        entry = new Entry<>(hash, key, value);
+        table[index] = entry;
         size++;
         return value;
     }
@@ -80,22 +139,28 @@ public class HashMap<K, V> implements Map<K, V> {
      */
     @Override
     public V get(K key) {
-        int index = getIndex(key);
+        Entry<K, V> entry = getEntry(key);
+        if (statistics != null) {
+            statistics.recordGet(entry != null);
+        }
+        return entry == null ? null : entry.getValue();
+    }
+
+    private Entry<K, V> getEntry(K key) {
+        migrateBuckets();
         int hash = hash(key);
-        Entry<K, V> entry = buckets[index];
+        Entry<K, V>[] table = bucketsFor(hash);
+        Entry<K, V> entry = table[getIndex(hash, table.length)];
+        if (entry instanceof TreeBin) {
+            return ((TreeBin<K, V>) entry).find(hash, key);
+        }
 
-        if (!isEmpty()) {
-            if (index == 0) {
-                return entry.getValue();
-            }
-            while (entry != null) {
-                if (hash == entry.hash && entry.getKey().equals(key)) {
-                    return entry.getValue();
-                }
-                entry = entry.next;
+        while (entry != null) {
+            if (hash == entry.hash && Objects.equals(entry.getKey(), key)) {
+                return entry;
             }
+            entry = entry.next;
         }
-
         return null;
     }
 
@@ -126,7 +191,7 @@ public class HashMap<K, V> implements Map<K, V> {
      */
     @Override
     public boolean containsKey(K key) {
-        return get(key) != null;
+        return getEntry(key) != null;
     }
 
     /**
@@ -137,30 +202,29 @@ public class HashMap<K, V> implements Map<K, V> {
      */
     @Override
     public V remove(K key) {
-        int index = getIndex(key);
-        Entry<K, V> entry = buckets[index];
+        migrateBuckets();
+        int hash = hash(key);
+        Entry<K, V>[] table = bucketsFor(hash);
+        int index = getIndex(hash, table.length);
+        Entry<K, V> entry = table[index];
+        if (entry instanceof TreeBin) {
+            return removeTreeNode(table, index, hash, key);
+        }
+        Entry<K, V> prev = null;
 
-        if (!isEmpty()) {
-            if (entry.getKey() == key) {
-                buckets[index] = entry.next;
+        while (entry != null) {
+            if (hash == entry.hash && Objects.equals(entry.getKey(), key)) {
+                if (prev == null) {
+                    table[index] = entry.next;
+                } else {
+                    prev.next = entry.next;
+                }
                 entry.next = null;
                 size--;
                 return entry.getValue();
             }
-
-            Entry<K, V> prev = entry;
+            prev = entry;
             entry = entry.next;
-
-            while (entry != null) {
-                if (entry.getKey() == key) {
-                    size--;
-                    prev.next = entry.next;
-                    entry.next = null;
-                    return entry.getValue();
-                }
-                prev = entry;
-                entry = entry.next;
-            }
         }
         return null;
     }
@@ -170,60 +234,345 @@ public class HashMap<K, V> implements Map<K, V> {
      */
     public void clear() {
         buckets = new Entry[DEFAULT_CAPACITY];
+        oldBuckets = null;
         size = 0;
     }
 
     /**
-     * Expand bucket size and shrink the collection.
+     * Performs the action for every mapping, in parallel once the map has at least parallelismThreshold entries.
+     * Long.MAX_VALUE keeps the whole pass in the calling thread, 1 gives the maximal parallelism.
+     *
+     * @param parallelismThreshold the number of entries needed to split the pass
+     * @param action               the action, it may be called from several threads at the same time
+     */
+    public void forEach(long parallelismThreshold, BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        completeMigration();
+        new ForEachTask<>(buckets, 0, buckets.length, batchFor(parallelismThreshold), action).invoke();
+    }
+
+    /**
+     * Transforms every mapping and combines the non-null results, in parallel once the map has
+     * at least parallelismThreshold entries. The reducer should be associative, the order of the results is not fixed.
      *
-     * @return the newBuckets array.
+     * @param parallelismThreshold the number of entries needed to split the pass
+     * @param transformer          the transformer, returns null to skip the mapping
+     * @param reducer              the reducer of two non-null results
+     * @param <U>                  the result type
+     * @return the combined result or null if every mapping was skipped
      */
-    private Entry<K, V>[] expandBucketsSize() {
-        var iterator = this.iterator();
-        var newMap = new Entry[buckets.length * 2];
-        while (iterator.hasNext()) {
-            var item = iterator.next();
-            innerPut(newMap, item.getKey(), item.getValue());
+    public <U> U reduce(long parallelismThreshold, BiFunction<? super K, ? super V, ? extends U> transformer,
+                        BiFunction<? super U, ? super U, ? extends U> reducer) {
+        Objects.requireNonNull(transformer);
+        Objects.requireNonNull(reducer);
+        completeMigration();
+        return new ReduceTask<K, V, U>(buckets, 0, buckets.length, batchFor(parallelismThreshold),
+                transformer, reducer).invoke();
+    }
+
+    /**
+     * Returns a non-null result of the search function for some mapping, in parallel once the map has
+     * at least parallelismThreshold entries. All the ranges stop as soon as any of them finds a result.
+     *
+     * @param parallelismThreshold the number of entries needed to split the pass
+     * @param searchFunction       the search function, returns null for a mapping which doesn't match
+     * @param <U>                  the result type
+     * @return the result or null if nothing matched
+     */
+    public <U> U search(long parallelismThreshold, BiFunction<? super K, ? super V, ? extends U> searchFunction) {
+        Objects.requireNonNull(searchFunction);
+        completeMigration();
+        AtomicReference<U> result = new AtomicReference<>();
+        new SearchTask<>(buckets, 0, buckets.length, batchFor(parallelismThreshold), searchFunction, result).invoke();
+        return result.get();
+    }
+
+    /**
+     * Returns the task budget: every split halves it between both halves and a range with no budget left
+     * is processed in place, so about that many ranges run. It is zero below the threshold,
+     * otherwise enough to give every worker of the common pool a few ranges.
+     *
+     * @param parallelismThreshold the threshold
+     * @return the int value
+     */
+    private int batchFor(long parallelismThreshold) {
+        if (parallelismThreshold == Long.MAX_VALUE || size < parallelismThreshold) {
+            return 0;
         }
-        return newMap;
+        long tasks = size / Math.max(parallelismThreshold, 1);
+        int maxTasks = ForkJoinPool.getCommonPoolParallelism() << 2;
+        return tasks >= maxTasks ? maxTasks : (int) tasks;
     }
 
     /**
-     * The method stands for the enriching collection with new elements.
+     * Starts collecting the statistics of the map, the same instance is returned while they are enabled.
+     * Until then get() and resize pay only a null check.
      *
-     * @param newBuckets the newBuckets
-     * @param key        the key
-     * @param value      the value
+     * @return the HashMapStatistics instance
      */
-    private void innerPut(Entry<K, V>[] newBuckets, K key, V value) {
-        int bucketIndex = getIndex(key);
-        Entry<K, V> entry = newBuckets[bucketIndex];
-        Entry<K, V> prevEntry = null;
-        Entry<K, V> nextEntry;
+    public HashMapStatistics enableStatistics() {
+        if (statistics == null) {
+            statistics = new HashMapStatistics(this);
+        }
+        return statistics;
+    }
+
+    /**
+     * Stops collecting the statistics and unregisters them from the platform MBean server,
+     * the instance returned before keeps its counters.
+     */
+    public void disableStatistics() {
+        if (statistics != null) {
+            statistics.unregister();
+            statistics = null;
+        }
+    }
 
-        if (entry != null) {
-            while (entry != null) {
-                prevEntry = entry;
-                entry = entry.next;
+    /**
+     * Returns the statistics of the map.
+     *
+     * @return the HashMapStatistics instance or null if they are disabled
+     */
+    public HashMapStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the length of the current buckets array.
+     *
+     * @return the int value
+     */
+    int capacity() {
+        return buckets.length;
+    }
+
+    /**
+     * Counts the buckets by their chain length, a tree bin counts as a chain of all its entries.
+     * While the incremental resize is in progress, an old bucket not migrated yet is counted
+     * as the two new buckets it will be split into, so the counts always sum up to the capacity.
+     * Chains of histogram.length - 1 entries or longer fall into the last slot.
+     *
+     * @param histogram the array to add the counts to
+     * @return the maximum chain length
+     */
+    int scanChains(long[] histogram) {
+        Entry<K, V>[] table = buckets;
+        Entry<K, V>[] old = oldBuckets;
+        if (old == null) {
+            return scanChains(table, 0, table.length, histogram);
+        }
+        // the new buckets i and i + old length stay empty until the old bucket i is migrated
+        int max = Math.max(scanChains(table, 0, migrationIndex, histogram),
+                scanChains(table, old.length, old.length + migrationIndex, histogram));
+        int last = histogram.length - 1;
+        for (int i = migrationIndex; i < old.length; i++) {
+            int loLength = 0;
+            int hiLength = 0;
+            for (Entry<K, V> entry = firstEntry(old[i]); entry != null; entry = entry.next) {
+                if (getIndex(entry.hash, table.length) == i) {
+                    loLength++;
+                } else {
+                    hiLength++;
+                }
             }
+            histogram[Math.min(loLength, last)]++;
+            histogram[Math.min(hiLength, last)]++;
+            max = Math.max(max, Math.max(loLength, hiLength));
         }
-        if (prevEntry != null) {
-            nextEntry = new Entry<>(hash(key), key, value);
-            prevEntry.next = nextEntry;
-        } else {
-            entry = new Entry<>(hash(key), key, value);
-            newBuckets[bucketIndex] = entry;
+        return max;
+    }
+
+    private static int scanChains(Entry<?, ?>[] table, int from, int to, long[] histogram) {
+        int max = 0;
+        int last = histogram.length - 1;
+        for (int i = from; i < to; i++) {
+            int length = 0;
+            for (Entry<?, ?> entry = firstEntry(table[i]); entry != null; entry = entry.next) {
+                length++;
+            }
+            histogram[Math.min(length, last)]++;
+            max = Math.max(max, length);
+        }
+        return max;
+    }
+
+    /**
+     * Doubles the buckets array. Existing entries are relinked to the new array, not copied.
+     * In the incremental mode only the new array is allocated here, entries are moved later by migrateBuckets().
+     */
+    private void expandBucketsSize() {
+        long start = statistics == null ? 0 : System.nanoTime();
+        completeMigration();
+        oldBuckets = buckets;
+        migrationIndex = 0;
+        buckets = new Entry[oldBuckets.length * 2];
+        if (!incrementalResize) {
+            completeMigration();
+        }
+        if (statistics != null) {
+            statistics.recordResize(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Moves the next portion of the old buckets to the new array, if the incremental resize is in progress.
+     */
+    private void migrateBuckets() {
+        if (oldBuckets != null) {
+            long start = statistics == null ? 0 : System.nanoTime();
+            migrate(Math.min(migrationIndex + MIGRATION_STEP, oldBuckets.length));
+            if (statistics != null) {
+                statistics.recordMigration(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Moves all the remaining old buckets to the new array.
+     */
+    private void completeMigration() {
+        if (oldBuckets != null) {
+            migrate(oldBuckets.length);
+        }
+    }
+
+    /**
+     * Relinks entries of the old buckets from migrationIndex up to the given bound into the new array.
+     * As the array is doubled, the old bucket i is split between the new buckets i and i + old length,
+     * the relative order of entries is preserved.
+     *
+     * @param bound the exclusive bound of old bucket indexes
+     */
+    private void migrate(int bound) {
+        for (; migrationIndex < bound; migrationIndex++) {
+            Entry<K, V> head = oldBuckets[migrationIndex];
+            if (head == null) {
+                continue;
+            }
+            oldBuckets[migrationIndex] = null;
+            Entry<K, V> loHead = null;
+            Entry<K, V> loTail = null;
+            Entry<K, V> hiHead = null;
+            Entry<K, V> hiTail = null;
+            int loCount = 0;
+            int hiCount = 0;
+            for (Entry<K, V> entry = firstEntry(head); entry != null; ) {
+                Entry<K, V> next = entry.next;
+                entry.next = null;
+                if (getIndex(entry.hash, buckets.length) == migrationIndex) {
+                    if (loTail == null) {
+                        loHead = entry;
+                    } else {
+                        loTail.next = entry;
+                    }
+                    loTail = entry;
+                    loCount++;
+                } else {
+                    if (hiTail == null) {
+                        hiHead = entry;
+                    } else {
+                        hiTail.next = entry;
+                    }
+                    hiTail = entry;
+                    hiCount++;
+                }
+                entry = next;
+            }
+            boolean treeBin = head instanceof TreeBin;
+            buckets[migrationIndex] = treeBin && loCount >= TREEIFY_THRESHOLD
+                    ? new TreeBin<>((TreeNode<K, V>) loHead) : loHead;
+            if (hiHead != null) {
+                buckets[migrationIndex + oldBuckets.length] = treeBin && hiCount >= TREEIFY_THRESHOLD
+                        ? new TreeBin<>((TreeNode<K, V>) hiHead) : hiHead;
+            }
+        }
+        if (migrationIndex == oldBuckets.length) {
+            oldBuckets = null;
+        }
+    }
+
+    /**
+     * Converts the chain in the bucket into a tree bin.
+     *
+     * @param table the buckets array
+     * @param index the bucket index
+     */
+    private void treeify(Entry<K, V>[] table, int index) {
+        TreeNode<K, V> first = null;
+        TreeNode<K, V> last = null;
+        for (Entry<K, V> entry = table[index]; entry != null; entry = entry.next) {
+            TreeNode<K, V> node = new TreeNode<>(entry.hash, entry.getKey(), entry.getValue());
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+        table[index] = new TreeBin<>(first);
+    }
+
+    private V putTreeValue(TreeBin<K, V> bin, int hash, K key, V value) {
+        TreeNode<K, V> node = bin.find(hash, key);
+        if (node != null) {
+            V prevValue = node.getValue();
+            node.setValue(value);
+            return prevValue;
+        }
+        bin.add(new TreeNode<>(hash, key, value));
+        size++;
+        return value;
+    }
+
+    private V removeTreeNode(Entry<K, V>[] table, int index, int hash, K key) {
+        TreeBin<K, V> bin = (TreeBin<K, V>) table[index];
+        TreeNode<K, V> node = bin.find(hash, key);
+        if (node == null) {
+            return null;
+        }
+        bin.remove(node);
+        size--;
+        if (bin.root == null) {
+            table[index] = null;
+        } else if (bin.root.height <= UNTREEIFY_HEIGHT) {
+            // tree nodes are entries themselves, so the list is used as a plain chain
+            table[index] = bin.first;
+        }
+        return node.getValue();
+    }
+
+    /**
+     * Returns the first entry of the bucket, skipping the tree bin header.
+     *
+     * @param head the bucket head
+     * @return the first entry
+     */
+    private static <K, V> Entry<K, V> firstEntry(Entry<K, V> head) {
+        return head instanceof TreeBin ? ((TreeBin<K, V>) head).first : head;
+    }
+
+    /**
+     * Returns the buckets array which holds the chain for the hash: the old one while its bucket is not migrated yet.
+     *
+     * @param hash the hash
+     * @return the buckets array
+     */
+    private Entry<K, V>[] bucketsFor(int hash) {
+        if (oldBuckets != null && getIndex(hash, oldBuckets.length) >= migrationIndex) {
+            return oldBuckets;
         }
+        return buckets;
     }
 
     /**
      * The method stands for the logic of identifying the bucket index.
      *
-     * @param key the key
+     * @param hash   the hash
+     * @param length the buckets array length
      * @return int value
      */
-    private int getIndex(K key) {
-        return key == null ? 0 : Math.abs(key.hashCode() % buckets.length);
+    private int getIndex(int hash, int length) {
+        return Math.abs(hash % length);
     }
 
     @Override
@@ -244,8 +593,8 @@ public class HashMap<K, V> implements Map<K, V> {
     private static class Entry<K, V> implements Map.Entry<K, V> {
         private final K key;
         private V value;
-        private final int hash;
-        private Entry<K, V> next;
+        final int hash;
+        Entry<K, V> next;
 
         private Entry(int hash, K key, V value) {
             this.hash = hash;
@@ -292,6 +641,238 @@ public class HashMap<K, V> implements Map<K, V> {
         }
     }
 
+    /**
+     * The tree bin header, stored in the bucket instead of the chain head.
+     * The nodes form an AVL tree and, through next/prev links, a list used for iteration and resize.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static final class TreeBin<K, V> extends Entry<K, V> {
+        private TreeNode<K, V> root;
+        private TreeNode<K, V> first;
+        private long nextSequence;
+
+        /**
+         * Builds the tree from the list of nodes linked with next.
+         *
+         * @param first the first node
+         */
+        private TreeBin(TreeNode<K, V> first) {
+            super(0, null, null);
+            this.first = first;
+            TreeNode<K, V> prev = null;
+            for (TreeNode<K, V> node = first; node != null; node = (TreeNode<K, V>) node.next) {
+                node.prev = prev;
+                node.left = null;
+                node.right = null;
+                node.height = 1;
+                node.sequence = nextSequence++;
+                root = insert(root, node);
+                prev = node;
+            }
+        }
+
+        /**
+         * Adds the node which is known to be absent, the node is linked to the list right after the first one.
+         *
+         * @param node the node
+         */
+        private void add(TreeNode<K, V> node) {
+            node.sequence = nextSequence++;
+            node.prev = first;
+            node.next = first.next;
+            if (first.next != null) {
+                ((TreeNode<K, V>) first.next).prev = node;
+            }
+            first.next = node;
+            root = insert(root, node);
+        }
+
+        private void remove(TreeNode<K, V> node) {
+            root = delete(root, node);
+            TreeNode<K, V> next = (TreeNode<K, V>) node.next;
+            if (node.prev == null) {
+                first = next;
+            } else {
+                node.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = node.prev;
+            }
+            node.next = null;
+            node.prev = null;
+        }
+
+        /**
+         * Finds the node by key. Colliding keys of the same Comparable class are found in O(log n),
+         * for other colliding keys both subtrees may have to be searched.
+         *
+         * @param hash the hash
+         * @param key  the key
+         * @return the node or null
+         */
+        private TreeNode<K, V> find(int hash, Object key) {
+            return find(root, hash, key);
+        }
+
+        private static <K, V> TreeNode<K, V> find(TreeNode<K, V> node, int hash, Object key) {
+            while (node != null) {
+                if (hash < node.hash) {
+                    node = node.left;
+                } else if (hash > node.hash) {
+                    node = node.right;
+                } else if (Objects.equals(key, node.getKey())) {
+                    return node;
+                } else {
+                    int cmp = compareKeys(key, node.getKey());
+                    if (cmp < 0) {
+                        node = node.left;
+                    } else if (cmp > 0) {
+                        node = node.right;
+                    } else {
+                        TreeNode<K, V> found = find(node.right, hash, key);
+                        if (found != null) {
+                            return found;
+                        }
+                        node = node.left;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * The total order of the tree: hash, key class name, Comparable order within the class, insertion sequence.
+         */
+        private static int compare(TreeNode<?, ?> a, TreeNode<?, ?> b) {
+            int cmp = Integer.compare(a.hash, b.hash);
+            if (cmp == 0) {
+                cmp = compareKeys(a.getKey(), b.getKey());
+            }
+            return cmp == 0 ? Long.compare(a.sequence, b.sequence) : cmp;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static int compareKeys(Object a, Object b) {
+            int cmp = className(a).compareTo(className(b));
+            if (cmp == 0 && a != null && b != null && a.getClass() == b.getClass() && a instanceof Comparable) {
+                cmp = ((Comparable) a).compareTo(b);
+            }
+            return cmp;
+        }
+
+        private static String className(Object key) {
+            return key == null ? "" : key.getClass().getName();
+        }
+
+        private static <K, V> TreeNode<K, V> insert(TreeNode<K, V> node, TreeNode<K, V> newNode) {
+            if (node == null) {
+                return newNode;
+            }
+            if (compare(newNode, node) < 0) {
+                node.left = insert(node.left, newNode);
+            } else {
+                node.right = insert(node.right, newNode);
+            }
+            return balance(node);
+        }
+
+        private static <K, V> TreeNode<K, V> delete(TreeNode<K, V> node, TreeNode<K, V> target) {
+            if (node == target) {
+                if (node.left == null) {
+                    return node.right;
+                }
+                if (node.right == null) {
+                    return node.left;
+                }
+                TreeNode<K, V> successor = node.right;
+                while (successor.left != null) {
+                    successor = successor.left;
+                }
+                successor.right = deleteMin(node.right);
+                successor.left = node.left;
+                return balance(successor);
+            }
+            if (compare(target, node) < 0) {
+                node.left = delete(node.left, target);
+            } else {
+                node.right = delete(node.right, target);
+            }
+            return balance(node);
+        }
+
+        private static <K, V> TreeNode<K, V> deleteMin(TreeNode<K, V> node) {
+            if (node.left == null) {
+                return node.right;
+            }
+            node.left = deleteMin(node.left);
+            return balance(node);
+        }
+
+        private static <K, V> TreeNode<K, V> balance(TreeNode<K, V> node) {
+            updateHeight(node);
+            int balance = height(node.left) - height(node.right);
+            if (balance > 1) {
+                if (height(node.left.left) < height(node.left.right)) {
+                    node.left = rotateLeft(node.left);
+                }
+                return rotateRight(node);
+            }
+            if (balance < -1) {
+                if (height(node.right.right) < height(node.right.left)) {
+                    node.right = rotateRight(node.right);
+                }
+                return rotateLeft(node);
+            }
+            return node;
+        }
+
+        private static <K, V> TreeNode<K, V> rotateLeft(TreeNode<K, V> node) {
+            TreeNode<K, V> right = node.right;
+            node.right = right.left;
+            right.left = node;
+            updateHeight(node);
+            updateHeight(right);
+            return right;
+        }
+
+        private static <K, V> TreeNode<K, V> rotateRight(TreeNode<K, V> node) {
+            TreeNode<K, V> left = node.left;
+            node.left = left.right;
+            left.right = node;
+            updateHeight(node);
+            updateHeight(left);
+            return left;
+        }
+
+        private static void updateHeight(TreeNode<?, ?> node) {
+            node.height = Math.max(height(node.left), height(node.right)) + 1;
+        }
+
+        private static int height(TreeNode<?, ?> node) {
+            return node == null ? 0 : node.height;
+        }
+    }
+
+    /**
+     * The entry of a tree bin.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static final class TreeNode<K, V> extends Entry<K, V> {
+        private TreeNode<K, V> left;
+        private TreeNode<K, V> right;
+        private TreeNode<K, V> prev;
+        private int height = 1;
+        private long sequence;
+
+        private TreeNode(int hash, K key, V value) {
+            super(hash, key, value);
+        }
+    }
+
     private int hash(Object key) {
         return key == null ? 0 : key.hashCode();
     }
@@ -303,9 +884,23 @@ public class HashMap<K, V> implements Map<K, V> {
      */
     @Override
     public Iterator<Map.Entry<K, V>> iterator() {
+        // the iterator walks a single buckets array
+        completeMigration();
         return new MapIterator();
     }
 
+    /**
+     * Initialize the spliterator, it splits the bucket range in halves.
+     *
+     * @return the BucketSpliterator instance
+     */
+    @Override
+    public Spliterator<Map.Entry<K, V>> spliterator() {
+        // the spliterator walks a single buckets array
+        completeMigration();
+        return new BucketSpliterator<>(buckets, 0, buckets.length, size);
+    }
+
     /**
      * The type MapIterator.
      */
@@ -323,7 +918,7 @@ public class HashMap<K, V> implements Map<K, V> {
         @Override
         public boolean hasNext() {
             while (bucketIndex < buckets.length && current == null) {
-                current = buckets[bucketIndex];
+                current = firstEntry(buckets[bucketIndex]);
                 bucketIndex++;
             }
             return current != null;
@@ -358,4 +953,232 @@ public class HashMap<K, V> implements Map<K, V> {
             canRemove = false;
         }
     }
+
+    /**
+     * The type BucketSpliterator, it traverses the bucket range of the array captured at creation.
+     * The number of entries in a half of the range is not known, so only the unsplit spliterator is SIZED,
+     * the parts estimate half of the entries each.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static final class BucketSpliterator<K, V> implements Spliterator<Map.Entry<K, V>> {
+        private final Entry<K, V>[] table;
+        private int index;
+        private final int fence;
+        private int estimate;
+        private boolean sized = true;
+        private Entry<K, V> current;
+
+        private BucketSpliterator(Entry<K, V>[] table, int index, int fence, int estimate) {
+            this.table = table;
+            this.index = index;
+            this.fence = fence;
+            this.estimate = estimate;
+        }
+
+        /**
+         * Gives away the first half of the remaining buckets.
+         *
+         * @return the spliterator or null if the range can't be split
+         */
+        @Override
+        public Spliterator<Map.Entry<K, V>> trySplit() {
+            int from = index;
+            int middle = (from + fence) >>> 1;
+            if (from >= middle || current != null) {
+                return null;
+            }
+            index = middle;
+            estimate >>>= 1;
+            sized = false;
+            BucketSpliterator<K, V> prefix = new BucketSpliterator<>(table, from, middle, estimate);
+            prefix.sized = false;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Map.Entry<K, V>> action) {
+            while (current == null && index < fence) {
+                current = firstEntry(table[index++]);
+            }
+            if (current == null) {
+                return false;
+            }
+            Entry<K, V> entry = current;
+            current = entry.next;
+            action.accept(entry);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Map.Entry<K, V>> action) {
+            Entry<K, V> entry = current;
+            current = null;
+            int i = index;
+            index = fence;
+            while (true) {
+                for (; entry != null; entry = entry.next) {
+                    action.accept(entry);
+                }
+                if (i >= fence) {
+                    return;
+                }
+                entry = firstEntry(table[i++]);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return sized ? DISTINCT | SIZED : DISTINCT;
+        }
+    }
+
+    /**
+     * The type ForEachTask, it halves its bucket range while the batch allows and processes the rest in place.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    @SuppressWarnings("serial")
+    private static final class ForEachTask<K, V> extends RecursiveAction {
+        private final Entry<K, V>[] table;
+        private final int from;
+        private final int to;
+        private final int batch;
+        private final BiConsumer<? super K, ? super V> action;
+
+        private ForEachTask(Entry<K, V>[] table, int from, int to, int batch, BiConsumer<? super K, ? super V> action) {
+            this.table = table;
+            this.from = from;
+            this.to = to;
+            this.batch = batch;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (batch > 0 && to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ForEachTask<>(table, from, middle, batch >>> 1, action),
+                        new ForEachTask<>(table, middle, to, batch >>> 1, action));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                for (Entry<K, V> entry = firstEntry(table[i]); entry != null; entry = entry.next) {
+                    action.accept(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * The type ReduceTask, it reduces its bucket range and combines the results of both halves.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     * @param <U> the result type
+     */
+    @SuppressWarnings("serial")
+    private static final class ReduceTask<K, V, U> extends RecursiveTask<U> {
+        private final Entry<K, V>[] table;
+        private final int from;
+        private final int to;
+        private final int batch;
+        private final BiFunction<? super K, ? super V, ? extends U> transformer;
+        private final BiFunction<? super U, ? super U, ? extends U> reducer;
+
+        private ReduceTask(Entry<K, V>[] table, int from, int to, int batch,
+                           BiFunction<? super K, ? super V, ? extends U> transformer,
+                           BiFunction<? super U, ? super U, ? extends U> reducer) {
+            this.table = table;
+            this.from = from;
+            this.to = to;
+            this.batch = batch;
+            this.transformer = transformer;
+            this.reducer = reducer;
+        }
+
+        @Override
+        protected U compute() {
+            if (batch > 0 && to - from > 1) {
+                int middle = (from + to) >>> 1;
+                ReduceTask<K, V, U> right = new ReduceTask<>(table, middle, to, batch >>> 1, transformer, reducer);
+                right.fork();
+                U left = new ReduceTask<>(table, from, middle, batch >>> 1, transformer, reducer).compute();
+                return combine(left, right.join());
+            }
+            U result = null;
+            for (int i = from; i < to; i++) {
+                for (Entry<K, V> entry = firstEntry(table[i]); entry != null; entry = entry.next) {
+                    result = combine(result, transformer.apply(entry.getKey(), entry.getValue()));
+                }
+            }
+            return result;
+        }
+
+        private U combine(U left, U right) {
+            if (left == null) {
+                return right;
+            }
+            return right == null ? left : reducer.apply(left, right);
+        }
+    }
+
+    /**
+     * The type SearchTask, it searches its bucket range until any task publishes a result.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     * @param <U> the result type
+     */
+    @SuppressWarnings("serial")
+    private static final class SearchTask<K, V, U> extends RecursiveAction {
+        private final Entry<K, V>[] table;
+        private final int from;
+        private final int to;
+        private final int batch;
+        private final BiFunction<? super K, ? super V, ? extends U> searchFunction;
+        private final AtomicReference<U> result;
+
+        private SearchTask(Entry<K, V>[] table, int from, int to, int batch,
+                           BiFunction<? super K, ? super V, ? extends U> searchFunction, AtomicReference<U> result) {
+            this.table = table;
+            this.from = from;
+            this.to = to;
+            this.batch = batch;
+            this.searchFunction = searchFunction;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            if (result.get() != null) {
+                return;
+            }
+            if (batch > 0 && to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new SearchTask<>(table, from, middle, batch >>> 1, searchFunction, result),
+                        new SearchTask<>(table, middle, to, batch >>> 1, searchFunction, result));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                if (result.get() != null) {
+                    return;
+                }
+                for (Entry<K, V> entry = firstEntry(table[i]); entry != null; entry = entry.next) {
+                    U found = searchFunction.apply(entry.getKey(), entry.getValue());
+                    if (found != null) {
+                        result.compareAndSet(null, found);
+                        return;
+                    }
+                }
+            }
+        }
+    }
 }
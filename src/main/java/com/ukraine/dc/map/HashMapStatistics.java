@@ -0,0 +1,146 @@
+package com.ukraine.dc.map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * The type HashMapStatistics, it is created by {@link HashMap#enableStatistics()}.
+ * The counters of get hits and misses and of resizes are updated by the map, the table structure
+ * (capacity, chain lengths, empty buckets) is scanned on every read of such attribute, which costs O(capacity).
+ * The map is not thread-safe, so the numbers read from another thread, e.g. by JMX, are approximate
+ * while the map is changed.
+ */
+public class HashMapStatistics implements HashMapStatisticsMBean {
+    // chains of TREEIFY_THRESHOLD entries are turned into trees, so they share the last slot
+    private static final int HISTOGRAM_SIZE = 9;
+    private final HashMap<?, ?> map;
+    private long getHits;
+    private long getMisses;
+    private long resizeCount;
+    private long resizeTimeNanos;
+    private ObjectName objectName;
+
+    HashMapStatistics(HashMap<?, ?> map) {
+        this.map = map;
+    }
+
+    void recordGet(boolean hit) {
+        if (hit) {
+            getHits++;
+        } else {
+            getMisses++;
+        }
+    }
+
+    void recordResize(long nanos) {
+        resizeCount++;
+        resizeTimeNanos += nanos;
+    }
+
+    void recordMigration(long nanos) {
+        resizeTimeNanos += nanos;
+    }
+
+    @Override
+    public int getSize() {
+        return map.size();
+    }
+
+    @Override
+    public int getCapacity() {
+        return map.capacity();
+    }
+
+    @Override
+    public double getLoadFactor() {
+        return (double) map.size() / map.capacity();
+    }
+
+    @Override
+    public long[] getChainLengthHistogram() {
+        long[] histogram = new long[HISTOGRAM_SIZE];
+        map.scanChains(histogram);
+        return histogram;
+    }
+
+    @Override
+    public int getMaxChainLength() {
+        return map.scanChains(new long[HISTOGRAM_SIZE]);
+    }
+
+    @Override
+    public long getEmptyBuckets() {
+        return getChainLengthHistogram()[0];
+    }
+
+    @Override
+    public long getResizeCount() {
+        return resizeCount;
+    }
+
+    @Override
+    public long getResizeTimeNanos() {
+        return resizeTimeNanos;
+    }
+
+    @Override
+    public long getGetHits() {
+        return getHits;
+    }
+
+    @Override
+    public long getGetMisses() {
+        return getMisses;
+    }
+
+    /**
+     * Resets the counters, the structure of the table is not affected.
+     */
+    @Override
+    public void reset() {
+        getHits = 0;
+        getMisses = 0;
+        resizeCount = 0;
+        resizeTimeNanos = 0;
+    }
+
+    /**
+     * Registers the statistics in the platform MBean server as com.ukraine.dc.map:type=HashMap,name=name.
+     *
+     * @param name the name of the map
+     * @return the ObjectName of the registered bean
+     */
+    public synchronized ObjectName register(String name) {
+        if (objectName != null) {
+            throw new IllegalStateException("The statistics are already registered as " + objectName);
+        }
+        try {
+            ObjectName newName = new ObjectName("com.ukraine.dc.map:type=HashMap,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, newName);
+            objectName = newName;
+            return newName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register the statistics of the map " + name, e);
+        }
+    }
+
+    /**
+     * Removes the statistics from the platform MBean server, if they are registered.
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            objectName = null;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister the statistics " + objectName, e);
+        }
+    }
+}
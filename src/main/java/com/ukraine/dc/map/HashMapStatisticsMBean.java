@@ -0,0 +1,32 @@
+package com.ukraine.dc.map;
+
+/**
+ * The management interface of {@link HashMapStatistics}, exported through JMX.
+ */
+public interface HashMapStatisticsMBean {
+
+    int getSize();
+
+    int getCapacity();
+
+    // size / capacity, compared with the configured load factor it shows how close the next resize is
+    double getLoadFactor();
+
+    // slot i is the number of buckets with a chain of i entries, the last slot counts the longer chains
+    long[] getChainLengthHistogram();
+
+    int getMaxChainLength();
+
+    long getEmptyBuckets();
+
+    long getResizeCount();
+
+    // the time of the resizes and, in the incremental mode, of the migration steps
+    long getResizeTimeNanos();
+
+    long getGetHits();
+
+    long getGetMisses();
+
+    void reset();
+}
@@ -0,0 +1,291 @@
+package com.ukraine.dc.map;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+/**
+ * The type Int2ObjectHashMap, an open addressing map with primitive int keys.
+ * Keys are stored in int[] with 0 as the free slot marker, the mapping for the key 0 itself is kept aside.
+ * Lookups, updates and removals allocate nothing: keys are never boxed and there is no entry object.
+ * Collisions are resolved with linear probing, removal shifts the rest of the cluster back.
+ *
+ * @param <V> the value
+ */
+public class Int2ObjectHashMap<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int FREE_KEY = 0;
+    private final double loadFactor;
+    private int[] keys;
+    private Object[] values;
+    private boolean hasFreeKey;
+    private V freeKeyValue;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    /**
+     * Initialize Int2ObjectHashMap with default capacity and load factor.
+     */
+    public Int2ObjectHashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Initialize Int2ObjectHashMap with custom capacity.
+     *
+     * @param capacity the capacity
+     */
+    public Int2ObjectHashMap(int capacity) {
+        this(capacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Initialize Int2ObjectHashMap with custom capacity and load factor.
+     *
+     * @param capacity   the expected number of mappings
+     * @param loadFactor the load factor, should be from 0 to 1 exclusive
+     */
+    public Int2ObjectHashMap(int capacity, double loadFactor) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Incorrect capacity: " + capacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Incorrect load factor, it should be from 0 to 1 exclusive: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor((int) Math.min(Math.ceil(capacity / loadFactor), MAXIMUM_CAPACITY)));
+    }
+
+    /**
+     * Puts new element by its key.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the previous value if the key was present, otherwise the value
+     */
+    public V put(int key, V value) {
+        if (key == FREE_KEY) {
+            if (hasFreeKey) {
+                V prevValue = freeKeyValue;
+                freeKeyValue = value;
+                return prevValue;
+            }
+            hasFreeKey = true;
+            freeKeyValue = value;
+            size++;
+            return value;
+        }
+        int slot = findSlot(key);
+        if (keys[slot] == key) {
+            V prevValue = valueAt(slot);
+            values[slot] = value;
+            return prevValue;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= threshold) {
+            resize();
+        }
+        return value;
+    }
+
+    /**
+     * Gets the value by its key.
+     *
+     * @param key the key
+     * @return the value or null
+     */
+    public V get(int key) {
+        if (key == FREE_KEY) {
+            return freeKeyValue;
+        }
+        int slot = findSlot(key);
+        return keys[slot] == key ? valueAt(slot) : null;
+    }
+
+    /**
+     * Checks if map contains such key or not.
+     *
+     * @param key the key
+     * @return the boolean value
+     */
+    public boolean containsKey(int key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey;
+        }
+        return keys[findSlot(key)] == key;
+    }
+
+    /**
+     * Removes the mapping by its key.
+     *
+     * @param key the key
+     * @return the value or null
+     */
+    public V remove(int key) {
+        if (key == FREE_KEY) {
+            V prevValue = freeKeyValue;
+            if (hasFreeKey) {
+                hasFreeKey = false;
+                freeKeyValue = null;
+                size--;
+            }
+            return prevValue;
+        }
+        int slot = findSlot(key);
+        if (keys[slot] != key) {
+            return null;
+        }
+        V prevValue = valueAt(slot);
+        deleteSlot(slot);
+        size--;
+        return prevValue;
+    }
+
+    /**
+     * Returns the current size.
+     *
+     * @return the int value
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the collection empty or not.
+     *
+     * @return the boolean value
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear the collection, the allocated table is kept.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        Arrays.fill(values, null);
+        hasFreeKey = false;
+        freeKeyValue = null;
+        size = 0;
+    }
+
+    /**
+     * Performs the action for each mapping, without boxing the keys.
+     *
+     * @param action the action
+     */
+    public void forEach(EntryConsumer<? super V> action) {
+        if (hasFreeKey) {
+            action.accept(FREE_KEY, freeKeyValue);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != FREE_KEY) {
+                action.accept(keys[slot], valueAt(slot));
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of the key or the free slot where the key should be placed.
+     *
+     * @param key the key, not the free key
+     * @return the slot
+     */
+    private int findSlot(int key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != FREE_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Frees the slot and moves back the following entries of the cluster which may not stay behind the gap.
+     *
+     * @param slot the slot
+     */
+    private void deleteSlot(int slot) {
+        int next = (slot + 1) & mask;
+        while (keys[next] != FREE_KEY) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[slot] = FREE_KEY;
+        values[slot] = null;
+    }
+
+    private void resize() {
+        if (keys.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("The map reached its maximum capacity " + MAXIMUM_CAPACITY);
+        }
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        // at least one slot stays free, so probing always terminates
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    /**
+     * The finalizer of MurmurHash3, every bit of the key affects the lower bits used for the slot.
+     *
+     * @param key the key
+     * @return the hash
+     */
+    private static int mix(int key) {
+        key ^= key >>> 16;
+        key *= 0x85ebca6b;
+        key ^= key >>> 13;
+        key *= 0xc2b2ae35;
+        key ^= key >>> 16;
+        return key;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Math.max(capacity + 1, 2);
+        return n >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        forEach((key, value) -> joiner.add(key + "=" + value));
+        return joiner.toString();
+    }
+
+    /**
+     * The action on a mapping with primitive key.
+     *
+     * @param <V> the value
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+}
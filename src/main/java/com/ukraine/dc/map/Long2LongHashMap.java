@@ -0,0 +1,291 @@
+package com.ukraine.dc.map;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+/**
+ * The type Long2LongHashMap, an open addressing map with primitive long keys and values.
+ * Keys are stored in long[] with 0 as the free slot marker, the mapping for the key 0 itself is kept aside.
+ * Lookups, updates and removals allocate nothing: nothing is boxed and there is no entry object.
+ * Absent keys are reported with the no entry value, chosen at construction time.
+ * Collisions are resolved with linear probing, removal shifts the rest of the cluster back.
+ */
+public class Long2LongHashMap {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final long FREE_KEY = 0;
+    private final double loadFactor;
+    private final long noEntryValue;
+    private long[] keys;
+    private long[] values;
+    private boolean hasFreeKey;
+    private long freeKeyValue;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    /**
+     * Initialize Long2LongHashMap with default capacity and load factor.
+     */
+    public Long2LongHashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, 0);
+    }
+
+    /**
+     * Initialize Long2LongHashMap with custom capacity.
+     *
+     * @param capacity the capacity
+     */
+    public Long2LongHashMap(int capacity) {
+        this(capacity, DEFAULT_LOAD_FACTOR, 0);
+    }
+
+    /**
+     * Initialize Long2LongHashMap with custom capacity, load factor and no entry value.
+     *
+     * @param capacity     the expected number of mappings
+     * @param loadFactor   the load factor, should be from 0 to 1 exclusive
+     * @param noEntryValue the value returned for absent keys
+     */
+    public Long2LongHashMap(int capacity, double loadFactor, long noEntryValue) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Incorrect capacity: " + capacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Incorrect load factor, it should be from 0 to 1 exclusive: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        this.noEntryValue = noEntryValue;
+        allocate(tableSizeFor((int) Math.min(Math.ceil(capacity / loadFactor), MAXIMUM_CAPACITY)));
+    }
+
+    /**
+     * Puts new element by its key.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the previous value if the key was present, otherwise the value
+     */
+    public long put(long key, long value) {
+        if (key == FREE_KEY) {
+            if (hasFreeKey) {
+                long prevValue = freeKeyValue;
+                freeKeyValue = value;
+                return prevValue;
+            }
+            hasFreeKey = true;
+            freeKeyValue = value;
+            size++;
+            return value;
+        }
+        int slot = findSlot(key);
+        if (keys[slot] == key) {
+            long prevValue = values[slot];
+            values[slot] = value;
+            return prevValue;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= threshold) {
+            resize();
+        }
+        return value;
+    }
+
+    /**
+     * Gets the value by its key.
+     *
+     * @param key the key
+     * @return the value or the no entry value
+     */
+    public long get(long key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey ? freeKeyValue : noEntryValue;
+        }
+        int slot = findSlot(key);
+        return keys[slot] == key ? values[slot] : noEntryValue;
+    }
+
+    /**
+     * Checks if map contains such key or not.
+     *
+     * @param key the key
+     * @return the boolean value
+     */
+    public boolean containsKey(long key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey;
+        }
+        return keys[findSlot(key)] == key;
+    }
+
+    /**
+     * Removes the mapping by its key.
+     *
+     * @param key the key
+     * @return the value or the no entry value
+     */
+    public long remove(long key) {
+        if (key == FREE_KEY) {
+            if (!hasFreeKey) {
+                return noEntryValue;
+            }
+            hasFreeKey = false;
+            size--;
+            return freeKeyValue;
+        }
+        int slot = findSlot(key);
+        if (keys[slot] != key) {
+            return noEntryValue;
+        }
+        long prevValue = values[slot];
+        deleteSlot(slot);
+        size--;
+        return prevValue;
+    }
+
+    /**
+     * Returns the current size.
+     *
+     * @return the int value
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the collection empty or not.
+     *
+     * @return the boolean value
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Clear the collection, the allocated table is kept.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        hasFreeKey = false;
+        size = 0;
+    }
+
+    /**
+     * Returns the value reported for absent keys.
+     *
+     * @return the no entry value
+     */
+    public long getNoEntryValue() {
+        return noEntryValue;
+    }
+
+    /**
+     * Performs the action for each mapping, without boxing.
+     *
+     * @param action the action
+     */
+    public void forEach(EntryConsumer action) {
+        if (hasFreeKey) {
+            action.accept(FREE_KEY, freeKeyValue);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != FREE_KEY) {
+                action.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of the key or the free slot where the key should be placed.
+     *
+     * @param key the key, not the free key
+     * @return the slot
+     */
+    private int findSlot(long key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != FREE_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Frees the slot and moves back the following entries of the cluster which may not stay behind the gap.
+     *
+     * @param slot the slot
+     */
+    private void deleteSlot(int slot) {
+        int next = (slot + 1) & mask;
+        while (keys[next] != FREE_KEY) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[slot] = FREE_KEY;
+    }
+
+    private void resize() {
+        if (keys.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("The map reached its maximum capacity " + MAXIMUM_CAPACITY);
+        }
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE_KEY) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        // at least one slot stays free, so probing always terminates
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    /**
+     * The finalizer of MurmurHash3, every bit of the key affects the lower bits used for the slot.
+     *
+     * @param key the key
+     * @return the hash
+     */
+    private static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Math.max(capacity + 1, 2);
+        return n >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        forEach((key, value) -> joiner.add(key + "=" + value));
+        return joiner.toString();
+    }
+
+    /**
+     * The action on a mapping with primitive key and value.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+}
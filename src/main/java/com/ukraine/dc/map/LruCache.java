@@ -0,0 +1,389 @@
+package com.ukraine.dc.map;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.BiConsumer;
+
+/**
+ * The type LruCache, a map bounded by the maximum size which evicts the least recently used entry.
+ * Every entry lives in a bucket chain of the hash table and, at the same time, in a doubly linked list
+ * ordered by access, from the eldest to the youngest. get() and put() move the entry to the young end,
+ * eviction unlinks the eldest one, so all of them are O(1).
+ * containsKey() and the iterator don't change the order. The iterator walks from the eldest entry.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public class LruCache<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private final int maximumSize;
+    private final BiConsumer<? super K, ? super V> evictionListener;
+    // the sentinel of the access list: head.after is the eldest entry, head.before is the youngest one
+    private final Entry<K, V> head = new Entry<>(0, null, null);
+    private Entry<K, V>[] buckets;
+    private int size;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Initialize LruCache with the maximum size.
+     *
+     * @param maximumSize the maximum number of entries
+     */
+    public LruCache(int maximumSize) {
+        this(maximumSize, (key, value) -> {
+        });
+    }
+
+    /**
+     * Initialize LruCache with the maximum size and the listener called for every evicted entry.
+     *
+     * @param maximumSize      the maximum number of entries
+     * @param evictionListener the listener, it is not called for remove() and clear()
+     */
+    public LruCache(int maximumSize, BiConsumer<? super K, ? super V> evictionListener) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Incorrect maximum size: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.evictionListener = Objects.requireNonNull(evictionListener);
+        head.before = head;
+        head.after = head;
+        buckets = newBuckets(Math.min(DEFAULT_CAPACITY, tableSizeFor(maximumSize)));
+    }
+
+    /**
+     * Puts new element by its key and makes it the youngest one. If the cache is full, the eldest entry is evicted.
+     *
+     * @param key   the unique value
+     * @param value the value
+     * @return the previous value if the key was present, otherwise the value
+     */
+    @Override
+    public V put(K key, V value) {
+        int hash = hash(key);
+        Entry<K, V> entry = find(hash, key);
+        if (entry != null) {
+            V prevValue = entry.value;
+            entry.value = value;
+            moveToYoungest(entry);
+            return prevValue;
+        }
+        if (size >= buckets.length * LOAD_FACTOR && buckets.length < MAXIMUM_CAPACITY) {
+            expandBuckets();
+        }
+        entry = new Entry<>(hash, key, value);
+        int index = hash & (buckets.length - 1);
+        entry.next = buckets[index];
+        buckets[index] = entry;
+        linkYoungest(entry);
+        size++;
+        if (size > maximumSize) {
+            evictEldest();
+        }
+        return value;
+    }
+
+    /**
+     * Gets the data by its unique key and makes the entry the youngest one.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V get(K key) {
+        Entry<K, V> entry = find(hash(key), key);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        moveToYoungest(entry);
+        return entry.value;
+    }
+
+    /**
+     * Returns the current size.
+     *
+     * @return the int value
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if map contains such key or not, the access order is not changed.
+     *
+     * @param key the key
+     * @return the boolean value
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return find(hash(key), key) != null;
+    }
+
+    /**
+     * Removes data by its key.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V remove(K key) {
+        Entry<K, V> entry = find(hash(key), key);
+        if (entry == null) {
+            return null;
+        }
+        removeEntry(entry);
+        return entry.value;
+    }
+
+    /**
+     * Clear the collection, the counters are kept.
+     */
+    @Override
+    public void clear() {
+        buckets = newBuckets(Math.min(DEFAULT_CAPACITY, tableSizeFor(maximumSize)));
+        head.before = head;
+        head.after = head;
+        size = 0;
+    }
+
+    /**
+     * Checks if the collection empty or not.
+     *
+     * @return the boolean value
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return the int value
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of get() calls which found the key.
+     *
+     * @return the long value
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of get() calls which didn't find the key.
+     *
+     * @return the long value
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries evicted because the cache was full.
+     *
+     * @return the long value
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private Entry<K, V> find(int hash, K key) {
+        for (Entry<K, V> entry = buckets[hash & (buckets.length - 1)]; entry != null; entry = entry.next) {
+            if (entry.hash == hash && Objects.equals(entry.key, key)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private void evictEldest() {
+        Entry<K, V> eldest = head.after;
+        removeEntry(eldest);
+        evictionCount++;
+        evictionListener.accept(eldest.key, eldest.value);
+    }
+
+    /**
+     * Unlinks the entry from its bucket chain and from the access list.
+     *
+     * @param entry the entry
+     */
+    private void removeEntry(Entry<K, V> entry) {
+        int index = entry.hash & (buckets.length - 1);
+        Entry<K, V> prev = null;
+        for (Entry<K, V> current = buckets[index]; current != entry; current = current.next) {
+            prev = current;
+        }
+        if (prev == null) {
+            buckets[index] = entry.next;
+        } else {
+            prev.next = entry.next;
+        }
+        entry.next = null;
+        unlink(entry);
+        size--;
+    }
+
+    private void moveToYoungest(Entry<K, V> entry) {
+        if (head.before != entry) {
+            unlink(entry);
+            linkYoungest(entry);
+        }
+    }
+
+    private void linkYoungest(Entry<K, V> entry) {
+        Entry<K, V> youngest = head.before;
+        entry.before = youngest;
+        entry.after = head;
+        youngest.after = entry;
+        head.before = entry;
+    }
+
+    private static <K, V> void unlink(Entry<K, V> entry) {
+        entry.before.after = entry.after;
+        entry.after.before = entry.before;
+    }
+
+    /**
+     * Doubles the buckets array, the entries are relinked by the access list, so it stays untouched.
+     */
+    private void expandBuckets() {
+        Entry<K, V>[] newBuckets = newBuckets(buckets.length * 2);
+        int mask = newBuckets.length - 1;
+        for (Entry<K, V> entry = head.after; entry != head; entry = entry.after) {
+            int index = entry.hash & mask;
+            entry.next = newBuckets[index];
+            newBuckets[index] = entry;
+        }
+        buckets = newBuckets;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K, V> Entry<K, V>[] newBuckets(int capacity) {
+        return new Entry[capacity];
+    }
+
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int maximumSize) {
+        long n = Math.max((long) Math.ceil(maximumSize / LOAD_FACTOR), 2);
+        return n >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit((int) n - 1) << 1;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Map.Entry<K, V> entry : this) {
+            joiner.add(entry.toString());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Initialize map iterator, it walks from the eldest entry to the youngest one.
+     *
+     * @return the Iterator impl
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new MapIterator();
+    }
+
+    /**
+     * The type Entry, a node of the bucket chain and of the access list.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static class Entry<K, V> implements Map.Entry<K, V> {
+        private final int hash;
+        private final K key;
+        private V value;
+        private Entry<K, V> next;
+        private Entry<K, V> before;
+        private Entry<K, V> after;
+
+        private Entry(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * The type MapIterator.
+     */
+    private class MapIterator implements Iterator<Map.Entry<K, V>> {
+        private Entry<K, V> nextEntry = head.after;
+        private Entry<K, V> lastReturned;
+
+        /**
+         * The method checks if map has one more element.
+         *
+         * @return the boolean value.
+         */
+        @Override
+        public boolean hasNext() {
+            return nextEntry != head;
+        }
+
+        /**
+         * The method based on hasNext() return element of the collection.
+         *
+         * @return the Entry instance
+         */
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastReturned = nextEntry;
+            nextEntry = nextEntry.after;
+            return lastReturned;
+        }
+
+        /**
+         * The method based on hasNext() and next() methods removes data.
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            removeEntry(lastReturned);
+            lastReturned = null;
+        }
+    }
+}
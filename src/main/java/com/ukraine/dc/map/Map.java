@@ -1,6 +1,10 @@
 package com.ukraine.dc.map;
 
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The map interface.
@@ -27,6 +31,20 @@ public interface Map<K, V> extends Iterable<Map.Entry<K, V>> {
         throw new UnsupportedOperationException();
     }
 
+    // DISTINCT and SIZED, the map must not be changed while it is traversed
+    default Spliterator<Map.Entry<K, V>> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT);
+    }
+
+    default Stream<Map.Entry<K, V>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    // the entries are processed by the common ForkJoinPool, the parts come from spliterator().trySplit()
+    default Stream<Map.Entry<K, V>> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     interface Entry<K, V> {
         K getKey();
 
@@ -0,0 +1,749 @@
+package com.ukraine.dc.map;
+
+import com.ukraine.dc.offheap.OffHeapMemory;
+import com.ukraine.dc.offheap.Serializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * The HashMap which lives in memory-mapped files, so it survives restarts without being rebuilt.
+ * The index file holds the header and the table of slots made of the cached hash and the address of the entry,
+ * collisions are resolved with linear probing, removal shifts the rest of the cluster back.
+ * The data file holds the serialized entries appended one after another, it is mapped by segments on demand,
+ * so opening an existing map reads nothing but the header and pages are loaded lazily on access.
+ * Growing the table and compacting the data file build new files next to the old ones and switch to them
+ * by renaming the index file, the rename is the commit point.
+ * Changes reach the disk when the OS writes the pages back, {@link #force()} and {@link #close()} make them durable.
+ * A crash between force() calls may leave a partially written state.
+ * <p>
+ * On-disk layout of the index file, all numbers are big-endian:
+ * <pre>
+ * 0  int    magic
+ * 4  int    version
+ * 8  int    capacity, the number of slots
+ * 12 int    size
+ * 16 long   end of the data file
+ * 24 long   live bytes of the data file
+ * 32 long   garbage bytes of the data file
+ * 40 double load factor
+ * 48 int    generation, the suffix of the data file name
+ * 64 slots  int hash (0 for an empty slot), long address of the entry
+ * </pre>
+ * An entry of the data file is int key size, int value size (-1 for null), key bytes, value bytes.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public class MappedHashMap<K, V> implements Map<K, V>, AutoCloseable {
+    private static final int MAGIC = 0x4D484D31;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    private static final int DATA_END_OFFSET = 16;
+    private static final int LIVE_BYTES_OFFSET = 24;
+    private static final int GARBAGE_BYTES_OFFSET = 32;
+    private static final int LOAD_FACTOR_OFFSET = 40;
+    private static final int GENERATION_OFFSET = 48;
+    private static final int SLOT_SIZE = Integer.BYTES + Long.BYTES;
+    private static final int ADDRESS_OFFSET = Integer.BYTES;
+    private static final int ENTRY_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int SEGMENT_SIZE = 1 << 24;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int MAXIMUM_CAPACITY = 1 << 27;
+    private static final int EMPTY = 0;
+    private static final int NULL_SIZE = -1;
+    private final Path path;
+    private final Serializer<K> keySerializer;
+    private final Serializer<V> valueSerializer;
+    private final double loadFactor;
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private DataFile data;
+    private int generation;
+    private int mask;
+    private int threshold;
+    private int size;
+    private long liveBytes;
+    private long garbageBytes;
+
+    /**
+     * Opens the map stored in the file or creates a new one with default capacity and load factor.
+     *
+     * @param path            the index file, the data file is created next to it
+     * @param keySerializer   the key serializer
+     * @param valueSerializer the value serializer
+     */
+    public MappedHashMap(Path path, Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+        this(path, keySerializer, valueSerializer, DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Opens the map stored in the file or creates a new one with custom capacity and load factor.
+     * The capacity and the load factor of an existing map are read from the file.
+     *
+     * @param path            the index file, the data file is created next to it
+     * @param keySerializer   the key serializer
+     * @param valueSerializer the value serializer
+     * @param capacity        the capacity, rounded up to the power of two
+     * @param loadFactor      the load factor, should be from 0 to 1 exclusive
+     */
+    public MappedHashMap(Path path, Serializer<K> keySerializer, Serializer<V> valueSerializer,
+                         int capacity, double loadFactor) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Incorrect capacity: " + capacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Incorrect load factor, it should be from 0 to 1 exclusive: " + loadFactor);
+        }
+        this.path = path;
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        try {
+            if (Files.exists(path)) {
+                this.loadFactor = open();
+            } else {
+                this.loadFactor = loadFactor;
+                create(tableSizeFor(capacity));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Puts new element by its key.
+     *
+     * @param key   the unique value
+     * @param value the value
+     * @return the previous value if the key was present, otherwise the value
+     */
+    @Override
+    public V put(K key, V value) {
+        ensureOpen();
+        if (size >= threshold) {
+            rebuild(Math.min((mask + 1) * 2, MAXIMUM_CAPACITY), false);
+        }
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        long address = writeEntry(key, value);
+        if (hashAt(slot) != EMPTY) {
+            long prevAddress = addressAt(slot);
+            V prevValue = readValue(prevAddress);
+            release(prevAddress);
+            index.putLong(slotOffset(slot) + ADDRESS_OFFSET, address);
+            writeHeader();
+            compactIfNeeded();
+            return prevValue;
+        }
+        place(slot, hash, address);
+        size++;
+        writeHeader();
+        return value;
+    }
+
+    /**
+     * Gets the data by its unique key.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V get(K key) {
+        ensureOpen();
+        int slot = findSlot(key, hash(key));
+        return hashAt(slot) == EMPTY ? null : readValue(addressAt(slot));
+    }
+
+    /**
+     * Returns the current size.
+     *
+     * @return the int value
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if map contains such key or not.
+     *
+     * @param key the key
+     * @return the boolean value
+     */
+    @Override
+    public boolean containsKey(K key) {
+        ensureOpen();
+        return hashAt(findSlot(key, hash(key))) != EMPTY;
+    }
+
+    /**
+     * Removes data by its key.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V remove(K key) {
+        ensureOpen();
+        int slot = findSlot(key, hash(key));
+        if (hashAt(slot) == EMPTY) {
+            return null;
+        }
+        V prevValue = readValue(addressAt(slot));
+        deleteSlot(slot);
+        compactIfNeeded();
+        return prevValue;
+    }
+
+    /**
+     * Clear the collection, the table keeps its capacity and the data file is truncated.
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        for (int slot = 0; slot <= mask; slot++) {
+            index.putInt(slotOffset(slot), EMPTY);
+        }
+        data.truncate();
+        size = 0;
+        liveBytes = 0;
+        garbageBytes = 0;
+        writeHeader();
+    }
+
+    /**
+     * Checks if the collection empty or not.
+     *
+     * @return the boolean value
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Writes all the changes to the disk, the map on disk is consistent when the method returns.
+     */
+    public void force() {
+        ensureOpen();
+        data.force();
+        index.force();
+    }
+
+    /**
+     * Forces the changes and unmaps the files, the map can't be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (index == null) {
+            return;
+        }
+        force();
+        try {
+            data.close();
+            OffHeapMemory.release(index);
+            indexChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            index = null;
+            data = null;
+        }
+    }
+
+    private double open() throws IOException {
+        indexChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (indexChannel.size() < HEADER_SIZE) {
+            indexChannel.close();
+            throw new IllegalArgumentException("Not a MappedHashMap file: " + path);
+        }
+        MappedByteBuffer header = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        int capacity = header.getInt(CAPACITY_OFFSET);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION
+                || indexChannel.size() < slotOffset(capacity)) {
+            OffHeapMemory.release(header);
+            indexChannel.close();
+            throw new IllegalArgumentException("Not a MappedHashMap file: " + path);
+        }
+        OffHeapMemory.release(header);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, slotOffset(capacity));
+        mask = capacity - 1;
+        size = index.getInt(SIZE_OFFSET);
+        liveBytes = index.getLong(LIVE_BYTES_OFFSET);
+        garbageBytes = index.getLong(GARBAGE_BYTES_OFFSET);
+        generation = index.getInt(GENERATION_OFFSET);
+        double storedLoadFactor = index.getDouble(LOAD_FACTOR_OFFSET);
+        threshold = thresholdFor(capacity, storedLoadFactor);
+        data = new DataFile(dataPath(generation), index.getLong(DATA_END_OFFSET));
+        return storedLoadFactor;
+    }
+
+    private void create(int capacity) throws IOException {
+        Files.deleteIfExists(dataPath(0));
+        Path tmp = tmpPath();
+        FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, slotOffset(capacity));
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+        buffer.putDouble(LOAD_FACTOR_OFFSET, loadFactor);
+        buffer.force();
+        Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        indexChannel = channel;
+        index = buffer;
+        mask = capacity - 1;
+        threshold = thresholdFor(capacity, loadFactor);
+        data = new DataFile(dataPath(0), 0);
+    }
+
+    /**
+     * Builds the new index file, and the new data file with the live entries only when compacting,
+     * then switches to them by renaming the new index file over the current one.
+     *
+     * @param capacity the capacity of the new table
+     * @param compact  the compaction flag
+     */
+    private void rebuild(int capacity, boolean compact) {
+        if (capacity == mask + 1 && !compact) {
+            throw new IllegalStateException("The map reached its maximum capacity " + MAXIMUM_CAPACITY);
+        }
+        int newGeneration = compact ? generation + 1 : generation;
+        Path tmp = tmpPath();
+        try {
+            DataFile newData = compact ? new DataFile(dataPath(newGeneration), 0) : data;
+            FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, slotOffset(capacity));
+            int newMask = capacity - 1;
+            long newLiveBytes = 0;
+            long newGarbageBytes = garbageBytes;
+            for (int slot = 0; slot <= mask; slot++) {
+                int hash = hashAt(slot);
+                if (hash == EMPTY) {
+                    continue;
+                }
+                long address = addressAt(slot);
+                if (compact) {
+                    int entrySize = entrySize(address);
+                    long newAddress = newData.append(entrySize);
+                    newData.copy(data, address, newAddress, entrySize);
+                    address = newAddress;
+                    newLiveBytes += entrySize;
+                }
+                int newSlot = hash & newMask;
+                while (buffer.getInt(slotOffset(newSlot)) != EMPTY) {
+                    newSlot = (newSlot + 1) & newMask;
+                }
+                buffer.putInt(slotOffset(newSlot), hash);
+                buffer.putLong(slotOffset(newSlot) + ADDRESS_OFFSET, address);
+            }
+            if (compact) {
+                newGarbageBytes = newData.tailGarbage;
+            } else {
+                newLiveBytes = liveBytes;
+            }
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(CAPACITY_OFFSET, capacity);
+            buffer.putDouble(LOAD_FACTOR_OFFSET, loadFactor);
+            buffer.putInt(GENERATION_OFFSET, newGeneration);
+            writeHeader(buffer, size, newData.end, newLiveBytes, newGarbageBytes);
+            newData.force();
+            buffer.force();
+            Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            OffHeapMemory.release(index);
+            indexChannel.close();
+            if (compact) {
+                data.close();
+                Files.deleteIfExists(dataPath(generation));
+                data = newData;
+            }
+            indexChannel = channel;
+            index = buffer;
+            generation = newGeneration;
+            mask = newMask;
+            threshold = thresholdFor(capacity, loadFactor);
+            liveBytes = newLiveBytes;
+            garbageBytes = newGarbageBytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (garbageBytes > liveBytes && garbageBytes >= SEGMENT_SIZE) {
+            rebuild(mask + 1, true);
+        }
+    }
+
+    /**
+     * Returns the slot of the key or the empty slot where the key should be placed.
+     *
+     * @param key  the key
+     * @param hash the hash of the key
+     * @return the slot
+     */
+    private int findSlot(K key, int hash) {
+        int slot = hash & mask;
+        int slotHash;
+        while ((slotHash = hashAt(slot)) != EMPTY) {
+            if (slotHash == hash && Objects.equals(readKey(addressAt(slot)), key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Releases the entry in the slot and moves back the following entries of the cluster
+     * which may not stay behind the gap.
+     *
+     * @param slot the slot
+     */
+    private void deleteSlot(int slot) {
+        release(addressAt(slot));
+        int next = (slot + 1) & mask;
+        int nextHash;
+        while ((nextHash = hashAt(next)) != EMPTY) {
+            int home = nextHash & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                place(slot, nextHash, addressAt(next));
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        index.putInt(slotOffset(slot), EMPTY);
+        size--;
+        writeHeader();
+    }
+
+    private void place(int slot, int hash, long address) {
+        index.putInt(slotOffset(slot), hash);
+        index.putLong(slotOffset(slot) + ADDRESS_OFFSET, address);
+    }
+
+    private long writeEntry(K key, V value) {
+        int keySize = key == null ? NULL_SIZE : keySerializer.sizeOf(key);
+        int valueSize = value == null ? NULL_SIZE : valueSerializer.sizeOf(value);
+        int entrySize = ENTRY_HEADER_SIZE + Math.max(keySize, 0) + Math.max(valueSize, 0);
+        long end = data.end;
+        long address = data.append(entrySize);
+        garbageBytes += address - end;
+        liveBytes += entrySize;
+        ByteBuffer segment = data.segment(address);
+        int offset = DataFile.offset(address);
+        segment.putInt(offset, keySize);
+        segment.putInt(offset + Integer.BYTES, valueSize);
+        if (key != null) {
+            keySerializer.write(key, segment, offset + ENTRY_HEADER_SIZE);
+        }
+        if (value != null) {
+            valueSerializer.write(value, segment, offset + ENTRY_HEADER_SIZE + Math.max(keySize, 0));
+        }
+        return address;
+    }
+
+    private K readKey(long address) {
+        ByteBuffer segment = data.segment(address);
+        int offset = DataFile.offset(address);
+        int keySize = segment.getInt(offset);
+        return keySize == NULL_SIZE ? null : keySerializer.read(segment, offset + ENTRY_HEADER_SIZE, keySize);
+    }
+
+    private V readValue(long address) {
+        ByteBuffer segment = data.segment(address);
+        int offset = DataFile.offset(address);
+        int keySize = Math.max(segment.getInt(offset), 0);
+        int valueSize = segment.getInt(offset + Integer.BYTES);
+        return valueSize == NULL_SIZE ? null : valueSerializer.read(segment, offset + ENTRY_HEADER_SIZE + keySize, valueSize);
+    }
+
+    private int entrySize(long address) {
+        ByteBuffer segment = data.segment(address);
+        int offset = DataFile.offset(address);
+        return ENTRY_HEADER_SIZE + Math.max(segment.getInt(offset), 0) + Math.max(segment.getInt(offset + Integer.BYTES), 0);
+    }
+
+    private void release(long address) {
+        int entrySize = entrySize(address);
+        liveBytes -= entrySize;
+        garbageBytes += entrySize;
+    }
+
+    private void writeHeader() {
+        writeHeader(index, size, data.end, liveBytes, garbageBytes);
+    }
+
+    private static void writeHeader(ByteBuffer buffer, int size, long dataEnd, long liveBytes, long garbageBytes) {
+        buffer.putInt(SIZE_OFFSET, size);
+        buffer.putLong(DATA_END_OFFSET, dataEnd);
+        buffer.putLong(LIVE_BYTES_OFFSET, liveBytes);
+        buffer.putLong(GARBAGE_BYTES_OFFSET, garbageBytes);
+    }
+
+    private int hashAt(int slot) {
+        return index.getInt(slotOffset(slot));
+    }
+
+    private long addressAt(int slot) {
+        return index.getLong(slotOffset(slot) + ADDRESS_OFFSET);
+    }
+
+    private void ensureOpen() {
+        if (index == null) {
+            throw new IllegalStateException("The map is closed");
+        }
+    }
+
+    private Path dataPath(int generation) {
+        return path.resolveSibling(path.getFileName() + ".data" + generation);
+    }
+
+    private Path tmpPath() {
+        return path.resolveSibling(path.getFileName() + ".tmp");
+    }
+
+    private static int slotOffset(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private static int thresholdFor(int capacity, double loadFactor) {
+        // at least one slot stays empty, so probing always terminates
+        return Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    /**
+     * Spreads higher bits of the hash code downwards, as the slot is taken from the lower bits only.
+     * Zero marks an empty slot, so it is never returned.
+     *
+     * @param key the key
+     * @return the hash
+     */
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 16;
+        return h == EMPTY ? 1 : h;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Math.max(capacity, 2);
+        return n >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Map.Entry<K, V> entry : this) {
+            joiner.add(entry.toString());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Initialize map iterator.
+     *
+     * @return the Iterator impl
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        ensureOpen();
+        return new MapIterator();
+    }
+
+    /**
+     * The type DataFile, the append-only file of entries mapped by segments on demand.
+     * An entry never crosses a segment boundary, the tail of a segment too short for the entry is skipped.
+     */
+    private static final class DataFile {
+        private final FileChannel channel;
+        private MappedByteBuffer[] segments = new MappedByteBuffer[1];
+        private long end;
+        private long tailGarbage;
+
+        private DataFile(Path path, long end) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.end = end;
+        }
+
+        private long append(int entrySize) {
+            if (entrySize > SEGMENT_SIZE) {
+                throw new IllegalArgumentException("The entry of " + entrySize + " bytes is larger than the segment");
+            }
+            if (offset(end) + entrySize > SEGMENT_SIZE) {
+                long nextSegment = (end / SEGMENT_SIZE + 1) * SEGMENT_SIZE;
+                tailGarbage += nextSegment - end;
+                end = nextSegment;
+            }
+            long address = end;
+            end += entrySize;
+            return address;
+        }
+
+        private ByteBuffer segment(long address) {
+            int segmentIndex = (int) (address / SEGMENT_SIZE);
+            if (segmentIndex >= segments.length) {
+                segments = Arrays.copyOf(segments, Math.max(segments.length * 2, segmentIndex + 1));
+            }
+            MappedByteBuffer segment = segments[segmentIndex];
+            if (segment == null) {
+                try {
+                    // mapping past the end of the file extends it
+                    segment = channel.map(FileChannel.MapMode.READ_WRITE, (long) segmentIndex * SEGMENT_SIZE, SEGMENT_SIZE);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                segments[segmentIndex] = segment;
+            }
+            return segment;
+        }
+
+        private void copy(DataFile source, long sourceAddress, long address, int size) {
+            ByteBuffer sourceSegment = source.segment(sourceAddress).duplicate();
+            int sourceOffset = offset(sourceAddress);
+            sourceSegment.limit(sourceOffset + size).position(sourceOffset);
+            ByteBuffer segment = segment(address).duplicate();
+            segment.position(offset(address));
+            segment.put(sourceSegment);
+        }
+
+        private void truncate() {
+            end = 0;
+            tailGarbage = 0;
+        }
+
+        private void force() {
+            for (MappedByteBuffer segment : segments) {
+                if (segment != null) {
+                    segment.force();
+                }
+            }
+        }
+
+        private void close() throws IOException {
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i] != null) {
+                    OffHeapMemory.release(segments[i]);
+                    segments[i] = null;
+                }
+            }
+            channel.close();
+        }
+
+        private static int offset(long address) {
+            return (int) (address % SEGMENT_SIZE);
+        }
+    }
+
+    /**
+     * The type Entry, a deserialized snapshot of the mapping returned by the iterator.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static class Entry<K, V> implements Map.Entry<K, V> {
+        private final K key;
+        private final V value;
+
+        private Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * The type MapIterator.
+     * The walk starts right after an empty slot, so no cluster wraps around the walk boundary
+     * and the entries moved back by remove() come from not yet visited slots.
+     */
+    private class MapIterator implements Iterator<Map.Entry<K, V>> {
+        private final int start;
+        private int offset;
+        private int lastSlot = -1;
+
+        private MapIterator() {
+            int emptySlot = 0;
+            while (hashAt(emptySlot) != EMPTY) {
+                emptySlot++;
+            }
+            start = emptySlot + 1;
+        }
+
+        /**
+         * The method checks if map has one more element.
+         *
+         * @return the boolean value.
+         */
+        @Override
+        public boolean hasNext() {
+            while (offset <= mask && hashAt(slot(offset)) == EMPTY) {
+                offset++;
+            }
+            return offset <= mask;
+        }
+
+        /**
+         * The method based on hasNext() return element of the collection.
+         *
+         * @return the Entry instance
+         */
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastSlot = slot(offset++);
+            long address = addressAt(lastSlot);
+            return new Entry<>(readKey(address), readValue(address));
+        }
+
+        /**
+         * The method based on hasNext() and next() methods removes data.
+         */
+        @Override
+        public void remove() {
+            if (lastSlot < 0) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            deleteSlot(lastSlot);
+            // an entry moved back into the removed slot has not been visited yet
+            offset--;
+            lastSlot = -1;
+        }
+
+        private int slot(int offset) {
+            return (start + offset) & mask;
+        }
+    }
+}
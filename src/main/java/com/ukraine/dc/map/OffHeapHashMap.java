@@ -0,0 +1,463 @@
+package com.ukraine.dc.map;
+
+import com.ukraine.dc.offheap.OffHeapLog;
+import com.ukraine.dc.offheap.OffHeapMemory;
+import com.ukraine.dc.offheap.Serializer;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * The HashMap which keeps its mappings in direct memory, the heap holds only a small handle.
+ * The table is a direct buffer of slots made of the cached hash and the addresses of the serialized key and value
+ * in an {@link OffHeapLog}. Collisions are resolved with linear probing, removal shifts the rest of the cluster back.
+ * Keys are compared with equals() after deserialization, which only happens when the cached hashes match.
+ * The log is compacted once the removed and replaced values take more space than the live ones.
+ * Every read deserializes a new copy of the value. The memory is released by {@link #close()},
+ * the map can't be used afterwards.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public class OffHeapHashMap<K, V> implements Map<K, V>, AutoCloseable {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int MAXIMUM_CAPACITY = 1 << 26;
+    private static final int EMPTY = 0;
+    private static final int SLOT_SIZE = Integer.BYTES + 2 * Long.BYTES;
+    private static final int KEY_OFFSET = Integer.BYTES;
+    private static final int VALUE_OFFSET = KEY_OFFSET + Long.BYTES;
+    private final Serializer<K> keySerializer;
+    private final Serializer<V> valueSerializer;
+    private final OffHeapMemory memory;
+    private final double loadFactor;
+    private ByteBuffer table;
+    private OffHeapLog log;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    /**
+     * Initialize OffHeapHashMap with default capacity and load factor, without a memory limit.
+     *
+     * @param keySerializer   the key serializer
+     * @param valueSerializer the value serializer
+     */
+    public OffHeapHashMap(Serializer<K> keySerializer, Serializer<V> valueSerializer) {
+        this(keySerializer, valueSerializer, DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, OffHeapMemory.UNBOUNDED);
+    }
+
+    /**
+     * Initialize OffHeapHashMap with custom capacity, load factor and memory limit.
+     *
+     * @param keySerializer   the key serializer
+     * @param valueSerializer the value serializer
+     * @param capacity        the capacity, rounded up to the power of two
+     * @param loadFactor      the load factor, should be from 0 to 1 exclusive
+     * @param maxBytes        the maximum size of the direct memory used by the map
+     */
+    public OffHeapHashMap(Serializer<K> keySerializer, Serializer<V> valueSerializer,
+                          int capacity, double loadFactor, long maxBytes) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Incorrect capacity: " + capacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Incorrect load factor, it should be from 0 to 1 exclusive: " + loadFactor);
+        }
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        this.loadFactor = loadFactor;
+        this.memory = new OffHeapMemory(maxBytes);
+        this.log = new OffHeapLog(memory);
+        allocate(tableSizeFor(capacity));
+    }
+
+    /**
+     * Puts new element by its key.
+     *
+     * @param key   the unique value
+     * @param value the value
+     * @return the previous value if the key was present, otherwise the value
+     */
+    @Override
+    public V put(K key, V value) {
+        memory.ensureOpen();
+        if (size >= threshold) {
+            resize();
+        }
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        long valueAddress = log.write(valueSerializer, value);
+        if (hashAt(slot) != EMPTY) {
+            long prevAddress = table.getLong(slot * SLOT_SIZE + VALUE_OFFSET);
+            V prevValue = log.read(valueSerializer, prevAddress);
+            log.release(valueSerializer, prevAddress);
+            table.putLong(slot * SLOT_SIZE + VALUE_OFFSET, valueAddress);
+            compactIfNeeded();
+            return prevValue;
+        }
+        long keyAddress;
+        try {
+            keyAddress = log.write(keySerializer, key);
+        } catch (IllegalStateException e) {
+            log.release(valueSerializer, valueAddress);
+            throw e;
+        }
+        place(slot, hash, keyAddress, valueAddress);
+        size++;
+        return value;
+    }
+
+    /**
+     * Gets the data by its unique key.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V get(K key) {
+        memory.ensureOpen();
+        int slot = findSlot(key, hash(key));
+        return hashAt(slot) == EMPTY ? null : valueAt(slot);
+    }
+
+    /**
+     * Returns the current size.
+     *
+     * @return the int value
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if map contains such key or not.
+     *
+     * @param key the key
+     * @return the boolean value
+     */
+    @Override
+    public boolean containsKey(K key) {
+        memory.ensureOpen();
+        return hashAt(findSlot(key, hash(key))) != EMPTY;
+    }
+
+    /**
+     * Removes data by its key.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V remove(K key) {
+        memory.ensureOpen();
+        int slot = findSlot(key, hash(key));
+        if (hashAt(slot) == EMPTY) {
+            return null;
+        }
+        V prevValue = valueAt(slot);
+        deleteSlot(slot);
+        compactIfNeeded();
+        return prevValue;
+    }
+
+    /**
+     * Clear the collection, the allocated table is kept.
+     */
+    @Override
+    public void clear() {
+        memory.ensureOpen();
+        for (int slot = 0; slot <= mask; slot++) {
+            table.putInt(slot * SLOT_SIZE, EMPTY);
+        }
+        log.free();
+        size = 0;
+    }
+
+    /**
+     * Checks if the collection empty or not.
+     *
+     * @return the boolean value
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of direct memory bytes held by the map.
+     *
+     * @return the long value
+     */
+    public long offHeapBytes() {
+        return memory.allocatedBytes();
+    }
+
+    /**
+     * Releases the direct memory, the map can't be used afterwards.
+     */
+    @Override
+    public void close() {
+        memory.close();
+        table = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the slot of the key or the empty slot where the key should be placed.
+     *
+     * @param key  the key
+     * @param hash the hash of the key
+     * @return the slot
+     */
+    private int findSlot(K key, int hash) {
+        int slot = hash & mask;
+        int slotHash;
+        while ((slotHash = hashAt(slot)) != EMPTY) {
+            if (slotHash == hash && Objects.equals(keyAt(slot), key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Releases the mapping in the slot and moves back the following entries of the cluster
+     * which may not stay behind the gap.
+     *
+     * @param slot the slot
+     */
+    private void deleteSlot(int slot) {
+        int offset = slot * SLOT_SIZE;
+        log.release(keySerializer, table.getLong(offset + KEY_OFFSET));
+        log.release(valueSerializer, table.getLong(offset + VALUE_OFFSET));
+        int next = (slot + 1) & mask;
+        int nextHash;
+        while ((nextHash = hashAt(next)) != EMPTY) {
+            int home = nextHash & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                int nextOffset = next * SLOT_SIZE;
+                place(slot, nextHash, table.getLong(nextOffset + KEY_OFFSET), table.getLong(nextOffset + VALUE_OFFSET));
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        table.putInt(slot * SLOT_SIZE, EMPTY);
+        size--;
+    }
+
+    private void place(int slot, int hash, long keyAddress, long valueAddress) {
+        int offset = slot * SLOT_SIZE;
+        table.putInt(offset, hash);
+        table.putLong(offset + KEY_OFFSET, keyAddress);
+        table.putLong(offset + VALUE_OFFSET, valueAddress);
+    }
+
+    private void resize() {
+        if (mask + 1 == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("The map reached its maximum capacity " + MAXIMUM_CAPACITY);
+        }
+        ByteBuffer oldTable = table;
+        int oldCapacity = mask + 1;
+        allocate(oldCapacity * 2);
+        for (int i = 0; i < oldCapacity; i++) {
+            int offset = i * SLOT_SIZE;
+            int hash = oldTable.getInt(offset);
+            if (hash != EMPTY) {
+                int slot = hash & mask;
+                while (hashAt(slot) != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                place(slot, hash, oldTable.getLong(offset + KEY_OFFSET), oldTable.getLong(offset + VALUE_OFFSET));
+            }
+        }
+        memory.free(oldTable);
+    }
+
+    private void allocate(int capacity) {
+        table = memory.allocate(capacity * SLOT_SIZE);
+        mask = capacity - 1;
+        // at least one slot stays empty, so probing always terminates
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    private void compactIfNeeded() {
+        if (!log.needsCompaction()) {
+            return;
+        }
+        // the slots keep the old addresses until every value is copied, so a failed copy changes nothing
+        OffHeapLog newLog = new OffHeapLog(memory);
+        long[] addresses = new long[size * 2];
+        try {
+            for (int slot = 0, i = 0; slot <= mask; slot++) {
+                int offset = slot * SLOT_SIZE;
+                if (table.getInt(offset) != EMPTY) {
+                    addresses[i++] = newLog.copy(log, keySerializer, table.getLong(offset + KEY_OFFSET));
+                    addresses[i++] = newLog.copy(log, valueSerializer, table.getLong(offset + VALUE_OFFSET));
+                }
+            }
+        } catch (IllegalStateException e) {
+            newLog.free();
+            return;
+        }
+        for (int slot = 0, i = 0; slot <= mask; slot++) {
+            int offset = slot * SLOT_SIZE;
+            if (table.getInt(offset) != EMPTY) {
+                table.putLong(offset + KEY_OFFSET, addresses[i++]);
+                table.putLong(offset + VALUE_OFFSET, addresses[i++]);
+            }
+        }
+        log.free();
+        log = newLog;
+    }
+
+    private int hashAt(int slot) {
+        return table.getInt(slot * SLOT_SIZE);
+    }
+
+    private K keyAt(int slot) {
+        return log.read(keySerializer, table.getLong(slot * SLOT_SIZE + KEY_OFFSET));
+    }
+
+    private V valueAt(int slot) {
+        return log.read(valueSerializer, table.getLong(slot * SLOT_SIZE + VALUE_OFFSET));
+    }
+
+    /**
+     * Spreads higher bits of the hash code downwards, as the slot is taken from the lower bits only.
+     * Zero marks an empty slot, so it is never returned.
+     *
+     * @param key the key
+     * @return the hash
+     */
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 16;
+        return h == EMPTY ? 1 : h;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Math.max(capacity, 2);
+        return n >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Map.Entry<K, V> entry : this) {
+            joiner.add(entry.toString());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Initialize map iterator.
+     *
+     * @return the Iterator impl
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        memory.ensureOpen();
+        return new MapIterator();
+    }
+
+    /**
+     * The type Entry, a deserialized snapshot of the mapping returned by the iterator.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static class Entry<K, V> implements Map.Entry<K, V> {
+        private final K key;
+        private final V value;
+
+        private Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * The type MapIterator.
+     * The walk starts right after an empty slot, so no cluster wraps around the walk boundary
+     * and the entries moved back by remove() come from not yet visited slots.
+     */
+    private class MapIterator implements Iterator<Map.Entry<K, V>> {
+        private final int start;
+        private int offset;
+        private int lastSlot = -1;
+
+        private MapIterator() {
+            int emptySlot = 0;
+            while (hashAt(emptySlot) != EMPTY) {
+                emptySlot++;
+            }
+            start = emptySlot + 1;
+        }
+
+        /**
+         * The method checks if map has one more element.
+         *
+         * @return the boolean value.
+         */
+        @Override
+        public boolean hasNext() {
+            while (offset <= mask && hashAt(slot(offset)) == EMPTY) {
+                offset++;
+            }
+            return offset <= mask;
+        }
+
+        /**
+         * The method based on hasNext() return element of the collection.
+         *
+         * @return the Entry instance
+         */
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastSlot = slot(offset++);
+            return new Entry<>(keyAt(lastSlot), valueAt(lastSlot));
+        }
+
+        /**
+         * The method based on hasNext() and next() methods removes data.
+         */
+        @Override
+        public void remove() {
+            if (lastSlot < 0) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            deleteSlot(lastSlot);
+            // an entry moved back into the removed slot has not been visited yet
+            offset--;
+            lastSlot = -1;
+        }
+
+        private int slot(int offset) {
+            return (start + offset) & mask;
+        }
+    }
+}
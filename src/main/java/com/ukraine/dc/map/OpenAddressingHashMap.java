@@ -0,0 +1,415 @@
+package com.ukraine.dc.map;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * The type OpenAddressingHashMap.
+ * Keys, values and cached hashes are stored in parallel flat arrays, so no object is allocated per mapping.
+ * Probing reads the hashes array only, keys are compared when the cached hash matches.
+ * Collisions are resolved with Robin Hood linear probing: an entry that is further from its home slot
+ * takes the place of an entry that is closer to its own one. Removal shifts the rest of the cluster back,
+ * so the table never contains tombstones.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public class OpenAddressingHashMap<K, V> implements Map<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int EMPTY = 0;
+    private final double loadFactor;
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private int mask;
+    private int threshold;
+    private int size;
+
+    /**
+     * Initialize OpenAddressingHashMap with default capacity and load factor.
+     */
+    public OpenAddressingHashMap() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Initialize OpenAddressingHashMap with custom capacity.
+     *
+     * @param capacity the capacity
+     */
+    public OpenAddressingHashMap(int capacity) {
+        this(capacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Initialize OpenAddressingHashMap with custom capacity and load factor.
+     *
+     * @param capacity   the capacity, rounded up to the power of two
+     * @param loadFactor the load factor, should be from 0 to 1 exclusive
+     */
+    public OpenAddressingHashMap(int capacity, double loadFactor) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Incorrect capacity: " + capacity);
+        }
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Incorrect load factor, it should be from 0 to 1 exclusive: " + loadFactor);
+        }
+        this.loadFactor = loadFactor;
+        allocate(tableSizeFor(capacity));
+    }
+
+    /**
+     * Puts new element by its key.
+     *
+     * @param key   the unique value
+     * @param value the value
+     * @return the previous value if the key was present, otherwise the value
+     */
+    @Override
+    public V put(K key, V value) {
+        if (size >= threshold) {
+            resize();
+        }
+        int hash = hash(key);
+        int slot = hash & mask;
+        for (int distance = 0; ; distance++) {
+            int slotHash = hashes[slot];
+            if (slotHash == EMPTY) {
+                place(slot, hash, key, value);
+                size++;
+                return value;
+            }
+            if (slotHash == hash && Objects.equals(keys[slot], key)) {
+                V prevValue = valueAt(slot);
+                values[slot] = value;
+                return prevValue;
+            }
+            if (probeDistance(slotHash, slot) < distance) {
+                insert(slot, distance, hash, key, value);
+                size++;
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Gets the data by its unique key.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V get(K key) {
+        int slot = findSlot(key);
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    /**
+     * Checks if the collection empty or not.
+     *
+     * @return the boolean value
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the current size.
+     *
+     * @return the int value
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if map contains such key or not.
+     *
+     * @param key the key
+     * @return the boolean value
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return findSlot(key) >= 0;
+    }
+
+    /**
+     * Removes data by its key.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V remove(K key) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return null;
+        }
+        V prevValue = valueAt(slot);
+        deleteSlot(slot);
+        return prevValue;
+    }
+
+    /**
+     * Clear the collection, the allocated table is kept.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(hashes, EMPTY);
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Looks up the slot of the key. The search stops at an empty slot or at an entry which is closer
+     * to its home slot than the searched key would be, Robin Hood ordering guarantees the key is not further.
+     *
+     * @param key the key
+     * @return the slot index or -1
+     */
+    private int findSlot(K key) {
+        int hash = hash(key);
+        int slot = hash & mask;
+        for (int distance = 0; ; distance++) {
+            int slotHash = hashes[slot];
+            if (slotHash == EMPTY || probeDistance(slotHash, slot) < distance) {
+                return -1;
+            }
+            if (slotHash == hash && Objects.equals(keys[slot], key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Inserts the entry which is known to be absent, starting from the given slot and distance.
+     *
+     * @param slot     the first slot to try
+     * @param distance the distance of the slot from the home slot of the entry
+     * @param hash     the hash
+     * @param key      the key
+     * @param value    the value
+     */
+    private void insert(int slot, int distance, int hash, Object key, Object value) {
+        while (hashes[slot] != EMPTY) {
+            int slotDistance = probeDistance(hashes[slot], slot);
+            if (slotDistance < distance) {
+                int displacedHash = hashes[slot];
+                Object displacedKey = keys[slot];
+                Object displacedValue = values[slot];
+                place(slot, hash, key, value);
+                hash = displacedHash;
+                key = displacedKey;
+                value = displacedValue;
+                distance = slotDistance;
+            }
+            slot = (slot + 1) & mask;
+            distance++;
+        }
+        place(slot, hash, key, value);
+    }
+
+    /**
+     * Removes the entry from the slot and shifts the following entries of the cluster one slot back.
+     *
+     * @param slot the slot
+     */
+    private void deleteSlot(int slot) {
+        int next = (slot + 1) & mask;
+        while (hashes[next] != EMPTY && probeDistance(hashes[next], next) > 0) {
+            place(slot, hashes[next], keys[next], values[next]);
+            slot = next;
+            next = (next + 1) & mask;
+        }
+        hashes[slot] = EMPTY;
+        keys[slot] = null;
+        values[slot] = null;
+        size--;
+    }
+
+    private void place(int slot, int hash, Object key, Object value) {
+        hashes[slot] = hash;
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    private void resize() {
+        if (keys.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("The map reached its maximum capacity " + MAXIMUM_CAPACITY);
+        }
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldHashes[i] != EMPTY) {
+                insert(oldHashes[i] & mask, 0, oldHashes[i], oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        // at least one slot stays empty, so probing always terminates
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    private int probeDistance(int hash, int slot) {
+        return (slot - (hash & mask)) & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int slot) {
+        return (K) keys[slot];
+    }
+
+    /**
+     * Spreads higher bits of the hash code downwards, as the slot is taken from the lower bits only.
+     * Zero marks an empty slot, so it is never returned.
+     *
+     * @param key the key
+     * @return the hash
+     */
+    private static int hash(Object key) {
+        int h = key == null ? 0 : key.hashCode();
+        h ^= h >>> 16;
+        return h == EMPTY ? 1 : h;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Math.max(capacity, 2);
+        return n >= MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Map.Entry<K, V> entry : this) {
+            joiner.add(entry.toString());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Initialize map iterator.
+     *
+     * @return the Iterator impl
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new MapIterator();
+    }
+
+    /**
+     * The type Entry, a snapshot of the mapping returned by the iterator.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static class Entry<K, V> implements Map.Entry<K, V> {
+        private final K key;
+        private final V value;
+
+        private Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * The type MapIterator.
+     * The walk starts right after an empty slot, so no cluster wraps around the walk boundary
+     * and backward shifts caused by remove() only move not yet visited entries into the current slot.
+     */
+    private class MapIterator implements Iterator<Map.Entry<K, V>> {
+        private final int start;
+        private int offset;
+        private int lastSlot = -1;
+
+        private MapIterator() {
+            int emptySlot = 0;
+            while (hashes[emptySlot] != EMPTY) {
+                emptySlot++;
+            }
+            start = emptySlot + 1;
+        }
+
+        /**
+         * The method checks if map has one more element.
+         *
+         * @return the boolean value.
+         */
+        @Override
+        public boolean hasNext() {
+            while (offset < hashes.length && hashes[slot(offset)] == EMPTY) {
+                offset++;
+            }
+            return offset < hashes.length;
+        }
+
+        /**
+         * The method based on hasNext() return element of the collection.
+         *
+         * @return the Entry instance
+         */
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastSlot = slot(offset++);
+            return new Entry<>(keyAt(lastSlot), valueAt(lastSlot));
+        }
+
+        /**
+         * The method based on hasNext() and next() methods removes data.
+         */
+        @Override
+        public void remove() {
+            if (lastSlot < 0) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            deleteSlot(lastSlot);
+            // an entry shifted back into the removed slot has not been visited yet
+            offset--;
+            lastSlot = -1;
+        }
+
+        private int slot(int offset) {
+            return (start + offset) & mask;
+        }
+    }
+}
@@ -0,0 +1,783 @@
+package com.ukraine.dc.map;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * The PersistentHashMap, an immutable hash array mapped trie. Every level of the trie takes 5 bits of the hash,
+ * a node keeps the entries and the sub-nodes of its 32 slots in one compact array described by two bitmaps.
+ * with() and without() return a new map which copies only the path to the changed entry, at most 7 nodes,
+ * and shares the rest with the old one, so any version can be handed to readers as a snapshot.
+ * Keys with the same hash code end in a collision node below the last level.
+ * A {@link Transient} builds a map with in-place updates of the nodes it has created, then freezes it in O(1).
+ * The mutating methods of the {@link Map} interface throw UnsupportedOperationException.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public final class PersistentHashMap<K, V> implements Map<K, V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int HASH_BITS = 32;
+    private static final Object NOT_FOUND = new Object();
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+    private final Node<K, V> root;
+    private final int size;
+
+    private PersistentHashMap(Node<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     * @return the PersistentHashMap instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns the map with the key mapped to the value, this map stays unchanged.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the new map, or this one if the key is already mapped to the same value
+     */
+    public PersistentHashMap<K, V> with(K key, V value) {
+        Change<V> change = new Change<>();
+        Node<K, V> newRoot = root.put(null, key, hash(key), value, 0, change);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, change.added ? size + 1 : size);
+    }
+
+    /**
+     * Returns the map without the key, this map stays unchanged.
+     *
+     * @param key the key
+     * @return the new map, or this one if the key is absent
+     */
+    public PersistentHashMap<K, V> without(K key) {
+        Change<V> change = new Change<>();
+        Node<K, V> newRoot = root.remove(null, key, hash(key), 0, change);
+        if (!change.removed) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Returns the transient copy of this map, it is created in O(1).
+     *
+     * @return the Transient instance
+     */
+    public Transient<K, V> asTransient() {
+        return new Transient<>(root, size);
+    }
+
+    /**
+     * Gets the data by its unique key.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V get(K key) {
+        return valueOrNull(root.find(key, hash(key), 0));
+    }
+
+    /**
+     * Checks if map contains such key or not.
+     *
+     * @param key the key
+     * @return the boolean value
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return root.find(key, hash(key), 0) != NOT_FOUND;
+    }
+
+    /**
+     * Returns the current size.
+     *
+     * @return the int value
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the collection empty or not.
+     *
+     * @return the boolean value
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Not supported, the map is immutable.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return nothing
+     */
+    @Override
+    public V put(K key, V value) {
+        throw new UnsupportedOperationException("The persistent map is immutable, use with() instead");
+    }
+
+    /**
+     * Not supported, the map is immutable.
+     *
+     * @param key the key
+     * @return nothing
+     */
+    @Override
+    public V remove(K key) {
+        throw new UnsupportedOperationException("The persistent map is immutable, use without() instead");
+    }
+
+    /**
+     * Not supported, the map is immutable.
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("The persistent map is immutable, use empty() instead");
+    }
+
+    /**
+     * Initialize map iterator, the entries are snapshots and can't be removed.
+     *
+     * @return the Iterator impl
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new MapIterator<>(root);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Map.Entry<K, V> entry : this) {
+            joiner.add(entry.toString());
+        }
+        return joiner.toString();
+    }
+
+    private static int hash(Object key) {
+        return key == null ? 0 : key.hashCode();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V valueOrNull(Object value) {
+        return value == NOT_FOUND ? null : (V) value;
+    }
+
+    /**
+     * The type Transient, the mutable map for batch updates. It updates in place the nodes it has created itself
+     * and copies the shared ones once. persistent() freezes the map, the transient can't be used afterwards.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    public static final class Transient<K, V> implements Map<K, V> {
+        private Object edit = new Object();
+        private Node<K, V> root;
+        private int size;
+
+        private Transient(Node<K, V> root, int size) {
+            this.root = root;
+            this.size = size;
+        }
+
+        /**
+         * Puts new element by its key.
+         *
+         * @param key   the unique value
+         * @param value the value
+         * @return the previous value, or the value if the key was absent
+         */
+        @Override
+        public V put(K key, V value) {
+            ensureEditable();
+            Change<V> change = new Change<>();
+            root = root.put(edit, key, hash(key), value, 0, change);
+            if (change.added) {
+                size++;
+                return value;
+            }
+            return change.oldValue;
+        }
+
+        /**
+         * Gets the data by its unique key.
+         *
+         * @param key the key
+         * @return the value
+         */
+        @Override
+        public V get(K key) {
+            ensureEditable();
+            return valueOrNull(root.find(key, hash(key), 0));
+        }
+
+        /**
+         * Checks if map contains such key or not.
+         *
+         * @param key the key
+         * @return the boolean value
+         */
+        @Override
+        public boolean containsKey(K key) {
+            ensureEditable();
+            return root.find(key, hash(key), 0) != NOT_FOUND;
+        }
+
+        /**
+         * Removes data by its key.
+         *
+         * @param key the key
+         * @return the value
+         */
+        @Override
+        public V remove(K key) {
+            ensureEditable();
+            Change<V> change = new Change<>();
+            root = root.remove(edit, key, hash(key), 0, change);
+            if (change.removed) {
+                size--;
+            }
+            return change.oldValue;
+        }
+
+        /**
+         * Returns the current size.
+         *
+         * @return the int value
+         */
+        @Override
+        public int size() {
+            ensureEditable();
+            return size;
+        }
+
+        /**
+         * Checks if the collection empty or not.
+         *
+         * @return the boolean value
+         */
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        /**
+         * Clear the collection.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public void clear() {
+            ensureEditable();
+            root = (Node<K, V>) BitmapNode.EMPTY;
+            size = 0;
+        }
+
+        /**
+         * Initialize map iterator, the map must not be changed while it is iterated.
+         *
+         * @return the Iterator impl
+         */
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            ensureEditable();
+            return new MapIterator<>(root);
+        }
+
+        /**
+         * Freezes the map in O(1), the transient can't be used afterwards.
+         *
+         * @return the PersistentHashMap instance
+         */
+        public PersistentHashMap<K, V> persistent() {
+            ensureEditable();
+            edit = null;
+            return size == 0 ? empty() : new PersistentHashMap<>(root, size);
+        }
+
+        private void ensureEditable() {
+            if (edit == null) {
+                throw new IllegalStateException("The transient map is already persistent");
+            }
+        }
+    }
+
+    /**
+     * The outcome of put or remove: whether the size changed and the previous value.
+     *
+     * @param <V> the value
+     */
+    private static final class Change<V> {
+        private boolean added;
+        private boolean removed;
+        private V oldValue;
+    }
+
+    /**
+     * The node of the trie. The owner of a node is the transient which created it, or null.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private abstract static class Node<K, V> {
+        final Object edit;
+
+        Node(Object edit) {
+            this.edit = edit;
+        }
+
+        /**
+         * Finds the value of the key.
+         *
+         * @return the value or NOT_FOUND
+         */
+        abstract Object find(Object key, int hash, int shift);
+
+        /**
+         * Returns the node with the key mapped to the value. The node itself is returned if nothing changed
+         * or if it is owned by the edit and was updated in place.
+         */
+        abstract Node<K, V> put(Object edit, K key, int hash, V value, int shift, Change<V> change);
+
+        /**
+         * Returns the node without the key, the node itself if the key is absent.
+         */
+        abstract Node<K, V> remove(Object edit, Object key, int hash, int shift, Change<V> change);
+
+        abstract int payloadArity();
+
+        abstract int nodeArity();
+
+        abstract K keyAt(int index);
+
+        abstract V valueAt(int index);
+
+        abstract Node<K, V> nodeAt(int index);
+
+        boolean isOwnedBy(Object edit) {
+            return edit != null && this.edit == edit;
+        }
+    }
+
+    /**
+     * The type BitmapNode. A bit of dataMap marks the slot holding an entry, a bit of nodeMap marks the slot
+     * holding a sub-node. The content array keeps the key/value pairs in the slot order from its start and
+     * the sub-nodes in the slot order from its end.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static final class BitmapNode<K, V> extends Node<K, V> {
+        private static final BitmapNode<?, ?> EMPTY = new BitmapNode<>(null, 0, 0, new Object[0]);
+        private int dataMap;
+        private int nodeMap;
+        private Object[] content;
+
+        private BitmapNode(Object edit, int dataMap, int nodeMap, Object[] content) {
+            super(edit);
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                return Objects.equals(key, content[2 * index]) ? content[2 * index + 1] : NOT_FOUND;
+            }
+            if ((nodeMap & bit) != 0) {
+                return nodeAt(index(nodeMap, bit)).find(key, hash, shift + BITS);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node<K, V> put(Object edit, K key, int hash, V value, int shift, Change<V> change) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                K currentKey = keyAt(index);
+                if (Objects.equals(currentKey, key)) {
+                    V currentValue = valueAt(index);
+                    change.oldValue = currentValue;
+                    if (currentValue == value) {
+                        return this;
+                    }
+                    BitmapNode<K, V> node = editable(edit);
+                    node.content[2 * index + 1] = value;
+                    return node;
+                }
+                Node<K, V> subNode = mergeTwo(edit, currentKey, hash(currentKey), valueAt(index),
+                        key, hash, value, shift + BITS);
+                change.added = true;
+                return migrateToNode(edit, bit, index, subNode);
+            }
+            if ((nodeMap & bit) != 0) {
+                int index = index(nodeMap, bit);
+                Node<K, V> subNode = nodeAt(index);
+                Node<K, V> newSubNode = subNode.put(edit, key, hash, value, shift + BITS, change);
+                return newSubNode == subNode ? this : setNode(edit, index, newSubNode);
+            }
+            change.added = true;
+            return insertEntry(edit, bit, key, value);
+        }
+
+        @Override
+        Node<K, V> remove(Object edit, Object key, int hash, int shift, Change<V> change) {
+            int bit = bit(hash, shift);
+            if ((dataMap & bit) != 0) {
+                int index = index(dataMap, bit);
+                if (!Objects.equals(keyAt(index), key)) {
+                    return this;
+                }
+                change.removed = true;
+                change.oldValue = valueAt(index);
+                return removeEntry(edit, bit, index);
+            }
+            if ((nodeMap & bit) != 0) {
+                int index = index(nodeMap, bit);
+                Node<K, V> subNode = nodeAt(index);
+                Node<K, V> newSubNode = subNode.remove(edit, key, hash, shift + BITS, change);
+                if (!change.removed) {
+                    return this;
+                }
+                // a sub-node left with a single entry is inlined, so the trie stays as shallow as possible
+                if (newSubNode.payloadArity() == 1 && newSubNode.nodeArity() == 0) {
+                    return migrateToEntry(edit, bit, index, newSubNode.keyAt(0), newSubNode.valueAt(0));
+                }
+                return newSubNode == subNode ? this : setNode(edit, index, newSubNode);
+            }
+            return this;
+        }
+
+        @Override
+        int payloadArity() {
+            return Integer.bitCount(dataMap);
+        }
+
+        @Override
+        int nodeArity() {
+            return Integer.bitCount(nodeMap);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        K keyAt(int index) {
+            return (K) content[2 * index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V valueAt(int index) {
+            return (V) content[2 * index + 1];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Node<K, V> nodeAt(int index) {
+            return (Node<K, V>) content[content.length - 1 - index];
+        }
+
+        private BitmapNode<K, V> editable(Object edit) {
+            return isOwnedBy(edit) ? this : new BitmapNode<>(edit, dataMap, nodeMap, content.clone());
+        }
+
+        private Node<K, V> setNode(Object edit, int index, Node<K, V> node) {
+            BitmapNode<K, V> result = editable(edit);
+            result.content[content.length - 1 - index] = node;
+            return result;
+        }
+
+        private Node<K, V> insertEntry(Object edit, int bit, K key, V value) {
+            int index = 2 * index(dataMap, bit);
+            Object[] newContent = new Object[content.length + 2];
+            System.arraycopy(content, 0, newContent, 0, index);
+            newContent[index] = key;
+            newContent[index + 1] = value;
+            System.arraycopy(content, index, newContent, index + 2, content.length - index);
+            return update(edit, dataMap | bit, nodeMap, newContent);
+        }
+
+        private Node<K, V> removeEntry(Object edit, int bit, int index) {
+            Object[] newContent = new Object[content.length - 2];
+            System.arraycopy(content, 0, newContent, 0, 2 * index);
+            System.arraycopy(content, 2 * index + 2, newContent, 2 * index, content.length - 2 * index - 2);
+            return update(edit, dataMap ^ bit, nodeMap, newContent);
+        }
+
+        /**
+         * Replaces the entry in the slot with the sub-node holding it together with the new entry.
+         */
+        private Node<K, V> migrateToNode(Object edit, int bit, int dataIndex, Node<K, V> node) {
+            int dataLength = 2 * payloadArity();
+            int nodeIndex = index(nodeMap, bit);
+            int length = content.length;
+            Object[] newContent = new Object[length - 1];
+            System.arraycopy(content, 0, newContent, 0, 2 * dataIndex);
+            System.arraycopy(content, 2 * dataIndex + 2, newContent, 2 * dataIndex, dataLength - 2 * dataIndex - 2);
+            // the sub-nodes after the new one in the slot order lie before it in the array
+            System.arraycopy(content, dataLength, newContent, dataLength - 2, length - nodeIndex - dataLength);
+            newContent[length - 2 - nodeIndex] = node;
+            System.arraycopy(content, length - nodeIndex, newContent, length - 1 - nodeIndex, nodeIndex);
+            return update(edit, dataMap ^ bit, nodeMap | bit, newContent);
+        }
+
+        /**
+         * Replaces the sub-node in the slot with its only entry.
+         */
+        private Node<K, V> migrateToEntry(Object edit, int bit, int nodeIndex, K key, V value) {
+            int dataLength = 2 * payloadArity();
+            int dataIndex = 2 * index(dataMap, bit);
+            int length = content.length;
+            Object[] newContent = new Object[length + 1];
+            System.arraycopy(content, 0, newContent, 0, dataIndex);
+            newContent[dataIndex] = key;
+            newContent[dataIndex + 1] = value;
+            System.arraycopy(content, dataIndex, newContent, dataIndex + 2, dataLength - dataIndex);
+            System.arraycopy(content, dataLength, newContent, dataLength + 2, length - 1 - nodeIndex - dataLength);
+            System.arraycopy(content, length - nodeIndex, newContent, length + 1 - nodeIndex, nodeIndex);
+            return update(edit, dataMap | bit, nodeMap ^ bit, newContent);
+        }
+
+        private Node<K, V> update(Object edit, int newDataMap, int newNodeMap, Object[] newContent) {
+            if (isOwnedBy(edit)) {
+                dataMap = newDataMap;
+                nodeMap = newNodeMap;
+                content = newContent;
+                return this;
+            }
+            return new BitmapNode<>(edit, newDataMap, newNodeMap, newContent);
+        }
+
+        private static <K, V> Node<K, V> mergeTwo(Object edit, K key1, int hash1, V value1,
+                                                  K key2, int hash2, V value2, int shift) {
+            if (shift >= HASH_BITS) {
+                return new CollisionNode<>(edit, new Object[]{key1, value1, key2, value2});
+            }
+            int slot1 = (hash1 >>> shift) & MASK;
+            int slot2 = (hash2 >>> shift) & MASK;
+            if (slot1 == slot2) {
+                Node<K, V> node = mergeTwo(edit, key1, hash1, value1, key2, hash2, value2, shift + BITS);
+                return new BitmapNode<>(edit, 0, 1 << slot1, new Object[]{node});
+            }
+            Object[] content = slot1 < slot2
+                    ? new Object[]{key1, value1, key2, value2}
+                    : new Object[]{key2, value2, key1, value1};
+            return new BitmapNode<>(edit, (1 << slot1) | (1 << slot2), 0, content);
+        }
+
+        private static int bit(int hash, int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        private static int index(int bitmap, int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    /**
+     * The type CollisionNode, the list of the entries whose keys have the same hash code.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static final class CollisionNode<K, V> extends Node<K, V> {
+        private Object[] content;
+
+        private CollisionNode(Object edit, Object[] content) {
+            super(edit);
+            this.content = content;
+        }
+
+        @Override
+        Object find(Object key, int hash, int shift) {
+            int index = indexOf(key);
+            return index == -1 ? NOT_FOUND : content[2 * index + 1];
+        }
+
+        @Override
+        Node<K, V> put(Object edit, K key, int hash, V value, int shift, Change<V> change) {
+            int index = indexOf(key);
+            if (index != -1) {
+                V currentValue = valueAt(index);
+                change.oldValue = currentValue;
+                if (currentValue == value) {
+                    return this;
+                }
+                Object[] newContent = isOwnedBy(edit) ? content : content.clone();
+                newContent[2 * index + 1] = value;
+                return update(edit, newContent);
+            }
+            Object[] newContent = new Object[content.length + 2];
+            System.arraycopy(content, 0, newContent, 0, content.length);
+            newContent[content.length] = key;
+            newContent[content.length + 1] = value;
+            change.added = true;
+            return update(edit, newContent);
+        }
+
+        @Override
+        Node<K, V> remove(Object edit, Object key, int hash, int shift, Change<V> change) {
+            int index = indexOf(key);
+            if (index == -1) {
+                return this;
+            }
+            change.removed = true;
+            change.oldValue = valueAt(index);
+            Object[] newContent = new Object[content.length - 2];
+            System.arraycopy(content, 0, newContent, 0, 2 * index);
+            System.arraycopy(content, 2 * index + 2, newContent, 2 * index, content.length - 2 * index - 2);
+            return update(edit, newContent);
+        }
+
+        @Override
+        int payloadArity() {
+            return content.length / 2;
+        }
+
+        @Override
+        int nodeArity() {
+            return 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        K keyAt(int index) {
+            return (K) content[2 * index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        V valueAt(int index) {
+            return (V) content[2 * index + 1];
+        }
+
+        @Override
+        Node<K, V> nodeAt(int index) {
+            throw new IndexOutOfBoundsException("The collision node has no sub-nodes");
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < content.length; i += 2) {
+                if (Objects.equals(key, content[i])) {
+                    return i / 2;
+                }
+            }
+            return -1;
+        }
+
+        private Node<K, V> update(Object edit, Object[] newContent) {
+            if (isOwnedBy(edit)) {
+                content = newContent;
+                return this;
+            }
+            return new CollisionNode<>(edit, newContent);
+        }
+    }
+
+    /**
+     * The type Entry, the snapshot of the mapping returned by the iterator.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static final class Entry<K, V> implements Map.Entry<K, V> {
+        private final K key;
+        private final V value;
+
+        private Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * The type MapIterator, it visits the entries of a node, then its sub-nodes.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static final class MapIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        private final Deque<Node<K, V>> pending = new ArrayDeque<>();
+        private Node<K, V> node;
+        private int index;
+
+        private MapIterator(Node<K, V> root) {
+            pending.push(root);
+        }
+
+        /**
+         * The method checks if map has one more element.
+         *
+         * @return the boolean value.
+         */
+        @Override
+        public boolean hasNext() {
+            while (node == null || index == node.payloadArity()) {
+                if (pending.isEmpty()) {
+                    return false;
+                }
+                node = pending.pop();
+                index = 0;
+                for (int i = node.nodeArity() - 1; i >= 0; i--) {
+                    pending.push(node.nodeAt(i));
+                }
+            }
+            return true;
+        }
+
+        /**
+         * The method based on hasNext() return element of the collection.
+         *
+         * @return the Entry instance
+         */
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            Map.Entry<K, V> entry = new Entry<>(node.keyAt(index), node.valueAt(index));
+            index++;
+            return entry;
+        }
+    }
+}
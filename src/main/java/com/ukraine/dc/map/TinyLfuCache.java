@@ -0,0 +1,508 @@
+package com.ukraine.dc.map;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * The type TinyLfuCache, a thread-safe map bounded by the maximum size with the W-TinyLFU policy.
+ * New entries enter a small LRU window of 1% of the cache. An entry pushed out of the window is a candidate
+ * for the main region and is admitted only if the FrequencySketch has seen it more often than the victim,
+ * the eldest entry of the main region, so keys used once don't push the hot ones out.
+ * The main region is a segmented LRU: entries start in the probation segment and move to the protected one,
+ * 80% of the main region, when they are used again.
+ * The entries are found in a ConcurrentHashMap, so get() takes no lock: the access is put into a ring buffer
+ * and applied to the policy in a batch by the thread which holds the lock. The buffer is lossy, an access
+ * dropped when it is full only weakens the estimate. Writes and the policy work are done under the lock.
+ * Iteration is weakly consistent and doesn't change the policy order.
+ *
+ * @param <K> the key
+ * @param <V> the value
+ */
+public class TinyLfuCache<K, V> implements Map<K, V> {
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int DRAIN_THRESHOLD = READ_BUFFER_SIZE / 2;
+    private static final double WINDOW_PERCENT = 0.01;
+    private static final double PROTECTED_PERCENT = 0.8;
+    private static final byte WINDOW = 0;
+    private static final byte PROBATION = 1;
+    private static final byte PROTECTED = 2;
+    private static final byte DEAD = 3;
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readBufferWriteCount = new AtomicLong();
+    private volatile long readBufferReadCount;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private volatile long evictionCount;
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private final BiConsumer<? super K, ? super V> evictionListener;
+    private final FrequencySketch sketch;
+    // the sentinels of the access lists, head.after is the eldest entry and head.before is the youngest one
+    private final Node<K, V> window = sentinel();
+    private final Node<K, V> probation = sentinel();
+    private final Node<K, V> protectedSegment = sentinel();
+    private int windowSize;
+    private int probationSize;
+    private int protectedSize;
+
+    /**
+     * Initialize TinyLfuCache with the maximum size.
+     *
+     * @param maximumSize the maximum number of entries
+     */
+    public TinyLfuCache(int maximumSize) {
+        this(maximumSize, (key, value) -> {
+        });
+    }
+
+    /**
+     * Initialize TinyLfuCache with the maximum size and the listener called for every evicted entry.
+     *
+     * @param maximumSize      the maximum number of entries
+     * @param evictionListener the listener, it is called under the lock of the cache and not for remove() and clear()
+     */
+    public TinyLfuCache(int maximumSize, BiConsumer<? super K, ? super V> evictionListener) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Incorrect maximum size: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.evictionListener = Objects.requireNonNull(evictionListener);
+        windowMaximum = Math.max(1, (int) (maximumSize * WINDOW_PERCENT));
+        protectedMaximum = (int) ((maximumSize - windowMaximum) * PROTECTED_PERCENT);
+        sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Puts new element by its key. A new entry enters the window, the entry pushed out of the window
+     * competes with the eldest entry of the main region by frequency.
+     *
+     * @param key   the unique value
+     * @param value the value
+     * @return the previous value if the key was present, otherwise the value
+     */
+    @Override
+    public V put(K key, V value) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                V prevValue = node.value;
+                node.value = value;
+                onAccess(node);
+                return prevValue;
+            }
+            node = new Node<>(key, value);
+            data.put(key, node);
+            sketch.increment(key);
+            node.region = WINDOW;
+            linkYoungest(window, node);
+            windowSize++;
+            evict();
+            return value;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the data by its unique key without locking, the access is recorded in the read buffer.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        recordRead(node);
+        return node.value;
+    }
+
+    /**
+     * Returns the current size.
+     *
+     * @return the int value
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * Checks if map contains such key or not, the access is not recorded.
+     *
+     * @param key the key
+     * @return the boolean value
+     */
+    @Override
+    public boolean containsKey(K key) {
+        return data.get(key) != null;
+    }
+
+    /**
+     * Removes data by its key.
+     *
+     * @param key the key
+     * @return the value
+     */
+    @Override
+    public V remove(K key) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            Node<K, V> node = data.remove(key);
+            if (node == null) {
+                return null;
+            }
+            unlinkFromRegion(node);
+            return node.value;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Clear the collection, the counters and the frequency history are kept.
+     */
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            data.clear();
+            for (Node<K, V> head : java.util.List.of(window, probation, protectedSegment)) {
+                for (Node<K, V> node = head.after; node != head; node = node.after) {
+                    node.region = DEAD;
+                }
+                head.before = head;
+                head.after = head;
+            }
+            windowSize = 0;
+            probationSize = 0;
+            protectedSize = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Checks if the collection empty or not.
+     *
+     * @return the boolean value
+     */
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return the int value
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of get() calls which found the key.
+     *
+     * @return the long value
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of get() calls which didn't find the key.
+     *
+     * @return the long value
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of entries evicted because the cache was full.
+     *
+     * @return the long value
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the estimated frequency of the key, at most 15.
+     *
+     * @param key the key
+     * @return the int value
+     */
+    public int frequency(K key) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            return sketch.frequency(key);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Offers the node to the read buffer and drains the buffer if it is half full.
+     * If the buffer is full or another reader won the slot, the access is dropped.
+     *
+     * @param node the node
+     */
+    private void recordRead(Node<K, V> node) {
+        long tail = readBufferWriteCount.get();
+        long pending = tail - readBufferReadCount;
+        if (pending < READ_BUFFER_SIZE && readBufferWriteCount.compareAndSet(tail, tail + 1)) {
+            readBuffer.lazySet((int) (tail & READ_BUFFER_MASK), node);
+            pending++;
+        }
+        if (pending >= DRAIN_THRESHOLD) {
+            tryDrain();
+        }
+    }
+
+    private void tryDrain() {
+        if (evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Applies the buffered reads to the policy, stops at a slot which is reserved but not written yet.
+     */
+    private void drainReadBuffer() {
+        long head = readBufferReadCount;
+        long tail = readBufferWriteCount.get();
+        for (; head < tail; head++) {
+            int index = (int) (head & READ_BUFFER_MASK);
+            Node<K, V> node = readBuffer.get(index);
+            if (node == null) {
+                break;
+            }
+            readBuffer.lazySet(index, null);
+            sketch.increment(node.key);
+            onAccess(node);
+        }
+        readBufferReadCount = head;
+    }
+
+    /**
+     * Moves the node to the young end of its region, a node of the probation segment is promoted.
+     *
+     * @param node the node
+     */
+    private void onAccess(Node<K, V> node) {
+        if (node.region == WINDOW) {
+            unlink(node);
+            linkYoungest(window, node);
+        } else if (node.region == PROBATION) {
+            unlink(node);
+            probationSize--;
+            node.region = PROTECTED;
+            linkYoungest(protectedSegment, node);
+            protectedSize++;
+            while (protectedSize > protectedMaximum) {
+                Node<K, V> demoted = protectedSegment.after;
+                unlink(demoted);
+                protectedSize--;
+                demoted.region = PROBATION;
+                linkYoungest(probation, demoted);
+                probationSize++;
+            }
+        } else if (node.region == PROTECTED) {
+            unlink(node);
+            linkYoungest(protectedSegment, node);
+        }
+    }
+
+    /**
+     * Moves the entries pushed out of the window to the main region, while it has room,
+     * then lets every candidate compete with the eldest entry of the main region.
+     */
+    private void evict() {
+        while (windowSize > windowMaximum) {
+            Node<K, V> candidate = window.after;
+            unlink(candidate);
+            windowSize--;
+            if (probationSize + protectedSize < maximumSize - windowMaximum) {
+                candidate.region = PROBATION;
+                linkYoungest(probation, candidate);
+                probationSize++;
+                continue;
+            }
+            Node<K, V> victim = probationSize > 0 ? probation.after : protectedSegment.after;
+            if (victim.region != DEAD && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                unlinkFromRegion(victim);
+                evictNode(victim);
+                candidate.region = PROBATION;
+                linkYoungest(probation, candidate);
+                probationSize++;
+            } else {
+                candidate.region = DEAD;
+                evictNode(candidate);
+            }
+        }
+    }
+
+    private void evictNode(Node<K, V> node) {
+        data.remove(node.key);
+        evictionCount++;
+        evictionListener.accept(node.key, node.value);
+    }
+
+    private void unlinkFromRegion(Node<K, V> node) {
+        if (node.region == WINDOW) {
+            windowSize--;
+        } else if (node.region == PROBATION) {
+            probationSize--;
+        } else if (node.region == PROTECTED) {
+            protectedSize--;
+        } else {
+            return;
+        }
+        unlink(node);
+        node.region = DEAD;
+    }
+
+    private static <K, V> Node<K, V> sentinel() {
+        Node<K, V> head = new Node<>(null, null);
+        head.before = head;
+        head.after = head;
+        return head;
+    }
+
+    private static <K, V> void linkYoungest(Node<K, V> head, Node<K, V> node) {
+        Node<K, V> youngest = head.before;
+        node.before = youngest;
+        node.after = head;
+        youngest.after = node;
+        head.before = node;
+    }
+
+    private static <K, V> void unlink(Node<K, V> node) {
+        node.before.after = node.after;
+        node.after.before = node.before;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Map.Entry<K, V> entry : this) {
+            joiner.add(entry.toString());
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Initialize map iterator, it walks the entries in the hash order.
+     *
+     * @return the Iterator impl
+     */
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new MapIterator();
+    }
+
+    /**
+     * The type Node, the entry of the map and of the access list of its region.
+     * The links and the region are changed under the lock only.
+     *
+     * @param <K> the key
+     * @param <V> the value
+     */
+    private static final class Node<K, V> implements Map.Entry<K, V> {
+        private final K key;
+        private volatile V value;
+        private byte region = DEAD;
+        private Node<K, V> before;
+        private Node<K, V> after;
+
+        private Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * The type MapIterator.
+     */
+    private class MapIterator implements Iterator<Map.Entry<K, V>> {
+        private final Iterator<Map.Entry<K, Node<K, V>>> iterator = data.iterator();
+        private Node<K, V> lastReturned;
+
+        /**
+         * The method checks if map has one more element.
+         *
+         * @return the boolean value.
+         */
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        /**
+         * The method based on hasNext() return element of the collection.
+         *
+         * @return the Entry instance
+         */
+        @Override
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("There are no more element in the collection.");
+            }
+            lastReturned = iterator.next().getValue();
+            return lastReturned;
+        }
+
+        /**
+         * The method based on hasNext() and next() methods removes data.
+         */
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException("Incorrect behavior for the iterator, when called remove() previously next() wasn't called");
+            }
+            TinyLfuCache.this.remove(lastReturned.key);
+            lastReturned = null;
+        }
+    }
+}
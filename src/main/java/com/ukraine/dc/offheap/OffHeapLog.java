@@ -0,0 +1,213 @@
+package com.ukraine.dc.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The OffHeapLog, an append-only store of serialized values in direct memory chunks.
+ * A value is addressed by the chunk index in the high half and the offset in the low half of a long,
+ * values of variable-width serializers are prefixed with their length. Released values are only counted,
+ * the owner copies the live values into a new log when {@link #needsCompaction()} says the garbage dominates.
+ */
+public final class OffHeapLog {
+    public static final long NULL_ADDRESS = -1;
+    private static final int MIN_CHUNK_SIZE = 1 << 12;
+    private static final int MAX_CHUNK_SIZE = 1 << 26;
+    private final OffHeapMemory memory;
+    private ByteBuffer[] chunks = new ByteBuffer[4];
+    private int chunkCount;
+    private int position;
+    private long liveBytes;
+    private long garbageBytes;
+
+    /**
+     * Initialize OffHeapLog, the chunks are allocated from the memory on demand.
+     *
+     * @param memory the memory
+     */
+    public OffHeapLog(OffHeapMemory memory) {
+        this.memory = memory;
+    }
+
+    /**
+     * Appends the value.
+     *
+     * @param serializer the serializer
+     * @param value      the value
+     * @param <T>        the value type
+     * @return the address or NULL_ADDRESS for null value
+     */
+    public <T> long write(Serializer<T> serializer, T value) {
+        if (value == null) {
+            return NULL_ADDRESS;
+        }
+        int size = serializer.fixedSize();
+        boolean fixed = size != Serializer.VARIABLE_SIZE;
+        if (!fixed) {
+            size = serializer.sizeOf(value);
+        }
+        int recordSize = fixed ? size : Integer.BYTES + size;
+        long address = append(recordSize);
+        ByteBuffer chunk = chunks[chunkIndex(address)];
+        int offset = offset(address);
+        if (!fixed) {
+            chunk.putInt(offset, size);
+            offset += Integer.BYTES;
+        }
+        serializer.write(value, chunk, offset);
+        liveBytes += recordSize;
+        return address;
+    }
+
+    /**
+     * Reads the value.
+     *
+     * @param serializer the serializer the value was written with
+     * @param address    the address
+     * @param <T>        the value type
+     * @return the value or null for NULL_ADDRESS
+     */
+    public <T> T read(Serializer<T> serializer, long address) {
+        if (address == NULL_ADDRESS) {
+            return null;
+        }
+        ByteBuffer chunk = chunks[chunkIndex(address)];
+        int offset = offset(address);
+        int size = serializer.fixedSize();
+        if (size == Serializer.VARIABLE_SIZE) {
+            size = chunk.getInt(offset);
+            offset += Integer.BYTES;
+        }
+        return serializer.read(chunk, offset, size);
+    }
+
+    /**
+     * Marks the value as garbage.
+     *
+     * @param serializer the serializer the value was written with
+     * @param address    the address
+     */
+    public void release(Serializer<?> serializer, long address) {
+        if (address == NULL_ADDRESS) {
+            return;
+        }
+        int recordSize = recordSize(serializer, address);
+        liveBytes -= recordSize;
+        garbageBytes += recordSize;
+    }
+
+    /**
+     * Copies the value from another log without deserializing it.
+     *
+     * @param source     the source log
+     * @param serializer the serializer the value was written with
+     * @param address    the address in the source log
+     * @return the address in this log
+     */
+    public long copy(OffHeapLog source, Serializer<?> serializer, long address) {
+        if (address == NULL_ADDRESS) {
+            return NULL_ADDRESS;
+        }
+        int recordSize = source.recordSize(serializer, address);
+        long newAddress = append(recordSize);
+        ByteBuffer sourceChunk = source.chunks[chunkIndex(address)].duplicate();
+        int sourceOffset = offset(address);
+        sourceChunk.limit(sourceOffset + recordSize).position(sourceOffset);
+        ByteBuffer chunk = chunks[chunkIndex(newAddress)].duplicate();
+        chunk.position(offset(newAddress));
+        chunk.put(sourceChunk);
+        liveBytes += recordSize;
+        return newAddress;
+    }
+
+    /**
+     * Checks if the released values take more space than the live ones
+     * and the chunks to copy the live values into fit within the memory limit.
+     *
+     * @return the boolean value
+     */
+    public boolean needsCompaction() {
+        return garbageBytes > liveBytes && garbageBytes >= MIN_CHUNK_SIZE && memory.canAllocate(compactedBytes());
+    }
+
+    /**
+     * Returns the size of the live values.
+     *
+     * @return the long value
+     */
+    public long liveBytes() {
+        return liveBytes;
+    }
+
+    /**
+     * Returns the size of the released values and of the unused chunk tails.
+     *
+     * @return the long value
+     */
+    public long garbageBytes() {
+        return garbageBytes;
+    }
+
+    /**
+     * Releases all the chunks, the log stays usable.
+     */
+    public void free() {
+        for (int i = 0; i < chunkCount; i++) {
+            memory.free(chunks[i]);
+            chunks[i] = null;
+        }
+        chunkCount = 0;
+        position = 0;
+        liveBytes = 0;
+        garbageBytes = 0;
+    }
+
+    // the new log grows by the same chunks, so the live values take whole chunks, one more covers the unused tails
+    private long compactedBytes() {
+        long bytes = 0;
+        int chunkSize = MIN_CHUNK_SIZE;
+        while (bytes < liveBytes) {
+            bytes += chunkSize;
+            chunkSize = Math.min(chunkSize * 2, MAX_CHUNK_SIZE);
+        }
+        return bytes + chunkSize;
+    }
+
+    private int recordSize(Serializer<?> serializer, long address) {
+        int size = serializer.fixedSize();
+        if (size != Serializer.VARIABLE_SIZE) {
+            return size;
+        }
+        return Integer.BYTES + chunks[chunkIndex(address)].getInt(offset(address));
+    }
+
+    private long append(int recordSize) {
+        if (chunkCount == 0 || recordSize > chunks[chunkCount - 1].capacity() - position) {
+            int chunkSize = MIN_CHUNK_SIZE;
+            if (chunkCount > 0) {
+                chunkSize = Math.min(Math.max(chunks[chunkCount - 1].capacity(), MIN_CHUNK_SIZE / 2) * 2, MAX_CHUNK_SIZE);
+            }
+            // the tail of the last chunk becomes garbage only once the next chunk is allocated
+            ByteBuffer chunk = memory.allocate(Math.max(chunkSize, recordSize));
+            if (chunkCount > 0) {
+                garbageBytes += chunks[chunkCount - 1].capacity() - position;
+            }
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunkCount * 2);
+            }
+            chunks[chunkCount++] = chunk;
+            position = 0;
+        }
+        long address = (long) (chunkCount - 1) << 32 | position;
+        position += recordSize;
+        return address;
+    }
+
+    private static int chunkIndex(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int offset(long address) {
+        return (int) address;
+    }
+}
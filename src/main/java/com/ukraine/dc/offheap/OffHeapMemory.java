@@ -0,0 +1,166 @@
+package com.ukraine.dc.offheap;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * The OffHeapMemory, the owner of the direct buffers of an off-heap collection.
+ * Every buffer is counted against the optional limit and released explicitly by {@link #free(ByteBuffer)}
+ * or {@link #close()}, so the native memory does not wait for the garbage collector to find the buffer unreachable.
+ */
+public final class OffHeapMemory implements AutoCloseable {
+    public static final long UNBOUNDED = Long.MAX_VALUE;
+    private static final Object UNSAFE;
+    private static final Method INVOKE_CLEANER;
+    private final Set<ByteBuffer> buffers = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final long maxBytes;
+    private long allocatedBytes;
+    private boolean closed;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            var field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // the buffers are released by the garbage collector then
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    /**
+     * Initialize OffHeapMemory without a limit.
+     */
+    public OffHeapMemory() {
+        this(UNBOUNDED);
+    }
+
+    /**
+     * Initialize OffHeapMemory with a limit.
+     *
+     * @param maxBytes the maximum number of bytes allocated at the same time
+     */
+    public OffHeapMemory(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Incorrect memory limit: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Allocates the zeroed direct buffer.
+     *
+     * @param size the size in bytes
+     * @return the buffer
+     */
+    public ByteBuffer allocate(int size) {
+        ensureOpen();
+        if (size > maxBytes - allocatedBytes) {
+            throw new IllegalStateException("The off-heap memory limit is reached, allocated "
+                    + allocatedBytes + " of " + maxBytes + " bytes, requested " + size);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+        buffers.add(buffer);
+        allocatedBytes += size;
+        return buffer;
+    }
+
+    /**
+     * Checks if the buffer of the size can be allocated within the limit.
+     *
+     * @param size the size in bytes
+     * @return the boolean value
+     */
+    public boolean canAllocate(long size) {
+        return size <= maxBytes - allocatedBytes;
+    }
+
+    /**
+     * Releases the buffer, it must not be used afterwards.
+     *
+     * @param buffer the buffer allocated by this memory
+     */
+    public void free(ByteBuffer buffer) {
+        if (buffers.remove(buffer)) {
+            allocatedBytes -= buffer.capacity();
+            release(buffer);
+        }
+    }
+
+    /**
+     * Returns the number of bytes allocated at the moment.
+     *
+     * @return the long value
+     */
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Returns the limit.
+     *
+     * @return the long value
+     */
+    public long maxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Checks if the memory is closed.
+     *
+     * @return the boolean value
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Releases all the buffers, nothing can be allocated afterwards.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (ByteBuffer buffer : buffers) {
+            release(buffer);
+        }
+        buffers.clear();
+        allocatedBytes = 0;
+    }
+
+    /**
+     * Throws IllegalStateException if the memory is closed.
+     */
+    public void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The off-heap collection is closed");
+        }
+    }
+
+    /**
+     * Releases the direct or mapped buffer right away, it must not be used afterwards.
+     * Does nothing when the JDK does not allow that, the garbage collector releases the buffer then.
+     *
+     * @param buffer the buffer
+     */
+    public static void release(ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot release the direct buffer", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ukraine.dc.offheap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The Serializer, converts values to bytes stored off-heap and back.
+ * Values are written and read at absolute offsets, the position of the buffer is never used.
+ * A fixed-width serializer writes every value in {@link #fixedSize()} bytes, so containers may skip storing the length.
+ *
+ * @param <T> the value type
+ */
+public interface Serializer<T> {
+    int VARIABLE_SIZE = -1;
+
+    /**
+     * Returns the size of every serialized value or {@link #VARIABLE_SIZE}.
+     *
+     * @return the size in bytes
+     */
+    default int fixedSize() {
+        return VARIABLE_SIZE;
+    }
+
+    /**
+     * Returns the size of the serialized value.
+     *
+     * @param value the value, not null
+     * @return the size in bytes
+     */
+    int sizeOf(T value);
+
+    /**
+     * Writes the value into the buffer.
+     *
+     * @param value  the value, not null
+     * @param buffer the buffer
+     * @param offset the absolute offset
+     */
+    void write(T value, ByteBuffer buffer, int offset);
+
+    /**
+     * Reads the value from the buffer.
+     *
+     * @param buffer the buffer
+     * @param offset the absolute offset
+     * @param size   the size of the serialized value
+     * @return the value
+     */
+    T read(ByteBuffer buffer, int offset, int size);
+}
@@ -0,0 +1,174 @@
+package com.ukraine.dc.offheap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The Serializers for common value types.
+ */
+public final class Serializers {
+    public static final Serializer<Integer> INTEGER = new FixedSerializer<>(Integer.BYTES) {
+        @Override
+        public void write(Integer value, ByteBuffer buffer, int offset) {
+            buffer.putInt(offset, value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset, int size) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    public static final Serializer<Long> LONG = new FixedSerializer<>(Long.BYTES) {
+        @Override
+        public void write(Long value, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset, value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset, int size) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    public static final Serializer<Double> DOUBLE = new FixedSerializer<>(Double.BYTES) {
+        @Override
+        public void write(Double value, ByteBuffer buffer, int offset) {
+            buffer.putDouble(offset, value);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset, int size) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * The variable-width UTF-8 serializer. The length of the encoded string is computed without encoding it.
+     */
+    public static final Serializer<String> STRING = new Serializer<>() {
+        @Override
+        public int sizeOf(String value) {
+            int size = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char ch = value.charAt(i);
+                if (ch < 0x80) {
+                    size++;
+                } else if (ch < 0x800) {
+                    size += 2;
+                } else if (Character.isHighSurrogate(ch) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    size += 4;
+                    i++;
+                } else if (Character.isSurrogate(ch)) {
+                    // an unpaired surrogate is encoded as '?'
+                    size++;
+                } else {
+                    size += 3;
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public void write(String value, ByteBuffer buffer, int offset) {
+            putBytes(buffer, offset, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String read(ByteBuffer buffer, int offset, int size) {
+            return new String(getBytes(buffer, offset, size), StandardCharsets.UTF_8);
+        }
+    };
+
+    private static final Serializer<Serializable> SERIALIZABLE = new Serializer<>() {
+        @Override
+        public int sizeOf(Serializable value) {
+            return serialize(value).length;
+        }
+
+        @Override
+        public void write(Serializable value, ByteBuffer buffer, int offset) {
+            putBytes(buffer, offset, serialize(value));
+        }
+
+        @Override
+        public Serializable read(ByteBuffer buffer, int offset, int size) {
+            try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(getBytes(buffer, offset, size)))) {
+                return (Serializable) input.readObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Cannot deserialize the value", e);
+            }
+        }
+    };
+
+    private Serializers() {
+    }
+
+    /**
+     * Returns the serializer based on java serialization, it fits any Serializable value but is slow and verbose.
+     *
+     * @param <T> the value type
+     * @return the serializer
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Serializer<T> serializable() {
+        return (Serializer<T>) SERIALIZABLE;
+    }
+
+    private static byte[] serialize(Serializable value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void putBytes(ByteBuffer buffer, int offset, byte[] bytes) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.put(bytes);
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer, int offset, int size) {
+        byte[] bytes = new byte[size];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * The base of fixed-width serializers.
+     *
+     * @param <T> the value type
+     */
+    private abstract static class FixedSerializer<T> implements Serializer<T> {
+        private final int size;
+
+        private FixedSerializer(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public int fixedSize() {
+            return size;
+        }
+
+        @Override
+        public int sizeOf(T value) {
+            return size;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.ukraine.dc.list;
 
 import com.ukraine.dc.list.impl.ArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class ArrayListTest<T> extends ListTest<T> {
 
@@ -9,4 +13,80 @@ class ArrayListTest<T> extends ListTest<T> {
         return new ArrayList<>();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test clear() keeps the capacity and the list is reusable, also with zero initial capacity.")
+    void givenFilledListWhenClearThenCapacityShouldBeKept() {
+        ArrayList<Integer> list = new ArrayList<>(0);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        int capacity = list.capacity();
+        list.clear();
+        assertEquals(0, list.size());
+        assertEquals(capacity, list.capacity());
+        list.add(7);
+        assertEquals(7, list.get(0));
+        assertEquals("[7]", list.toString());
+    }
+
+    @Test
+    @DisplayName("Test ensureCapacity() reserves the room once and every growth policy grows as described.")
+    void givenGrowthPolicyWhenAddThenCapacityShouldGrowByPolicy() {
+        ArrayList<Integer> reserved = new ArrayList<>();
+        reserved.ensureCapacity(1000);
+        assertEquals(1000, reserved.capacity());
+        for (int i = 0; i < 1000; i++) {
+            reserved.add(i);
+        }
+        assertEquals(1000, reserved.capacity());
+        reserved.ensureCapacity(10);
+        assertEquals(1000, reserved.capacity());
+
+        ArrayList<Integer> oneAndHalf = new ArrayList<>(10, ArrayList.GrowthPolicy.ONE_AND_HALF);
+        ArrayList<Integer> doubled = new ArrayList<>(10, ArrayList.GrowthPolicy.DOUBLE);
+        for (int i = 0; i < 11; i++) {
+            oneAndHalf.add(i);
+            doubled.add(i);
+        }
+        assertEquals(15, oneAndHalf.capacity());
+        assertEquals(20, doubled.capacity());
+
+        ArrayList<Integer> chunked = new ArrayList<>(1 << 20, ArrayList.GrowthPolicy.CHUNKED);
+        chunked.ensureCapacity((1 << 20) + 1);
+        assertEquals(2 << 20, chunked.capacity());
+        chunked.ensureCapacity((2 << 20) + 1);
+        assertEquals(3 << 20, chunked.capacity());
+
+        assertThrows(IllegalArgumentException.class, () -> new ArrayList<>(-1));
+    }
+
+    @Test
+    @DisplayName("Test auto-shrink halves the array below a quarter of use and never below the initial capacity.")
+    void givenAutoShrinkWhenMassRemovalThenCapacityShouldShrinkWithHysteresis() {
+        ArrayList<Integer> list = new ArrayList<>(8, ArrayList.GrowthPolicy.DOUBLE, true);
+        for (int i = 0; i < 128; i++) {
+            list.add(i);
+        }
+        assertEquals(128, list.capacity());
+        list.removeIf(x -> x >= 31);
+        assertEquals(64, list.capacity());
+        // between the shrink and the grow points the capacity doesn't change
+        for (int i = 0; i < 100; i++) {
+            list.add(-1);
+            list.remove(list.size() - 1);
+        }
+        assertEquals(64, list.capacity());
+        while (list.size() > 1) {
+            list.remove(0);
+        }
+        assertEquals(8, list.capacity());
+        assertEquals(30, list.get(0));
+
+        ArrayList<Integer> fixed = new ArrayList<>(8);
+        for (int i = 0; i < 128; i++) {
+            fixed.add(i);
+        }
+        fixed.removeIf(x -> x > 0);
+        assertEquals(128, fixed.capacity());
+    }
+}
@@ -0,0 +1,86 @@
+package com.ukraine.dc.list;
+
+import com.ukraine.dc.list.impl.CircularArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircularArrayListTest<T> extends ListTest<T> {
+
+    @Override
+    protected List<String> getList() {
+        // small capacity, so the common tests wrap around and grow the array
+        return new CircularArrayList<>(4);
+    }
+
+    @Test
+    @DisplayName("Test random add/remove/set sequence against java.util.ArrayList.")
+    void givenRandomOperationsWhenCompareWithJdkListThenContentShouldBeEqual() {
+        List<Integer> list = new CircularArrayList<>(2);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 50_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(i, index);
+                expected.add(index, i);
+            } else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), list.set(-i, index));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertEquals(expected.toString(), list.toString());
+    }
+
+    @Test
+    @DisplayName("Test the list as a FIFO queue whose elements wrap around the array end.")
+    void givenQueueWhenAddToEndAndRemoveFromFrontThenOrderShouldBeKept() {
+        List<Integer> list = new CircularArrayList<>(8);
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+        for (int i = 5; i < 100; i++) {
+            assertEquals(i - 5, list.remove(0));
+            list.add(i);
+            assertEquals(i - 4, list.get(0));
+            assertEquals(i, list.get(4));
+        }
+        list.add(-1, 0);
+        list.add(-2, 3);
+        assertEquals("[-1, 95, 96, -2, 97, 98, 99]", list.toString());
+        assertEquals(3, list.indexOf(-2));
+        assertEquals(-2, list.remove(3));
+        assertEquals(-1, list.remove(0));
+        assertEquals("[95, 96, 97, 98, 99]", list.toString());
+    }
+
+    @Test
+    @DisplayName("Test 1M adds and removes at the front stay O(1) each.")
+    void givenLargeListWhenAddAndRemoveAtFrontThenOperationsShouldBeFast() {
+        List<Integer> list = new CircularArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(i);
+        }
+        // with a shift of the whole array per operation the loop would take minutes
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 1_000_000; i++) {
+                list.add(list.remove(0) + 1, 0);
+                list.add(list.remove(list.size() - 1));
+                list.add(list.remove(0));
+            }
+        });
+        assertEquals(100_000, list.size());
+    }
+}
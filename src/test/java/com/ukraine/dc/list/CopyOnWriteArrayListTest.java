@@ -0,0 +1,191 @@
+package com.ukraine.dc.list;
+
+import com.ukraine.dc.list.impl.CopyOnWriteArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CopyOnWriteArrayListTest<T> extends ListTest<T> {
+
+    @Override
+    protected List<String> getList() {
+        return new CopyOnWriteArrayList<>();
+    }
+
+    @Override
+    @Test
+    @DisplayName("Test listIterator() is read-only, set() and add() are not supported.")
+    void givenListIteratorWhenEditAtCursorThenListShouldBeUpdated() {
+        List<String> list = getList();
+        list.add("0");
+        list.add("1");
+        ListIterator<String> iterator = list.listIterator();
+        assertEquals("0", iterator.next());
+        assertThrows(UnsupportedOperationException.class, () -> iterator.set("x"));
+        assertThrows(UnsupportedOperationException.class, () -> iterator.add("x"));
+        iterator.remove();
+        assertEquals("1", iterator.next());
+        assertEquals("[1]", list.toString());
+    }
+
+    @Override
+    @Test
+    @DisplayName("Test listIterator() remove() without next().")
+    void givenListIteratorWhenRemoveOrSetWithoutNextThenIllegalStateExceptionShouldBeRaised() {
+        List<String> list = getList();
+        list.add("1");
+        ListIterator<String> iterator = list.listIterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        iterator.next();
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals("[]", list.toString());
+    }
+
+    @Test
+    @DisplayName("Test random add/remove/set/bulk sequence against java.util.ArrayList.")
+    void givenRandomOperationsWhenCompareWithJdkListThenContentShouldBeEqual() {
+        List<Integer> list = new CopyOnWriteArrayList<>();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(19);
+        for (int i = 0; i < 5_000; i++) {
+            int operation = random.nextInt(20);
+            if (operation < 10 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(i, index);
+                expected.add(index, i);
+            } else if (operation < 16) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (operation < 18) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), list.set(-i, index));
+            } else if (operation < 19) {
+                int divisor = 2 + random.nextInt(5);
+                assertEquals(expected.removeIf(x -> x % divisor == 0), list.removeIf(x -> x % divisor == 0));
+            } else {
+                List<Integer> values = new CopyOnWriteArrayList<>();
+                values.add(i);
+                values.add(-i);
+                int index = random.nextInt(expected.size() + 1);
+                list.addAll(values, index);
+                expected.addAll(index, java.util.List.of(i, -i));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        assertEquals(expected.toString(), list.toString());
+    }
+
+    @Test
+    @DisplayName("Test iterator and spliterator walk the snapshot taken at their creation.")
+    void givenIteratorWhenListChangedThenSnapshotShouldBeIterated() {
+        List<String> list = getList();
+        for (int i = 0; i < 5; i++) {
+            list.add(String.valueOf(i));
+        }
+        Iterator<String> iterator = list.iterator();
+        Spliterator<String> spliterator = list.spliterator();
+        list.clear();
+        list.add("new");
+        StringBuilder iterated = new StringBuilder();
+        while (iterator.hasNext()) {
+            iterated.append(iterator.next());
+        }
+        assertEquals("01234", iterated.toString());
+        assertEquals(5, spliterator.estimateSize());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        assertEquals("[new]", list.toString());
+    }
+
+    @Test
+    @DisplayName("Test listIterator() remove() after previous() removes the elements walking backward.")
+    void givenListIteratorAtEndWhenRemoveAfterPreviousThenListShouldBeEmpty() {
+        List<String> list = getList();
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        ListIterator<String> iterator = list.listIterator(3);
+        assertEquals("c", iterator.previous());
+        iterator.remove();
+        assertEquals("b", iterator.previous());
+        iterator.remove();
+        assertEquals("[a]", list.toString());
+        assertEquals("a", iterator.previous());
+        iterator.remove();
+        assertEquals("[]", list.toString());
+        assertFalse(iterator.hasPrevious());
+    }
+
+    @Test
+    @DisplayName("Test iterator remove() finds the element after it was moved by another write.")
+    void givenIteratorWhenListChangedThenRemoveShouldFindTheElement() {
+        List<String> list = getList();
+        for (int i = 0; i < 4; i++) {
+            list.add(String.valueOf(i));
+        }
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        assertEquals("1", iterator.next());
+        list.add("a", 0);
+        list.remove(3);
+        iterator.remove();
+        assertEquals("[a, 0, 3]", list.toString());
+    }
+
+    @Test
+    @DisplayName("Test readers never see a partial write while writers add and remove in batches.")
+    void givenReadersAndWritersWhenRunConcurrentlyThenEverySnapshotShouldBeConsistent() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            List<Integer> list = new CopyOnWriteArrayList<>();
+            int writers = 2;
+            int rounds = 500;
+            CountDownLatch done = new CountDownLatch(writers);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            for (int w = 0; w < writers; w++) {
+                int id = w;
+                new Thread(() -> {
+                    for (int i = 0; i < rounds; i++) {
+                        // every batch is a pair (x, -x), so a snapshot always sums to zero
+                        List<Integer> pair = new CopyOnWriteArrayList<>();
+                        pair.add(id * rounds + i + 1);
+                        pair.add(-(id * rounds + i + 1));
+                        list.addAll(pair);
+                        if (i % 3 == 0) {
+                            int value = id * rounds + i + 1;
+                            list.removeIf(x -> x == value || x == -value);
+                        }
+                    }
+                    done.countDown();
+                }).start();
+            }
+            Thread reader = new Thread(() -> {
+                try {
+                    while (done.getCount() > 0) {
+                        long sum = 0;
+                        for (Integer value : list) {
+                            sum += value;
+                        }
+                        assertEquals(0, sum);
+                    }
+                } catch (Throwable e) {
+                    failure.set(e);
+                }
+            });
+            reader.start();
+            done.await();
+            reader.join();
+            assertNull(failure.get());
+            int removed = (rounds + 2) / 3;
+            assertEquals(writers * (rounds - removed) * 2, list.size());
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package com.ukraine.dc.list;
+
+import com.ukraine.dc.list.impl.DoubleArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleArrayListTest {
+    private DoubleArrayList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new DoubleArrayList();
+    }
+
+    @Test
+    @DisplayName("Test addDouble()/getDouble()/setDouble()/removeDouble().")
+    void shouldStoreDoubleValues() {
+        list.addDouble(1.5);
+        list.addDouble(2.5);
+        list.addDouble(0.5, 0);
+        assertEquals(0.5, list.getDouble(0));
+        assertEquals(2.5, list.setDouble(3.5, 2));
+        assertEquals(1.5, list.removeDouble(1));
+        assertArrayEquals(new double[]{0.5, 3.5}, list.toDoubleArray());
+    }
+
+    @Test
+    @DisplayName("Test indexOfDouble() compares values like Double.equals().")
+    void shouldFindNanAndDistinguishNegativeZero() {
+        list.addDouble(0.0);
+        list.addDouble(Double.NaN);
+        assertEquals(1, list.indexOfDouble(Double.NaN));
+        assertEquals(-1, list.indexOfDouble(-0.0));
+        assertEquals(0, list.lastIndexOfDouble(0.0));
+    }
+
+    @Test
+    @DisplayName("Test forEachDouble() visits values in order.")
+    void shouldVisitAllValuesInOrder() {
+        for (int i = 1; i <= 4; i++) {
+            list.addDouble(i / 2.0);
+        }
+        double[] sum = new double[1];
+        list.forEachDouble(value -> sum[0] += value);
+        assertEquals(5.0, sum[0]);
+    }
+}
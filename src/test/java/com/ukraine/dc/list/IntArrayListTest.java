@@ -0,0 +1,96 @@
+package com.ukraine.dc.list;
+
+import com.ukraine.dc.list.impl.IntArrayList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntArrayListTest {
+    private IntArrayList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new IntArrayList();
+    }
+
+    @Test
+    @DisplayName("Test addInt() by index, then check values and size.")
+    void shouldAddValuesByIndexAndShiftTheTail() {
+        for (int i = 0; i < 10; i++) {
+            list.addInt(i);
+        }
+        list.addInt(100, 0);
+        list.addInt(200, 5);
+        list.addInt(300, 12);
+        assertEquals(13, list.size());
+        assertEquals(100, list.getInt(0));
+        assertEquals(200, list.getInt(5));
+        assertEquals(300, list.getInt(12));
+        assertEquals("[100, 0, 1, 2, 3, 200, 4, 5, 6, 7, 8, 9, 300]", list.toString());
+    }
+
+    @Test
+    @DisplayName("Test removeInt() and setInt() return previous values.")
+    void shouldReturnPreviousValueWhenRemoveAndSet() {
+        list.addInt(1);
+        list.addInt(2);
+        list.addInt(3);
+        assertEquals(2, list.setInt(20, 1));
+        assertEquals(1, list.removeInt(0));
+        assertArrayEquals(new int[]{20, 3}, list.toIntArray());
+    }
+
+    @Test
+    @DisplayName("Test indexOfInt(), lastIndexOfInt() and indexOf(null).")
+    void shouldFindFirstAndLastOccurrence() {
+        list.addInt(7);
+        list.addInt(8);
+        list.addInt(7);
+        assertEquals(0, list.indexOfInt(7));
+        assertEquals(2, list.lastIndexOfInt(7));
+        assertEquals(-1, list.indexOfInt(9));
+        assertEquals(-1, list.indexOf(null));
+        assertTrue(list.contains(8));
+    }
+
+    @Test
+    @DisplayName("Test forEachInt() visits values in order.")
+    void shouldVisitAllValuesInOrder() {
+        for (int i = 1; i <= 100; i++) {
+            list.addInt(i);
+        }
+        int[] sum = new int[1];
+        list.forEachInt(value -> sum[0] += value);
+        assertEquals(5050, sum[0]);
+    }
+
+    @Test
+    @DisplayName("Test boxed List methods and iterator remove().")
+    void shouldSupportListInterface() {
+        List<Integer> boxed = list;
+        boxed.add(1);
+        boxed.add(2);
+        boxed.add(3, 1);
+        assertEquals(3, boxed.get(1));
+        var iterator = boxed.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals("[3, 2]", boxed.toString());
+        assertThrows(NullPointerException.class, () -> boxed.add(null));
+    }
+
+    @Test
+    @DisplayName("Test getInt() with invalid index and clear() keeps list usable.")
+    void shouldThrowIndexOutOfBoundsExceptionAndBeReusableAfterClear() {
+        Exception exception = Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(0));
+        assertTrue(exception.getMessage().contains("Incorrect index"));
+        list.addInt(1);
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.addInt(2);
+        assertEquals(2, list.getInt(0));
+    }
+}
@@ -1,6 +1,14 @@
 package com.ukraine.dc.list;
 
 import com.ukraine.dc.list.impl.LinkedList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 class LinkedListTest<T> extends ListTest<T> {
 
@@ -9,4 +17,105 @@ class LinkedListTest<T> extends ListTest<T> {
         return new LinkedList<>();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test rewrite pass over 1M elements with listIterator() runs in linear time.")
+    void givenLargeListWhenRewriteWithListIteratorThenPassShouldBeLinear() {
+        List<Integer> list = new LinkedList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            list.add(i);
+        }
+        // with an index lookup per edit the pass would take hours
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            ListIterator<Integer> iterator = list.listIterator();
+            while (iterator.hasNext()) {
+                int value = iterator.next();
+                if (value % 2 == 0) {
+                    iterator.remove();
+                } else {
+                    iterator.set(-value);
+                    iterator.add(value);
+                }
+            }
+        });
+        assertEquals(1_000_000, list.size());
+        assertEquals(-1, list.get(0));
+        assertEquals(1, list.get(1));
+        assertEquals(999_999, list.get(999_999));
+    }
+
+    @Test
+    @DisplayName("Test iterator remove() keeps the backward links, so lastIndexOf() still works.")
+    void givenIteratorRemoveWhenLastIndexOfThenElementShouldBeFound() {
+        List<Integer> list = new LinkedList<>();
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        var iterator = list.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        assertEquals(0, list.lastIndexOf(1));
+        list.add(4);
+        assertEquals("[1, 2, 4]", list.toString());
+    }
+
+    @Test
+    @DisplayName("Test sequential get() over 1M elements runs in linear time.")
+    void givenLargeListWhenGetSequentiallyThenPassShouldBeLinear() {
+        List<Integer> list = new LinkedList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            list.add(i);
+        }
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < list.size(); i++) {
+                assertEquals(i, list.get(i));
+            }
+            for (int i = list.size() - 1; i >= 0; i -= 2) {
+                list.set(-i, i);
+            }
+        });
+        assertEquals(-999_999, list.get(999_999));
+        assertEquals(999_998, list.get(999_998));
+    }
+
+    @Test
+    @DisplayName("Test near-sequential add/remove/get sequence against java.util.ArrayList, so the finger is shifted.")
+    void givenNearSequentialOperationsWhenCompareWithJdkListThenContentShouldBeEqual() {
+        List<Integer> list = new LinkedList<>();
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(7);
+        int index = 0;
+        for (int i = 0; i < 100_000; i++) {
+            index = Math.max(0, Math.min(expected.size(), index + random.nextInt(7) - 3));
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                list.add(i, index);
+                expected.add(index, i);
+            } else if (index < expected.size()) {
+                if (operation == 1) {
+                    assertEquals(expected.remove(index), list.remove(index));
+                } else {
+                    assertEquals(expected.get(index), list.get(index));
+                }
+            }
+            if (i % 1_000 == 0) {
+                var iterator = list.iterator();
+                var expectedIterator = expected.iterator();
+                for (int step = random.nextInt(expected.size() + 1); step > 0; step--) {
+                    iterator.next();
+                    expectedIterator.next();
+                }
+                if (expectedIterator.hasNext()) {
+                    assertEquals(expectedIterator.next(), iterator.next());
+                    iterator.remove();
+                    expectedIterator.remove();
+                }
+            }
+        }
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+}
@@ -4,7 +4,10 @@ import com.ukraine.dc.list.impl.LinkedList;
 import org.junit.jupiter.api.*;
 
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -81,6 +84,20 @@ abstract class ListTest<T> {
         assertEquals("2", list.get(0));
     }
 
+    @Test
+    @DisplayName("Test add() by index in the middle, then remove it and check neighbours.")
+    void shouldRemoveElementInsertedInTheMiddle() {
+        list.add("1");
+        list.add("2");
+        list.add("3");
+        list.add("4", 1);
+        assertEquals("4", list.remove(1));
+        assertEquals("[1, 2, 3]", list.toString());
+        list.add("5", 2);
+        assertEquals("5", list.remove(2));
+        assertEquals("[1, 2, 3]", list.toString());
+    }
+
     @Test
     @DisplayName("Test add() method, try to add by invalid index.")
     void shouldThrowIndexOutOfBoundExceptionWhenIndexInvalid() {
@@ -377,4 +394,165 @@ abstract class ListTest<T> {
         assertEquals("[]", list.toString());
     }
 
+    @Test
+    @DisplayName("Test listIterator() walks forward and backward.")
+    void givenListIteratorWhenNextAndPreviousThenIndexesShouldFollowTheCursor() {
+        list.add("a");
+        list.add("b");
+        list.add("c");
+        ListIterator<String> iterator = list.listIterator(1);
+        assertEquals(1, iterator.nextIndex());
+        assertEquals("b", iterator.next());
+        assertEquals("c", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals("c", iterator.previous());
+        assertEquals("b", iterator.previous());
+        assertEquals("a", iterator.previous());
+        assertFalse(iterator.hasPrevious());
+        assertEquals(-1, iterator.previousIndex());
+        Exception exception = assertThrows(NoSuchElementException.class, iterator::previous);
+        assertEquals("There are no more element in the collection.", exception.getMessage());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.listIterator(4));
+    }
+
+    @Test
+    @DisplayName("Test listIterator() add()/set()/remove() at the cursor position.")
+    void givenListIteratorWhenEditAtCursorThenListShouldBeUpdated() {
+        for (int i = 0; i < 6; i++) {
+            list.add(String.valueOf(i));
+        }
+        ListIterator<String> iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            int value = Integer.parseInt(iterator.next());
+            if (value % 3 == 0) {
+                iterator.remove();
+            } else if (value % 3 == 1) {
+                iterator.set("x" + value);
+            } else {
+                iterator.add("after" + value);
+            }
+        }
+        assertEquals("[x1, 2, after2, x4, 5, after5]", list.toString());
+        iterator.add("end");
+        assertEquals("end", iterator.previous());
+        iterator.remove();
+        assertEquals("after5", iterator.previous());
+        iterator.remove();
+        assertEquals("5", iterator.previous());
+        iterator.set("five");
+        assertEquals(4, iterator.nextIndex());
+        assertEquals("[x1, 2, after2, x4, five]", list.toString());
+        assertEquals(5, list.size());
+    }
+
+    @Test
+    @DisplayName("Test listIterator() remove() and set() without next() or after add().")
+    void givenListIteratorWhenRemoveOrSetWithoutNextThenIllegalStateExceptionShouldBeRaised() {
+        list.add("1");
+        ListIterator<String> iterator = list.listIterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertThrows(IllegalStateException.class, () -> iterator.set("2"));
+        iterator.next();
+        iterator.add("2");
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals("[1, 2]", list.toString());
+    }
+
+    @Test
+    @DisplayName("Test addAll() to the end, by index and of the list to itself.")
+    void givenValuesWhenAddAllThenValuesShouldBeInsertedInOrder() {
+        List<String> values = getList();
+        values.add("a");
+        values.add("b");
+        list.add("1");
+        list.add("2");
+        list.addAll(values);
+        assertEquals("[1, 2, a, b]", list.toString());
+        list.addAll(values, 1);
+        assertEquals("[1, a, b, 2, a, b]", list.toString());
+        list.addAll(list, 0);
+        assertEquals("[1, a, b, 2, a, b, 1, a, b, 2, a, b]", list.toString());
+        assertEquals(12, list.size());
+        list.addAll(getList(), 12);
+        assertEquals(12, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(values, 13));
+    }
+
+    @Test
+    @DisplayName("Test removeIf() keeps the order of the remaining elements.")
+    void givenFilterWhenRemoveIfThenMatchingElementsShouldBeRemoved() {
+        for (int i = 0; i < 20; i++) {
+            list.add(i % 3 == 0 ? null : String.valueOf(i));
+        }
+        assertTrue(list.removeIf(value -> value == null || value.endsWith("1")));
+        assertEquals("[2, 4, 5, 7, 8, 10, 13, 14, 16, 17, 19]", list.toString());
+        assertFalse(list.removeIf(value -> value.isEmpty()));
+        assertEquals(11, list.size());
+        assertEquals(10, list.indexOf("19"));
+    }
+
+    @Test
+    @DisplayName("Test removeIf() keeps the unchecked elements when the filter throws.")
+    void givenThrowingFilterWhenRemoveIfThenUncheckedElementsShouldBeKept() {
+        for (int i = 0; i < 6; i++) {
+            list.add(String.valueOf(i));
+        }
+        assertThrows(IllegalStateException.class, () -> list.removeIf(value -> {
+            if (value.equals("3")) {
+                throw new IllegalStateException();
+            }
+            return value.equals("1");
+        }));
+        assertEquals("[0, 2, 3, 4, 5]", list.toString());
+        assertEquals(5, list.size());
+    }
+
+    @Test
+    @DisplayName("Test removeAll() and retainAll().")
+    void givenValuesWhenRemoveAllOrRetainAllThenListShouldBeFiltered() {
+        List<String> values = getList();
+        values.add("b");
+        values.add("d");
+        for (String value : new String[]{"a", "b", "c", "d", "b"}) {
+            list.add(value);
+        }
+        assertTrue(list.removeAll(values));
+        assertEquals("[a, c]", list.toString());
+        list.add("b");
+        assertTrue(list.retainAll(values));
+        assertEquals("[b]", list.toString());
+        assertFalse(list.retainAll(values));
+    }
+
+    @Test
+    @DisplayName("Test stream() and parallelStream() see every element in order.")
+    void givenElementsWhenStreamThenElementsShouldBeProcessedInOrder() {
+        for (int i = 0; i < 5000; i++) {
+            list.add(String.valueOf(i));
+        }
+        assertEquals(list.toString(), list.stream().collect(Collectors.joining(", ", "[", "]")));
+        assertEquals(list.toString(), list.parallelStream().collect(Collectors.joining(", ", "[", "]")));
+        assertEquals(2500, list.parallelStream().filter(value -> Integer.parseInt(value) % 2 == 0).count());
+        assertEquals(4999L * 5000 / 2, list.parallelStream().mapToLong(Long::parseLong).sum());
+    }
+
+    @Test
+    @DisplayName("Test spliterator() is SIZED and its parts cover the list in order.")
+    void givenElementsWhenSpliteratorIsSplitThenPartsShouldCoverTheList() {
+        for (int i = 0; i < 3000; i++) {
+            list.add(String.valueOf(i));
+        }
+        Spliterator<String> spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(3000, spliterator.getExactSizeIfKnown());
+        Spliterator<String> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(3000, prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown());
+        StringBuilder builder = new StringBuilder();
+        assertTrue(prefix.tryAdvance(builder::append));
+        prefix.forEachRemaining(builder::append);
+        spliterator.forEachRemaining(builder::append);
+        assertFalse(spliterator.tryAdvance(builder::append));
+        assertEquals(String.join("", list), builder.toString());
+    }
 }
@@ -0,0 +1,44 @@
+package com.ukraine.dc.list;
+
+import com.ukraine.dc.list.impl.LongArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongArrayListTest {
+    private LongArrayList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new LongArrayList();
+    }
+
+    @Test
+    @DisplayName("Test addLong()/getLong()/setLong()/removeLong() with values out of int range.")
+    void shouldStoreLongValues() {
+        long big = Long.MAX_VALUE - 1;
+        list.addLong(1);
+        list.addLong(big);
+        list.addLong(3, 1);
+        assertEquals(3, list.size());
+        assertEquals(big, list.getLong(2));
+        assertEquals(3, list.setLong(-big, 1));
+        assertEquals(1, list.removeLong(0));
+        assertArrayEquals(new long[]{-big, big}, list.toLongArray());
+        assertEquals(1, list.indexOfLong(big));
+        assertEquals(0, list.lastIndexOfLong(-big));
+    }
+
+    @Test
+    @DisplayName("Test forEachLong() visits values in order.")
+    void shouldVisitAllValuesInOrder() {
+        for (long i = 0; i < 10; i++) {
+            list.addLong(i << 40);
+        }
+        StringBuilder builder = new StringBuilder();
+        list.forEachLong(value -> builder.append(value >> 40));
+        assertEquals("0123456789", builder.toString());
+    }
+}
@@ -0,0 +1,124 @@
+package com.ukraine.dc.list;
+
+import com.ukraine.dc.list.impl.OffHeapArrayList;
+import com.ukraine.dc.offheap.Serializers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapArrayListTest<T> extends ListTest<T> {
+
+    @Override
+    protected List<String> getList() {
+        return new OffHeapArrayList<>(Serializers.STRING);
+    }
+
+    @Test
+    @DisplayName("Test fixed-width elements are stored inline and null is rejected.")
+    void givenFixedWidthSerializerWhenAddThenValuesShouldBeStoredInline() {
+        try (OffHeapArrayList<Long> list = new OffHeapArrayList<>(Serializers.LONG)) {
+            for (long i = 0; i < 1_000; i++) {
+                list.add(i << 40);
+            }
+            list.add(-1L, 500);
+            assertEquals(1_001, list.size());
+            assertEquals(-1L, list.get(500));
+            assertEquals(500L << 40, list.get(501));
+            assertEquals(-1L, list.remove(500));
+            assertEquals(999L << 40, list.set(7L, 999));
+            assertEquals(999, list.indexOf(7L));
+            assertThrows(IllegalArgumentException.class, () -> list.add(null));
+            assertEquals(1_000, list.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Test replaced elements are compacted, so the memory does not grow with the number of updates.")
+    void givenManyUpdatesWhenSetThenMemoryShouldStayBounded() {
+        try (OffHeapArrayList<String> list = new OffHeapArrayList<>(Serializers.STRING)) {
+            for (int i = 0; i < 100; i++) {
+                list.add("value" + i);
+            }
+            long bytes = list.offHeapBytes();
+            for (int i = 0; i < 100_000; i++) {
+                list.set("updated" + i, i % 100);
+            }
+            assertTrue(list.offHeapBytes() <= bytes * 4, "off-heap bytes " + list.offHeapBytes());
+            assertEquals("updated99999", list.get(99));
+            assertEquals("updated99900", list.get(0));
+        }
+    }
+
+    @Test
+    @DisplayName("Test bounded list throws IllegalStateException when the limit is reached and keeps its content.")
+    void givenMemoryLimitWhenExceededThenIllegalStateExceptionShouldBeRaised() {
+        try (OffHeapArrayList<String> list = new OffHeapArrayList<>(Serializers.STRING, 16, 8 * 1024)) {
+            String value = "x".repeat(100);
+            Exception exception = assertThrows(IllegalStateException.class, () -> {
+                while (true) {
+                    list.add(value, 0);
+                }
+            });
+            assertTrue(exception.getMessage().contains("limit"));
+            int size = list.size();
+            assertTrue(size > 0);
+            assertEquals(size - 1, list.lastIndexOf(value));
+            list.clear();
+            list.add("again");
+            assertEquals("again", list.get(0));
+        }
+    }
+
+    @Test
+    @DisplayName("Test compaction near the limit keeps the content and remove()/set() don't fail.")
+    void givenMemoryNearLimitWhenCompactThenContentShouldBeKept() {
+        for (long maxBytes = 12 * 1024; maxBytes <= 24 * 1024; maxBytes += 1013) {
+            try (OffHeapArrayList<String> list = new OffHeapArrayList<>(Serializers.STRING, 256, maxBytes)) {
+                java.util.List<String> expected = new java.util.ArrayList<>();
+                Random random = new Random(maxBytes);
+                for (int i = 0; i < 20_000; i++) {
+                    String value = "v".repeat(random.nextInt(40)) + i;
+                    int operation = random.nextInt(3);
+                    if (operation == 0 && !expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        assertEquals(expected.remove(index), list.remove(index));
+                    } else if (operation == 1 && !expected.isEmpty() || expected.size() == 200) {
+                        int index = random.nextInt(expected.size());
+                        try {
+                            assertEquals(expected.get(index), list.set(value, index));
+                            expected.set(index, value);
+                        } catch (IllegalStateException e) {
+                            // the value does not fit, the list stays as it was
+                            assertTrue(e.getMessage().contains("limit"));
+                        }
+                    } else {
+                        try {
+                            list.add(value);
+                            expected.add(value);
+                        } catch (IllegalStateException e) {
+                            assertTrue(e.getMessage().contains("limit"));
+                        }
+                    }
+                    assertEquals(expected.size(), list.size());
+                }
+                for (int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i), list.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test closed list can't be used.")
+    void givenClosedListWhenGetThenIllegalStateExceptionShouldBeRaised() {
+        OffHeapArrayList<String> list = new OffHeapArrayList<>(Serializers.STRING);
+        list.add("value");
+        list.close();
+        assertEquals(0, list.offHeapBytes());
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+        assertThrows(IllegalStateException.class, () -> list.add("value"));
+    }
+}
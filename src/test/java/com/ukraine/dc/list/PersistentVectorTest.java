@@ -0,0 +1,122 @@
+package com.ukraine.dc.list;
+
+import com.ukraine.dc.list.impl.PersistentVector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentVectorTest {
+
+    @Test
+    @DisplayName("Test plus() and withoutLast() over several levels of the trie.")
+    void givenVectorWhenPlusAndWithoutLastThenElementsShouldBeFound() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        // 32 * 32 * 32 + 1 elements need a trie of three levels below the root
+        int size = 32 * 32 * 32 + 100;
+        for (int i = 0; i < size; i++) {
+            vector = vector.plus(i);
+            assertEquals(i, vector.get(i));
+        }
+        assertEquals(size, vector.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, vector.get(i));
+        }
+        int index = 0;
+        for (Integer value : vector) {
+            assertEquals(index++, value);
+        }
+        assertEquals(size, index);
+        assertEquals(30_000, vector.indexOf(30_000));
+        assertEquals(-1, vector.lastIndexOf(-1));
+        for (int i = size - 1; i >= 0; i--) {
+            assertEquals(i, vector.get(i));
+            vector = vector.withoutLast();
+            assertEquals(i, vector.size());
+        }
+        assertTrue(vector.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, vector::withoutLast);
+    }
+
+    @Test
+    @DisplayName("Test the updates leave the previous versions unchanged.")
+    void givenVersionsWhenUpdateThenPreviousVersionsShouldStayUnchanged() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 5_000; i++) {
+            vector = vector.plus(i);
+        }
+        java.util.List<PersistentVector<Integer>> versions = new java.util.ArrayList<>();
+        java.util.List<java.util.List<Integer>> expected = new java.util.ArrayList<>();
+        java.util.List<Integer> current = new java.util.ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            current.add(i);
+        }
+        Random random = new Random(31);
+        for (int i = 0; i < 300; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0) {
+                vector = vector.plus(-i);
+                current.add(-i);
+            } else if (operation == 1) {
+                int index = random.nextInt(current.size());
+                vector = vector.with(-i, index);
+                current.set(index, -i);
+            } else {
+                vector = vector.withoutLast();
+                current.remove(current.size() - 1);
+            }
+            versions.add(vector);
+            expected.add(new java.util.ArrayList<>(current));
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expected.get(i).toString(), versions.get(i).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Test transient batch construction, then the transient can't be used.")
+    void givenTransientWhenAddAndSetThenPersistentVectorShouldHaveSameContent() {
+        PersistentVector<Integer> base = PersistentVector.empty();
+        for (int i = 0; i < 50; i++) {
+            base = base.plus(i);
+        }
+        PersistentVector.Transient<Integer> builder = base.asTransient();
+        for (int i = 50; i < 100_000; i++) {
+            builder.add(i);
+        }
+        for (int i = 0; i < 100_000; i += 7) {
+            assertEquals(i, builder.set(-i, i));
+        }
+        assertEquals(100_000, builder.size());
+        PersistentVector<Integer> vector = builder.persistent();
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i % 7 == 0 ? -i : i, vector.get(i));
+        }
+        assertThrows(IllegalStateException.class, () -> builder.add(1));
+        assertThrows(IllegalStateException.class, () -> builder.get(0));
+        assertEquals(50, base.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, base.get(i));
+        }
+        assertEquals(100_001, vector.plus(1).size());
+        assertEquals(100_000, vector.size());
+    }
+
+    @Test
+    @DisplayName("Test the mutating methods of List are not supported.")
+    void givenPersistentVectorWhenAddRemoveSetClearThenUnsupportedOperationExceptionShouldBeThrown() {
+        PersistentVector<String> vector = PersistentVector.<String>empty().plus("a").plus("b");
+        assertThrows(UnsupportedOperationException.class, () -> vector.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> vector.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> vector.set("c", 0));
+        assertThrows(UnsupportedOperationException.class, vector::clear);
+        Iterator<String> iterator = vector.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertEquals("[a, b]", vector.toString());
+        assertEquals("[a, b]", vector.with("b", 1).toString());
+    }
+}
@@ -0,0 +1,128 @@
+package com.ukraine.dc.list;
+
+import com.ukraine.dc.list.impl.TreeList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TreeListTest<T> extends ListTest<T> {
+
+    @Override
+    protected List<String> getList() {
+        // small leaves, so the common tests build a tree of several levels
+        return new TreeList<>(4);
+    }
+
+    @Test
+    @DisplayName("Test random add/remove/set sequence against java.util.ArrayList.")
+    void givenRandomOperationsWhenCompareWithJdkListThenContentShouldBeEqual() {
+        List<Integer> list = new TreeList<>(4);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(13);
+        for (int i = 0; i < 50_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(i, index);
+                expected.add(index, i);
+            } else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), list.set(-i, index));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertEquals(expected.toString(), list.toString());
+        assertEquals(expected.lastIndexOf(expected.get(0)), list.lastIndexOf(expected.get(0)));
+    }
+
+    @Test
+    @DisplayName("Test split(), concat() and extract() against java.util.ArrayList.")
+    void givenRandomSplitsAndConcatsWhenCompareWithJdkListThenContentShouldBeEqual() {
+        TreeList<Integer> list = new TreeList<>(4);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        Random random = new Random(17);
+        for (int i = 0; i < 2_000; i++) {
+            int from = random.nextInt(expected.size() + 1);
+            int to = from + random.nextInt(expected.size() - from + 1);
+            TreeList<Integer> extracted = list.extract(from, to);
+            java.util.List<Integer> range = expected.subList(from, to);
+            assertEquals(range.toString(), extracted.toString());
+            java.util.List<Integer> rangeCopy = new java.util.ArrayList<>(range);
+            range.clear();
+            assertEquals(expected.toString(), list.toString());
+            // put the range back at another place
+            int index = random.nextInt(expected.size() + 1);
+            TreeList<Integer> tail = list.split(index);
+            list.concat(extracted);
+            list.concat(tail);
+            expected.addAll(index, rangeCopy);
+            assertEquals(0, extracted.size());
+            assertEquals(0, tail.size());
+            assertEquals(expected.size(), list.size());
+        }
+        assertEquals(expected.toString(), list.toString());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> list.concat(list));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.extract(5, 4));
+    }
+
+    @Test
+    @DisplayName("Test iterator remove() of every other element across leaf merges.")
+    void givenIteratorWhenRemoveEveryOtherElementThenRestShouldStayInOrder() {
+        List<Integer> list = new TreeList<>(4);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            if (i % 2 == 1) {
+                expected.add(i);
+            }
+        }
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(expected.toString(), list.toString());
+    }
+
+    @Test
+    @DisplayName("Test 1M random inserts and removes in a list of 1M elements.")
+    void givenLargeListWhenRandomInsertsAndRemovesThenOperationsShouldBeLogarithmic() {
+        List<Integer> list = new TreeList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            list.add(i);
+        }
+        Random random = new Random(19);
+        // with a shift or a walk of half the list per operation the loop would take hours
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 1_000_000; i++) {
+                int index = random.nextInt(list.size());
+                list.add(list.remove(index), random.nextInt(list.size() + 1));
+            }
+        });
+        assertEquals(1_000_000, list.size());
+        long sum = 0;
+        for (int value : list) {
+            sum += value;
+        }
+        assertEquals(999_999L * 1_000_000 / 2, sum);
+    }
+}
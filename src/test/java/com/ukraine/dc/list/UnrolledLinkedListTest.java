@@ -0,0 +1,69 @@
+package com.ukraine.dc.list;
+
+import com.ukraine.dc.list.impl.UnrolledLinkedList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnrolledLinkedListTest<T> extends ListTest<T> {
+
+    @Override
+    protected List<String> getList() {
+        // small nodes, so the common tests split and merge them
+        return new UnrolledLinkedList<>(4);
+    }
+
+    @Test
+    @DisplayName("Test random add/remove/set sequence against java.util.ArrayList.")
+    void givenRandomOperationsWhenCompareWithJdkListThenContentShouldBeEqual() {
+        List<Integer> list = new UnrolledLinkedList<>(4);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 50_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(i, index);
+                expected.add(index, i);
+            } else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), list.set(-i, index));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertEquals(expected.toString(), list.toString());
+    }
+
+    @Test
+    @DisplayName("Test iterator remove() of every other element across node merges.")
+    void givenIteratorWhenRemoveEveryOtherElementThenRestShouldStayInOrder() {
+        List<Integer> list = new UnrolledLinkedList<>(4);
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            if (i % 2 == 1) {
+                expected.add(i);
+            }
+        }
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(expected.toString(), list.toString());
+        assertEquals(50, list.size());
+        assertEquals(49, list.lastIndexOf(99));
+        assertEquals(0, list.indexOf(1));
+    }
+}
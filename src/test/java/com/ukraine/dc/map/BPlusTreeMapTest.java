@@ -0,0 +1,144 @@
+package com.ukraine.dc.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BPlusTreeMapTest extends MapTest {
+
+    @Override
+    protected <K, V> Map<K, V> getMap() {
+        // small nodes, so the common tests split and merge them on every level
+        return new BPlusTreeMap<>(4, null);
+    }
+
+    @Test
+    @DisplayName("Test keys are sorted and first/last/floor/ceiling find the neighbours.")
+    void givenKeysWhenNavigateThenNeighbourKeysShouldBeReturned() {
+        BPlusTreeMap<Integer, String> map = new BPlusTreeMap<>(3, null);
+        assertThrows(NoSuchElementException.class, map::firstKey);
+        assertThrows(NoSuchElementException.class, map::lastKey);
+        assertNull(map.floorEntry(10));
+        assertNull(map.ceilingEntry(10));
+        for (int key : new int[]{50, 10, 40, 20, 30}) {
+            map.put(key, "v" + key);
+        }
+        map.put(null, "none");
+        assertEquals("[null=none, 10=v10, 20=v20, 30=v30, 40=v40, 50=v50]", map.toString());
+        assertNull(map.firstKey());
+        assertEquals(50, map.lastKey());
+        assertEquals("30=v30", map.floorEntry(30).toString());
+        assertEquals("30=v30", map.floorEntry(39).toString());
+        assertEquals("40=v40", map.ceilingEntry(31).toString());
+        assertEquals("null=none", map.floorEntry(5).toString());
+        assertNull(map.ceilingEntry(51));
+        map.remove(null);
+        assertNull(map.floorEntry(5));
+        assertEquals(10, map.firstKey());
+        assertThrows(IllegalArgumentException.class, () -> new BPlusTreeMap<>(2, null));
+    }
+
+    @Test
+    @DisplayName("Test subMap() iterates the half-open range lazily and its iterator removes from the map.")
+    void givenRangeWhenIterateSubMapThenOnlyKeysInRangeShouldBeReturned() {
+        BPlusTreeMap<Integer, Integer> map = new BPlusTreeMap<>(4, null);
+        for (int i = 0; i < 100; i += 2) {
+            map.put(i, i * 10);
+        }
+        Iterable<Map.Entry<Integer, Integer>> range = map.subMap(11, 20);
+        List<Integer> keys = new ArrayList<>();
+        range.forEach(entry -> keys.add(entry.getKey()));
+        assertEquals(List.of(12, 14, 16, 18), keys);
+
+        // the view is not materialized, a new iterator sees the later changes
+        map.put(13, 130);
+        keys.clear();
+        for (Iterator<Map.Entry<Integer, Integer>> iterator = range.iterator(); iterator.hasNext(); ) {
+            Map.Entry<Integer, Integer> entry = iterator.next();
+            keys.add(entry.getKey());
+            iterator.remove();
+        }
+        assertEquals(List.of(12, 13, 14, 16, 18), keys);
+        assertFalse(map.containsKey(14));
+        assertTrue(map.containsKey(10));
+        assertTrue(map.containsKey(20));
+        assertEquals(46, map.size());
+        assertFalse(map.subMap(21, 21).iterator().hasNext());
+        assertThrows(IllegalArgumentException.class, () -> map.subMap(30, 20));
+    }
+
+    @Test
+    @DisplayName("Test random put/remove and navigation against java.util.TreeMap.")
+    void givenRandomOperationsWhenCompareWithJdkTreeMapThenResultsShouldBeEqual() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            BPlusTreeMap<Integer, Integer> map = new BPlusTreeMap<>(5, Comparator.reverseOrder());
+            TreeMap<Integer, Integer> expected = new TreeMap<>(Comparator.reverseOrder());
+            Random random = new Random(24);
+            for (int i = 0; i < 200_000; i++) {
+                int key = random.nextInt(2000);
+                int operation = random.nextInt(10);
+                if (operation < 5) {
+                    Integer prevValue = expected.put(key, i);
+                    assertEquals(prevValue == null ? Integer.valueOf(i) : prevValue, map.put(key, i));
+                } else if (operation < 8) {
+                    assertEquals(expected.remove(key), map.remove(key));
+                } else {
+                    java.util.Map.Entry<Integer, Integer> floor = expected.floorEntry(key);
+                    java.util.Map.Entry<Integer, Integer> ceiling = expected.ceilingEntry(key);
+                    assertEquals(floor == null ? null : floor.toString(),
+                            map.floorEntry(key) == null ? null : map.floorEntry(key).toString());
+                    assertEquals(ceiling == null ? null : ceiling.toString(),
+                            map.ceilingEntry(key) == null ? null : map.ceilingEntry(key).toString());
+                }
+                assertEquals(expected.size(), map.size());
+            }
+            assertEquals(expected.firstKey(), map.firstKey());
+            assertEquals(expected.lastKey(), map.lastKey());
+            assertEquals(expected.toString().replace("{", "[").replace("}", "]"), map.toString());
+            List<Integer> keys = new ArrayList<>();
+            map.subMap(1500, 500).forEach(entry -> keys.add(entry.getKey()));
+            assertEquals(new ArrayList<>(expected.subMap(1500, 500).keySet()), keys);
+        });
+    }
+
+    @Test
+    @DisplayName("Test fromSorted() builds the same map as put() and the map stays balanced after changes.")
+    void givenSortedEntriesWhenBulkLoadThenMapShouldEqualIncrementallyBuiltOne() {
+        for (int count : new int[]{0, 1, 3, 4, 5, 17, 1000}) {
+            BPlusTreeMap<Integer, Integer> source = new BPlusTreeMap<>(4, null);
+            for (int i = 0; i < count; i++) {
+                source.put(i * 3, i);
+            }
+            BPlusTreeMap<Integer, Integer> map = BPlusTreeMap.fromSorted(source, 4, null);
+            assertEquals(source.size(), map.size());
+            assertEquals(source.toString(), map.toString());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, map.get(i * 3));
+                assertNull(map.get(i * 3 + 1));
+            }
+            for (int i = 0; i < count * 3; i += 2) {
+                map.put(i, -i);
+                source.put(i, -i);
+            }
+            for (int i = 0; i < count * 3; i += 5) {
+                assertEquals(source.remove(i), map.remove(i));
+            }
+            assertEquals(source.toString(), map.toString());
+        }
+        BPlusTreeMap<Integer, Integer> unsorted = new BPlusTreeMap<>();
+        unsorted.put(1, 1);
+        unsorted.put(2, 2);
+        assertThrows(IllegalArgumentException.class,
+                () -> BPlusTreeMap.fromSorted(unsorted, 4, Comparator.<Integer>reverseOrder()));
+    }
+}
@@ -0,0 +1,96 @@
+package com.ukraine.dc.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentHashMapTest extends MapTest {
+    private static final int THREADS = 8;
+
+    @Override
+    protected <K, V> Map<K, V> getMap() {
+        return new ConcurrentHashMap<>();
+    }
+
+    @Test
+    @DisplayName("Test concurrent put() of disjoint keys while the table is resized many times.")
+    void givenManyWritersWhenPutDisjointKeysThenAllKeysShouldBePresent() throws Exception {
+        Map<Integer, Integer> map = getMap();
+        int perThread = 50_000;
+        runConcurrently(thread -> {
+            for (int i = thread * perThread; i < (thread + 1) * perThread; i++) {
+                map.put(i, i);
+                assertEquals(i, map.get(i));
+            }
+        });
+        assertEquals(THREADS * perThread, map.size());
+        for (int i = 0; i < THREADS * perThread; i++) {
+            assertEquals(i, map.get(i));
+        }
+        int iterated = 0;
+        for (Map.Entry<Integer, Integer> entry : map) {
+            assertEquals(entry.getKey(), entry.getValue());
+            iterated++;
+        }
+        assertEquals(THREADS * perThread, iterated);
+    }
+
+    @Test
+    @DisplayName("Test readers see either no value or the published one while writers put and remove.")
+    void givenWritersAndReadersWhenRunConcurrentlyThenReadersShouldSeeConsistentValues() throws Exception {
+        Map<Integer, String> map = getMap();
+        int keys = 10_000;
+        runConcurrently(thread -> {
+            for (int round = 0; round < 5; round++) {
+                for (int i = 0; i < keys; i++) {
+                    if (thread % 2 == 0) {
+                        map.put(i, String.valueOf(i));
+                        if (round % 2 == 1) {
+                            map.remove(i);
+                        }
+                    } else {
+                        String value = map.get(i);
+                        assertTrue(value == null || value.equals(String.valueOf(i)));
+                    }
+                }
+            }
+        });
+        for (int i = 0; i < keys; i++) {
+            map.remove(i);
+        }
+        assertEquals(0, map.size());
+        assertFalse(map.iterator().hasNext());
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int id = thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(id);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+    }
+
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
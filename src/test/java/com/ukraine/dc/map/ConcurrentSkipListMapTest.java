@@ -0,0 +1,180 @@
+package com.ukraine.dc.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentSkipListMapTest extends MapTest {
+    private static final int THREADS = 8;
+
+    @Override
+    protected <K, V> Map<K, V> getMap() {
+        return new ConcurrentSkipListMap<>();
+    }
+
+    @Test
+    @DisplayName("Test keys are sorted, first/last/floor/ceiling find the neighbours and subMap() is half-open.")
+    void givenKeysWhenNavigateThenNeighbourKeysShouldBeReturned() {
+        ConcurrentSkipListMap<Integer, String> map = new ConcurrentSkipListMap<>();
+        assertThrows(NoSuchElementException.class, map::firstKey);
+        assertThrows(NoSuchElementException.class, map::lastKey);
+        assertNull(map.floorEntry(10));
+        assertNull(map.ceilingEntry(10));
+        for (int key : new int[]{50, 10, 40, 20, 30}) {
+            map.put(key, "v" + key);
+        }
+        map.put(null, "none");
+        map.put(60, null);
+        assertEquals("[null=none, 10=v10, 20=v20, 30=v30, 40=v40, 50=v50, 60=null]", map.toString());
+        assertTrue(map.containsKey(60));
+        assertNull(map.firstKey());
+        assertEquals(60, map.lastKey());
+        assertEquals("30=v30", map.floorEntry(39).toString());
+        assertEquals("40=v40", map.ceilingEntry(31).toString());
+        assertEquals("null=none", map.floorEntry(5).toString());
+        assertNull(map.ceilingEntry(61));
+
+        List<Integer> keys = new ArrayList<>();
+        map.subMap(20, 50).forEach(entry -> keys.add(entry.getKey()));
+        assertEquals(List.of(20, 30, 40), keys);
+        map.subMap(20, 50).iterator().forEachRemaining(entry -> map.remove(entry.getKey()));
+        assertEquals("[null=none, 10=v10, 50=v50, 60=null]", map.toString());
+        assertThrows(IllegalArgumentException.class, () -> map.subMap(50, 20));
+    }
+
+    @Test
+    @DisplayName("Test random put/remove and navigation against java.util.TreeMap.")
+    void givenRandomOperationsWhenCompareWithJdkTreeMapThenResultsShouldBeEqual() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            ConcurrentSkipListMap<Integer, Integer> map = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+            TreeMap<Integer, Integer> expected = new TreeMap<>(Comparator.reverseOrder());
+            Random random = new Random(25);
+            for (int i = 0; i < 200_000; i++) {
+                int key = random.nextInt(2000);
+                int operation = random.nextInt(10);
+                if (operation < 5) {
+                    Integer prevValue = expected.put(key, i);
+                    assertEquals(prevValue == null ? Integer.valueOf(i) : prevValue, map.put(key, i));
+                } else if (operation < 8) {
+                    assertEquals(expected.remove(key), map.remove(key));
+                } else {
+                    java.util.Map.Entry<Integer, Integer> floor = expected.floorEntry(key);
+                    java.util.Map.Entry<Integer, Integer> ceiling = expected.ceilingEntry(key);
+                    assertEquals(floor == null ? null : floor.toString(),
+                            map.floorEntry(key) == null ? null : map.floorEntry(key).toString());
+                    assertEquals(ceiling == null ? null : ceiling.toString(),
+                            map.ceilingEntry(key) == null ? null : map.ceilingEntry(key).toString());
+                }
+                assertEquals(expected.size(), map.size());
+            }
+            assertEquals(expected.firstKey(), map.firstKey());
+            assertEquals(expected.lastKey(), map.lastKey());
+            assertEquals(expected.toString().replace("{", "[").replace("}", "]"), map.toString());
+        });
+    }
+
+    @Test
+    @DisplayName("Test concurrent writers of disjoint keys while readers scan ranges, the scans should stay sorted.")
+    void givenWritersAndRangeReadersWhenRunConcurrentlyThenScansShouldBeSortedAndAllKeysPresent() throws Exception {
+        ConcurrentSkipListMap<Integer, Integer> map = new ConcurrentSkipListMap<>();
+        int perThread = 20_000;
+        int writers = THREADS / 2;
+        runConcurrently(thread -> {
+            if (thread < writers) {
+                // keys of writers interleave, so they race for the same predecessors
+                for (int i = 0; i < perThread; i++) {
+                    int key = i * writers + thread;
+                    map.put(key, key);
+                    if (i % 3 == 0) {
+                        assertEquals(key, map.remove(key));
+                    }
+                }
+            } else {
+                for (int round = 0; round < 200; round++) {
+                    int from = round * 100;
+                    int prevKey = Integer.MIN_VALUE;
+                    for (Map.Entry<Integer, Integer> entry : map.subMap(from, from + 5000)) {
+                        int key = entry.getKey();
+                        assertTrue(key > prevKey && key >= from && key < from + 5000);
+                        assertEquals(key, entry.getValue());
+                        prevKey = key;
+                    }
+                }
+            }
+        });
+        int expectedSize = 0;
+        for (int i = 0; i < perThread * writers; i++) {
+            boolean present = (i / writers) % 3 != 0;
+            assertEquals(present, map.containsKey(i));
+            expectedSize += present ? 1 : 0;
+        }
+        assertEquals(expectedSize, map.size());
+    }
+
+    @Test
+    @DisplayName("Test concurrent put() and remove() of the same keys, every value should leave the map once.")
+    void givenRacingPutAndRemoveWhenRunConcurrentlyThenEveryValueShouldBeAccountedOnce() throws Exception {
+        ConcurrentSkipListMap<Integer, Integer> map = new ConcurrentSkipListMap<>();
+        int keys = 100;
+        int perThread = 50_000;
+        Set<Integer> seen = java.util.concurrent.ConcurrentHashMap.newKeySet();
+        runConcurrently(thread -> {
+            Random random = new Random(thread);
+            for (int i = 0; i < perThread; i++) {
+                int key = random.nextInt(keys);
+                Integer value = thread * perThread + i;
+                // the values are unique, so every value replaced or removed is returned to exactly one caller
+                Integer prevValue = map.put(key, value);
+                if (!prevValue.equals(value)) {
+                    assertTrue(seen.add(prevValue));
+                }
+                Integer removed = map.remove(random.nextInt(keys));
+                if (removed != null) {
+                    assertTrue(seen.add(removed));
+                }
+            }
+        });
+        for (Map.Entry<Integer, Integer> entry : map) {
+            assertTrue(seen.add(entry.getValue()));
+        }
+        assertEquals(THREADS * perThread, seen.size());
+    }
+
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int id = thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run(id);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+    }
+
+    private interface ThreadTask {
+        void run(int thread);
+    }
+}
@@ -1,128 +1,31 @@
 package com.ukraine.dc.map;
 
-import org.junit.jupiter.api.*;
-
-import java.util.Iterator;
-import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-class HashMapTest {
-    private Map<String, String> map;
-
-    @BeforeEach
-    void setUp() {
-        map = new HashMap<>();
-    }
-
-    @Test
-    @DisplayName("Test put(k,v) new element to the collection with same key, multiply times.")
-    void givenNullKeyWhenPutMultipleTimesThenSizeShouldBeEqualToOneAndValueShouldBeOverwrittenWithLast() {
-        map.put(null, "value1");
-        map.put(null, "value2");
-        map.put(null, "value3");
-
-        assertEquals(1, map.size());
-        assertEquals("value3", map.get(null));
-    }
-
-    @Test
-    @DisplayName("Test clear() method on collection.")
-    void shouldClearTheCollection() {
-        map.put("key1", "val1");
-        map.put("key2", "val1");
-        map.put("key3", "val1");
-        map.put("key4", "val1");
-        assertEquals(4, map.size());
-        map.clear();
-        assertEquals(0, map.size());
-        assertNull(map.get(null));
-    }
-
-    @Test
-    @DisplayName("Test get(null) on empty map.")
-    void givenEmptyMapWhenGetByNullKeyThenNullShouldBeReturned() {
-        assertNull(map.get(null));
-    }
-
-    @Test
-    @DisplayName("Test get(key) on empty map.")
-    void givenEmptyMapWhenGetByNotNullKeyThenNullShouldBeReturned() {
-        assertNull(map.get("key"));
-    }
-
-    @Test
-    @DisplayName("Test put(null, 'val') then check size and added element.")
-    void givenNullKeyWhenPutOnceThenSizeShouldBeEqualToOneAndValueShouldBeEqualToInserted() {
-        map.put(null, "test");
-        assertEquals(1, map.size());
-        assertEquals("test", map.get(null));
-    }
-
-    @Test
-    @DisplayName("Test put('key', 'val') then check size and added element.")
-    void givenNotNullKeyWhenPutThenSizeShouldBeEqualToOneAndValueShouldBeEqualToInserted() {
-        map.put("key", "value");
-        assertEquals(1, map.size());
-        assertEquals("value", map.get("key"));
-    }
-
-    @Test
-    @DisplayName("Test put() multiple times with non null keys, check size and added elements.")
-    void givenMultipleNotNullKeysWhenPutThenSizeShouldBeEqualToSizeOfKeysAndGetByKeyReturnsCorrespondingValue() {
-        map.put("key1", "value1");
-        map.put("key2", "value2");
-
-        assertEquals(2, map.size());
-        assertEquals("value1", map.get("key1"));
-        assertEquals("value2", map.get("key2"));
-    }
-
-    @Test
-    void shouldReturnNullOnGetByNonExistingKey() {
-        map.put("existingKey", "value1");
-        assertNull(map.get("notExistingKey"));
-    }
-
-    @Test
-    @DisplayName("Test get(key) on empty map")
-    void shouldReturnNullOnGetCallWhenMapIsEmpty() {
-        assertNull(map.get("key1"));
-    }
-
-    @Test
-    @DisplayName("Test put() method adding data to the map with the same key")
-    void shouldAddOneElementToMapByTheSameKey_ValueWillBeOverWrittenTwoTimesTheLastValueWillPresent() {
-        map.put("key", "val1");
-        map.put("key", "val2");
-        map.put("key", "val3");
-
-        assertEquals(1, map.size());
-        assertEquals("val3", map.get("key"));
-    }
-
-    @Test
-    @DisplayName("Test remove() method on empty map")
-    void givenEmptyMapWhenRemoveByNullKeyThenSizeShouldBeEqualToZero() {
-        map.remove(null);
-        assertEquals(0, map.size());
-    }
-
-    @Test
-    @DisplayName("Test remove() on non empty map")
-    void givenNotEmptyMapWhenRemoveByNullKeyThenSizeShouldBeEqualToZero() {
-        map.put(null, "value");
-        assertEquals("[null=value]", map.toString());
+class HashMapTest extends MapTest {
 
-        map.remove(null);
-        assertEquals(0, map.size());
-        assertEquals("[]", map.toString());
+    @Override
+    protected <K, V> Map<K, V> getMap() {
+        return new HashMap<>();
     }
 
     @Test
     @DisplayName("Test not empty map with null/notNull key, check the size, content.")
     void givenNotEmptyMapWithNotNullKeyWhenPutWithNullKeyAndRemoveByNullKeyThenSizeShouldDecreaseByOne() {
-        Map<String, String> map = new HashMap<>();
+        Map<String, String> map = getMap();
         map.put(null, "value");
         map.put("notNullKey", "value");
 
@@ -134,191 +37,327 @@ class HashMapTest {
     }
 
     @Test
-    @DisplayName("Test remove() method by map key.")
-    void givenNotEmptyMapWhenRemoveRandomlyThenSizeShouldDecreaseAfterEachRemovalByOne() {
-        map.put("key1", "val1");
-        map.put("key2", "val2");
-        map.put("key3", "val3");
+    @DisplayName("Test iterator methods on map with collisions.")
+    void givenMapWithCollisions_thenUsingIteratorRemoveEverySecondElement() {
+        Map<Integer, String> map = getMap();
+        int key = 0;
+        for (int i = 0; i < 8; i++) {
+            map.put(key, String.valueOf(i));
+            key += 4;
+        }
+        assertEquals("[0=0, 16=4, 4=1, 20=5, 8=2, 24=6, 12=3, 28=7]", map.toString());
+        int index = 0;
+        var iterator = map.iterator();
+        while (iterator.hasNext()) {
+            var item = iterator.next();
+            if (index % 2 == 0) {
+                iterator.remove();
+            }
+            index++;
+        }
+        assertEquals("[16=4, 20=5, 24=6, 28=7]", map.toString());
+    }
 
-        assertEquals(3, map.size());
+    @Test
+    @DisplayName("Test get/put/remove on keys with the same hash code take logarithmic number of comparisons.")
+    void givenKeysWithSameHashCodeWhenGetPutRemoveThenComparisonsShouldBeLogarithmic() {
+        int count = 1 << 14;
+        int maxComparisons = 4 * 14;
+        Map<CollidingKey, Integer> map = getMap();
+        for (int i = 0; i < count; i++) {
+            map.put(new CollidingKey(i, 42), i);
+        }
+        assertEquals(count, map.size());
 
-        map.remove("key1");
-        assertEquals(2, map.size());
+        for (int i = 0; i < count; i += 97) {
+            CollidingKey.comparisons = 0;
+            assertEquals(i, map.get(new CollidingKey(i, 42)));
+            assertTrue(CollidingKey.comparisons <= maxComparisons, "comparisons: " + CollidingKey.comparisons);
 
-        map.remove("key3");
-        assertEquals(1, map.size());
+            CollidingKey.comparisons = 0;
+            assertNull(map.get(new CollidingKey(count + i, 42)));
+            assertTrue(CollidingKey.comparisons <= maxComparisons, "comparisons: " + CollidingKey.comparisons);
 
-        map.remove("key2");
-        assertEquals(0, map.size());
-    }
+            CollidingKey.comparisons = 0;
+            assertEquals(i, map.remove(new CollidingKey(i, 42)));
+            assertTrue(CollidingKey.comparisons <= maxComparisons, "comparisons: " + CollidingKey.comparisons);
 
-    @Test
-    @DisplayName("Test map.containsKey() by null key on empty map")
-    void givenEmptyMapWhenContainsNullKeyThenFalseShouldBeReturned() {
-        assertFalse(map.containsKey(null));
+            CollidingKey.comparisons = 0;
+            map.put(new CollidingKey(i, 42), i);
+            assertTrue(CollidingKey.comparisons <= maxComparisons, "comparisons: " + CollidingKey.comparisons);
+        }
+        assertEquals(count, map.size());
     }
 
     @Test
-    @DisplayName("Test map.containsKey() by not null key on empty map")
-    void givenEmptyMapWhenContainsNotNullKeyThenFalseShouldBeReturned() {
-        assertFalse(map.containsKey("key"));
+    @DisplayName("Test tree bin shrinks back to a chain and keeps all entries reachable.")
+    void givenTreeBinWhenRemoveMostKeysThenRemainingKeysShouldBeReachable() {
+        Map<CollidingKey, Integer> map = getMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(new CollidingKey(i, 7), i);
+        }
+        for (int i = 0; i < 98; i++) {
+            assertEquals(i, map.remove(new CollidingKey(i, 7)));
+        }
+        assertEquals(2, map.size());
+        assertEquals(98, map.get(new CollidingKey(98, 7)));
+        assertEquals(99, map.get(new CollidingKey(99, 7)));
+        int iterated = 0;
+        for (Map.Entry<CollidingKey, Integer> entry : map) {
+            assertTrue(entry.getValue() >= 98);
+            iterated++;
+        }
+        assertEquals(2, iterated);
     }
 
     @Test
-    @DisplayName("Test map.containsKey() by null key on not empty map")
-    void givenMapWithExistingNullKeyWhenContainsNullKeyThenTrueShouldBeReturned() {
-        map.put(null, "value");
-        assertTrue(map.containsKey(null));
+    @DisplayName("Test keys with the same hash code and no natural order.")
+    void givenNotComparableKeysWithSameHashCodeWhenPutGetRemoveThenAllKeysShouldBeFound() {
+        Map<Object, Integer> map = getMap();
+        for (int i = 0; i < 200; i++) {
+            map.put(new NotComparableKey(i), i);
+        }
+        map.put("Aa", -1);
+        map.put("BB", -2);
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i, map.get(new NotComparableKey(i)));
+        }
+        for (int i = 0; i < 200; i += 2) {
+            assertEquals(i, map.remove(new NotComparableKey(i)));
+        }
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i % 2 == 0 ? null : i, map.get(new NotComparableKey(i)));
+        }
+        assertEquals(-1, map.get("Aa"));
+        assertEquals(-2, map.get("BB"));
+        assertEquals(102, map.size());
     }
 
     @Test
-    @DisplayName("Test map.containsKey() by not null key on not empty map")
-    void givenMapWithExistingNotNullKeyWhenContainsNullKeyThenTrueShouldBeReturned() {
-        map.put("key", "value");
-        assertTrue(map.containsKey("key"));
+    @DisplayName("Test tree bins are split between two buckets on resize, with and without incremental mode.")
+    void givenTreeBinWhenMapGrowsThenEntriesShouldBeSplitAndIterableOnce() {
+        for (boolean incremental : new boolean[]{false, true}) {
+            Map<CollidingKey, Integer> map = new HashMap<>(16, 0.75, incremental);
+            for (int i = 0; i < 1_000; i++) {
+                // hash codes 0 and 16 share the bucket until the table has 32 buckets
+                map.put(new CollidingKey(i, i % 2 * 16), i);
+                if (i % 10 == 0) {
+                    assertEquals(i / 2, map.get(new CollidingKey(i / 2, i / 2 % 2 * 16)));
+                }
+            }
+            Set<Integer> values = new HashSet<>();
+            for (Map.Entry<CollidingKey, Integer> entry : map) {
+                assertTrue(values.add(entry.getValue()));
+            }
+            assertEquals(1_000, values.size());
+        }
     }
 
     @Test
-    @DisplayName("Test containsKey() on not empty map with non existing key.")
-    void givenExistingKeyWhenContainsKeyThenTrueShouldBeReturned() {
-        map.put("key", "value");
-        assertFalse(map.containsKey("notExistingKey"));
+    @DisplayName("Test parallel stream over tree bins during the incremental resize.")
+    void givenTreeBinsAndPendingMigrationWhenParallelStreamThenEveryEntryShouldBeSeenOnce() {
+        HashMap<CollidingKey, Integer> map = new HashMap<>(16, 0.75, true);
+        for (int i = 0; i < 1_000; i++) {
+            map.put(new CollidingKey(i, i % 4), i);
+        }
+        for (int i = 1_000; i < 10_000; i++) {
+            map.put(new CollidingKey(i, i), i);
+        }
+        Spliterator<Map.Entry<CollidingKey, Integer>> spliterator = map.spliterator();
+        assertEquals(10_000, spliterator.getExactSizeIfKnown());
+        Spliterator<Map.Entry<CollidingKey, Integer>> prefix = spliterator.trySplit();
+        assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(10_000, map.parallelStream().mapToInt(Map.Entry::getValue).distinct().count());
+        assertEquals(9_999L * 10_000 / 2, map.parallelStream().mapToLong(Map.Entry::getValue).sum());
     }
 
     @Test
-    @DisplayName("Test containsKey() on not empty map")
-    void givenMultipleNodesInSameBucketAndExistingKeyWhenContainsByKeyThenTrueShouldBeReturned() {
-        map.put("key1", "val1");
-        map.put("key2", "val2");
-        map.put("key3", "val3");
-        map.put("key4", "val4");
-
-        assertTrue(map.containsKey("key1"));
-        assertTrue(map.containsKey("key2"));
-        assertTrue(map.containsKey("key3"));
-        assertTrue(map.containsKey("key4"));
+    @DisplayName("Test forEach(), reduce() and search() with sequential and parallel thresholds.")
+    void givenEntriesWhenBulkOperationsThenEveryEntryShouldBeProcessedOnce() {
+        HashMap<CollidingKey, Integer> map = new HashMap<>(16, 0.75, true);
+        for (int i = 0; i < 100_000; i++) {
+            // every 10th key shares the hash code with 99 others, so some buckets hold tree bins
+            map.put(new CollidingKey(i, i % 10 == 0 ? i % 1_000 : i), i);
+        }
+        long expectedSum = 99_999L * 100_000 / 2;
+        for (long threshold : new long[]{Long.MAX_VALUE, 1_000, 1}) {
+            LongAdder sum = new LongAdder();
+            AtomicInteger count = new AtomicInteger();
+            map.forEach(threshold, (key, value) -> {
+                assertEquals(key.id, value);
+                sum.add(value);
+                count.incrementAndGet();
+            });
+            assertEquals(expectedSum, sum.sum());
+            assertEquals(100_000, count.get());
+
+            Long reducedSum = map.reduce(threshold, (key, value) -> (long) value, Long::sum);
+            Integer max = map.reduce(threshold, (key, value) -> value, Math::max);
+            Integer none = map.reduce(threshold, (key, value) -> null, Math::max);
+            assertEquals(expectedSum, reducedSum);
+            assertEquals(99_999, max);
+            assertNull(none);
+
+            Integer found = map.search(threshold, (key, value) -> value == 77_777 ? key.id : null);
+            Integer missing = map.search(threshold, (key, value) -> value < 0 ? value : null);
+            assertEquals(77_777, found);
+            assertNull(missing);
+        }
     }
 
     @Test
-    @DisplayName("Test iterator next() on empty map.")
-    void givenEmptyMapWhenIteratorNextThenNoSuchElementExceptionShouldBeRaised() {
-        NoSuchElementException exception = assertThrows(NoSuchElementException.class,
-                () -> new HashMap<>().iterator().next());
-        assertEquals("There are no more element in the collection.", exception.getMessage());
+    @DisplayName("Test search() stops the other ranges once a result is found.")
+    void givenManyMatchesWhenSearchThenSearchShouldStopEarly() {
+        HashMap<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            map.put(i, i);
+        }
+        AtomicInteger calls = new AtomicInteger();
+        Integer found = map.search(Long.MAX_VALUE, (key, value) -> calls.incrementAndGet() == 10 ? value : null);
+        assertNotNull(found);
+        assertEquals(10, calls.get());
+        assertNull(new HashMap<Integer, Integer>().reduce(1, (key, value) -> value, Integer::sum));
     }
 
     @Test
-    @DisplayName("Test iterator next() after last element of the map")
-    void givenIteratorWhenNextAfterLastElementThenNoSuchElementExceptionShouldBeRaised() {
-        map.put("key", "value");
-        Iterator<Map.Entry<String, String>> iterator = map.iterator();
-
-        Map.Entry<String, String> entry = iterator.next();
-        assertEquals("key", entry.getKey());
-        assertEquals("value", entry.getValue());
-        Exception exception = assertThrows(NoSuchElementException.class, iterator::next);
-        assertEquals("There are no more element in the collection.", exception.getMessage());
-    }
+    @DisplayName("Test statistics report the table structure, resizes and get hits/misses only when enabled.")
+    void givenStatisticsEnabledWhenPutAndGetThenCountersAndChainsShouldBeReported() {
+        HashMap<Object, Integer> map = new HashMap<>(16);
+        assertNull(map.getStatistics());
+        HashMapStatistics statistics = map.enableStatistics();
+        assertSame(statistics, map.enableStatistics());
+        for (int i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+        for (int i = 0; i < 150; i++) {
+            map.get(i);
+            map.containsKey(i);
+        }
+        assertEquals(100, statistics.getGetHits());
+        assertEquals(50, statistics.getGetMisses());
+        assertEquals(4, statistics.getResizeCount());
+        assertTrue(statistics.getResizeTimeNanos() > 0);
+        assertEquals(256, statistics.getCapacity());
+        assertEquals(100 / 256.0, statistics.getLoadFactor());
+        assertEquals(1, statistics.getMaxChainLength());
+        assertEquals(156, statistics.getEmptyBuckets());
+        assertArrayEquals(new long[]{156, 100, 0, 0, 0, 0, 0, 0, 0}, statistics.getChainLengthHistogram());
+
+        // degenerate hashing shows up as one long chain
+        for (int i = 0; i < 20; i++) {
+            map.put(new CollidingKey(i, 7), i);
+        }
+        assertEquals(20 + 1, statistics.getMaxChainLength());
+        assertEquals(1, statistics.getChainLengthHistogram()[8]);
 
-    @Test
-    @DisplayName("Test iterator hasNex() on empty map")
-    void givenEmptyMapWhenIteratorHasNextThenShouldReturnFalse() {
-        assertFalse(map.iterator().hasNext());
+        statistics.reset();
+        assertEquals(0, statistics.getGetHits());
+        map.disableStatistics();
+        map.get(1);
+        assertNull(map.getStatistics());
+        assertEquals(0, statistics.getGetHits());
     }
 
     @Test
-    @DisplayName("Test iterator hasNext(true)/next/hasNext(true) on map with 2 elements")
-    void givenMapWithTwoElementsWhenIteratorNextThenIteratorHasNextShouldReturnFalse() {
-        map.put("key", "value");
-        map.put("key2", "value");
+    @DisplayName("Test statistics during the incremental resize count every bucket of the new table once.")
+    void givenIncrementalResizeInProgressWhenReadStatisticsThenHistogramShouldSumToCapacity() {
+        HashMap<Integer, Integer> map = new HashMap<>(16, 0.75, true);
+        HashMapStatistics statistics = map.enableStatistics();
+        // 32 shares the bucket with 0 in the old and in the new table, the 13th put starts the resize
+        for (int key : new int[]{0, 32, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11}) {
+            map.put(key, key);
+        }
+        assertEquals(32, statistics.getCapacity());
+        long[] histogram = statistics.getChainLengthHistogram();
+        assertEquals(32, Arrays.stream(histogram).sum());
+        assertArrayEquals(new long[]{20, 11, 1, 0, 0, 0, 0, 0, 0}, histogram);
+        assertEquals(20, statistics.getEmptyBuckets());
+        assertEquals(2, statistics.getMaxChainLength());
 
-        var iterator = map.iterator();
-        assertTrue(iterator.hasNext());
-        iterator.next();
-        assertTrue(iterator.hasNext());
+        map.put(12, 12);
+        map.put(13, 13);
+        assertArrayEquals(new long[]{18, 13, 1, 0, 0, 0, 0, 0, 0}, statistics.getChainLengthHistogram());
     }
 
     @Test
-    @DisplayName("Test iterator hasNext(true)/next/hasNext(false) on map with 1 element")
-    void givenMapWithOneElementWhenIteratorNextThenIteratorHasNextShouldReturnFalse() {
-        map.put("key", "value");
-        var iterator = map.iterator();
-
-        assertTrue(iterator.hasNext());
-        iterator.next();
-        assertFalse(iterator.hasNext());
+    @DisplayName("Test statistics are readable through the platform MBean server while registered.")
+    void givenRegisteredStatisticsWhenReadByJmxThenAttributesShouldBeReturned() throws Exception {
+        HashMap<String, String> map = new HashMap<>();
+        HashMapStatistics statistics = map.enableStatistics();
+        map.put("a", "1");
+        map.get("a");
+        map.get("b");
+        ObjectName name = statistics.register("test map");
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(1L, server.getAttribute(name, "GetHits"));
+            assertEquals(1L, server.getAttribute(name, "GetMisses"));
+            assertEquals(16, server.getAttribute(name, "Capacity"));
+            assertEquals(1, ((long[]) server.getAttribute(name, "ChainLengthHistogram"))[1]);
+            assertThrows(IllegalStateException.class, () -> statistics.register("test map"));
+        } finally {
+            map.disableStatistics();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        assertNull(map.getStatistics());
     }
 
-    @Test
-    @DisplayName("Test iterator method, throws IllegalStateException on empty map")
-    void givenEmptyMapWhenIteratorRemoveThenNoSuchElementExceptionShouldBeRaised() {
-        Exception exception = assertThrows(IllegalStateException.class, () -> new HashMap<>().iterator().remove());
-        assertEquals("Incorrect behavior for the iterator, when called remove() previously next() wasn't called", exception.getMessage());
-    }
+    /**
+     * The key with the hash code chosen by the test, counts calls of equals() and compareTo().
+     */
+    private static final class CollidingKey implements Comparable<CollidingKey> {
+        private static int comparisons;
+        private final int id;
+        private final int hash;
 
-    @Test
-    @DisplayName("Test iterator method, throws IllegalStateException on not empty map")
-    void givenIteratorWhenRemoveCalledWithoutNextThenIllegalStateExceptionShouldBeRaised() {
-        map.put("key", "value");
-        assertEquals(1, map.size());
-        Exception exception = Assertions.assertThrows(IllegalStateException.class,
-                () -> map.iterator().remove());
-        assertEquals("Incorrect behavior for the iterator, when called remove() previously next() wasn't called", exception.getMessage());
-    }
+        private CollidingKey(int id, int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
 
-    @Test
-    @DisplayName("Test iterator hasNext/next/remove then check the size of map")
-    void givenIteratorWhenRemoveCalledAfterNextThenSizeShouldBeDecreasedByOneAndMapShouldNotContainKey() {
-        map.put("key", "value");
-        assertEquals(1, map.size());
+        @Override
+        public int compareTo(CollidingKey other) {
+            comparisons++;
+            return Integer.compare(id, other.id);
+        }
 
-        var iterator = map.iterator();
-        iterator.next();
-        iterator.remove();
+        @Override
+        public boolean equals(Object o) {
+            comparisons++;
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+        }
 
-        assertEquals(0, map.size());
-        assertFalse(map.containsKey("key"));
-    }
+        @Override
+        public int hashCode() {
+            return hash;
+        }
 
-    @Test
-    @DisplayName("Test put/get/remove/size methods together with one element.")
-    void givenNotEmptyMapPerformRemoveAndCheckSize() {
-        map.put(null, "val1");
-        assertEquals(1, map.size());
-        assertEquals("val1", map.get(null));
-        assertEquals("val1", map.remove(null));
-        assertEquals(0, map.size());
+        @Override
+        public String toString() {
+            return "CollidingKey{" + id + "}";
+        }
     }
 
-    @Test
-    @DisplayName("Test put() when we fill our buckets more then on 75%, expected that bucket size should be increased")
-    void givenMapIsFullShouldCallExpandAndIncreasedBucketsSize() {
-        for (int i = 0; i < 120; i++) {
-            map.put(String.valueOf(i), String.valueOf(i));
+    /**
+     * The key with the constant hash code and without natural order.
+     */
+    private static final class NotComparableKey {
+        private final int id;
+
+        private NotComparableKey(int id) {
+            this.id = id;
         }
-        assertEquals(120, map.size());
-    }
 
-    @Test
-    @DisplayName("Test iterator methods on map with collisions.")
-    void givenMapWithCollisions_thenUsingIteratorRemoveEverySecondElement() {
-        Map<Integer, String> map = new HashMap<>();
-        int key = 0;
-        for (int i = 0; i < 8; i++) {
-            map.put(key, String.valueOf(i));
-            key += 4;
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof NotComparableKey && ((NotComparableKey) o).id == id;
         }
-        assertEquals("[0=0, 16=4, 4=1, 20=5, 8=2, 24=6, 12=3, 28=7]", map.toString());
-        int index = 0;
-        var iterator = map.iterator();
-        while (iterator.hasNext()) {
-            var item = iterator.next();
-            if (index % 2 == 0) {
-                iterator.remove();
-            }
-            index++;
+
+        @Override
+        public int hashCode() {
+            return 2112;
         }
-        assertEquals("[16=4, 20=5, 24=6, 28=7]", map.toString());
     }
 
 }
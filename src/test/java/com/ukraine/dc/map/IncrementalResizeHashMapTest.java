@@ -0,0 +1,57 @@
+package com.ukraine.dc.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.IdentityHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalResizeHashMapTest extends MapTest {
+
+    @Override
+    protected <K, V> Map<K, V> getMap() {
+        return new HashMap<>(16, 0.75, true);
+    }
+
+    @Test
+    @DisplayName("Test put/get/remove while the old buckets are migrated step by step.")
+    void givenMigrationInProgressWhenPutGetRemoveThenAllEntriesShouldBeReachable() {
+        Map<Integer, Integer> map = getMap();
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i, i);
+            assertEquals(i / 2, map.get(i / 2));
+            if (i % 3 == 0) {
+                assertEquals(i, map.remove(i));
+                map.put(i, i);
+            }
+        }
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, map.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Test entries are relinked to the grown buckets array, not copied.")
+    void givenEntriesWhenMapGrowsThenSameEntryInstancesShouldBeKept() {
+        Map<Integer, Integer> map = getMap();
+        for (int i = 0; i < 12; i++) {
+            map.put(i, i);
+        }
+        java.util.Map<Map.Entry<Integer, Integer>, Boolean> entries = new IdentityHashMap<>();
+        for (Map.Entry<Integer, Integer> entry : map) {
+            entries.put(entry, true);
+        }
+        for (int i = 12; i < 1_000; i++) {
+            map.put(i, i);
+        }
+        int kept = 0;
+        for (Map.Entry<Integer, Integer> entry : map) {
+            if (entries.containsKey(entry)) {
+                kept++;
+            }
+        }
+        assertEquals(12, kept);
+    }
+}
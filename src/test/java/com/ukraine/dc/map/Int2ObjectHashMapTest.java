@@ -0,0 +1,27 @@
+package com.ukraine.dc.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Int2ObjectHashMapTest {
+
+    @Test
+    @DisplayName("Test put/get/remove on many sequential keys, including the free key 0.")
+    void givenSequentialKeysWhenPutGetRemoveThenValuesShouldBeReturned() {
+        Int2ObjectHashMap<Integer> map = new Int2ObjectHashMap<>(4);
+        for (int i = -5_000; i < 5_000; i++) {
+            map.put(i, i);
+        }
+        assertEquals(10_000, map.size());
+        for (int i = -5_000; i < 5_000; i += 2) {
+            assertEquals(i, map.remove(i));
+        }
+        for (int i = -5_000; i < 5_000; i++) {
+            assertEquals(i % 2 == 0 ? null : i, map.get(i));
+            assertEquals(i % 2 != 0, map.containsKey(i));
+        }
+        assertEquals(5_000, map.size());
+    }
+}
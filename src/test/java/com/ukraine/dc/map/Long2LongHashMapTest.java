@@ -0,0 +1,43 @@
+package com.ukraine.dc.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Long2LongHashMapTest {
+
+    @Test
+    @DisplayName("Test absent keys are reported with the no entry value.")
+    void givenAbsentKeyWhenGetOrRemoveThenNoEntryValueShouldBeReturned() {
+        Long2LongHashMap map = new Long2LongHashMap(16, 0.5, -1);
+        assertEquals(-1, map.get(0));
+        assertEquals(-1, map.get(7));
+        assertEquals(-1, map.remove(7));
+        map.put(0, 10);
+        map.put(7, 70);
+        assertEquals(10, map.get(0));
+        assertEquals(70, map.put(7, 71));
+        assertEquals(71, map.remove(7));
+        assertEquals(-1, map.get(7));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    @DisplayName("Test counters updated through get/put survive resizes.")
+    void givenCountersWhenIncrementManyTimesThenSumsShouldBeCorrect() {
+        Long2LongHashMap map = new Long2LongHashMap();
+        for (int round = 0; round < 3; round++) {
+            for (long id = 1; id <= 10_000; id++) {
+                map.put(id * 31, map.get(id * 31) + id);
+            }
+        }
+        assertEquals(10_000, map.size());
+        long[] sum = new long[1];
+        map.forEach((key, value) -> {
+            assertEquals(key / 31 * 3, value);
+            sum[0] += value;
+        });
+        assertEquals(3L * 10_000 * 10_001 / 2, sum[0]);
+    }
+}
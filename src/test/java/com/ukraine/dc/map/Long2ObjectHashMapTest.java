@@ -0,0 +1,71 @@
+package com.ukraine.dc.map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Long2ObjectHashMapTest {
+    private Long2ObjectHashMap<String> map;
+
+    @BeforeEach
+    void setUp() {
+        map = new Long2ObjectHashMap<>();
+    }
+
+    @Test
+    @DisplayName("Test put/get/containsKey/remove with the free key 0 and negative keys.")
+    void givenSpecialKeysWhenPutGetRemoveThenValuesShouldBeReturned() {
+        assertEquals("zero", map.put(0, "zero"));
+        assertEquals("min", map.put(Long.MIN_VALUE, "min"));
+        assertEquals("minus", map.put(-1, "minus"));
+        assertEquals(3, map.size());
+        assertEquals("zero", map.get(0));
+        assertTrue(map.containsKey(Long.MIN_VALUE));
+        assertEquals("zero", map.put(0, "zero2"));
+        assertEquals("zero2", map.remove(0));
+        assertFalse(map.containsKey(0));
+        assertNull(map.get(0));
+        assertNull(map.remove(1));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    @DisplayName("Test random put/remove sequence against java.util.HashMap.")
+    void givenRandomOperationsWhenCompareWithJdkMapThenContentShouldBeEqual() {
+        java.util.Map<Long, String> expected = new java.util.HashMap<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(3_000) * 0x1_0000_0000L;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                map.put(key, String.valueOf(i));
+                expected.put(key, String.valueOf(i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        int[] visited = new int[1];
+        map.forEach((key, value) -> {
+            assertEquals(expected.get(key), value);
+            visited[0]++;
+        });
+        assertEquals(expected.size(), visited[0]);
+    }
+
+    @Test
+    @DisplayName("Test clear() keeps the map usable.")
+    void givenNotEmptyMapWhenClearThenMapShouldBeEmpty() {
+        map.put(0, "zero");
+        map.put(5, "five");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(5));
+        assertEquals("[]", map.toString());
+        map.put(5, "five");
+        assertEquals("[5=five]", map.toString());
+    }
+}
@@ -0,0 +1,97 @@
+package com.ukraine.dc.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LruCacheTest extends MapTest {
+
+    @Override
+    protected <K, V> Map<K, V> getMap() {
+        // large enough for the common tests, so nothing is evicted there
+        return new LruCache<>(1 << 20);
+    }
+
+    @Test
+    @DisplayName("Test get() and put() promote the entry and the eldest one is evicted to the listener.")
+    void givenFullCacheWhenPutThenLeastRecentlyUsedEntryShouldBeEvicted() {
+        List<String> evicted = new ArrayList<>();
+        LruCache<String, Integer> cache = new LruCache<>(3, (key, value) -> evicted.add(key + "=" + value));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        assertEquals(1, cache.get("a"));
+        cache.put("b", 20);
+        assertEquals("[c=3, a=1, b=20]", cache.toString());
+        cache.put("d", 4);
+        assertEquals("[c=3]", evicted.toString());
+        // containsKey() doesn't promote, so "a" is the next eldest entry
+        assertTrue(cache.containsKey("a"));
+        cache.put("e", 5);
+        assertEquals("[c=3, a=1]", evicted.toString());
+        assertEquals("[b=20, d=4, e=5]", cache.toString());
+        assertEquals(3, cache.size());
+
+        assertNull(cache.get("c"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2, cache.getEvictionCount());
+
+        cache.remove("d");
+        cache.put("f", 6);
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals("[b=20, e=5, f=6]", cache.toString());
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<>(0));
+    }
+
+    @Test
+    @DisplayName("Test random get/put/remove sequence against java.util.LinkedHashMap in access order.")
+    void givenRandomOperationsWhenCompareWithJdkLinkedHashMapThenContentAndOrderShouldBeEqual() {
+        int maximumSize = 100;
+        LruCache<Integer, Integer> cache = new LruCache<>(maximumSize);
+        java.util.Map<Integer, Integer> expected = new java.util.LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(java.util.Map.Entry<Integer, Integer> eldest) {
+                return size() > maximumSize;
+            }
+        };
+        Random random = new Random(22);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(300);
+            int operation = random.nextInt(10);
+            if (operation < 5) {
+                assertEquals(expected.get(key), cache.get(key));
+            } else if (operation < 9) {
+                expected.put(key, i);
+                cache.put(key, i);
+            } else {
+                assertEquals(expected.remove(key), cache.remove(key));
+            }
+            assertEquals(expected.size(), cache.size());
+        }
+        StringBuilder expectedOrder = new StringBuilder("[");
+        expected.forEach((key, value) -> expectedOrder.append(expectedOrder.length() > 1 ? ", " : "")
+                .append(key).append('=').append(value));
+        assertEquals(expectedOrder.append(']').toString(), cache.toString());
+    }
+
+    @Test
+    @DisplayName("Test get() with promotion and eviction on a big cache take constant time.")
+    void givenBigCacheWhenGetAndPutThenOperationsShouldBeConstantTime() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            LruCache<Integer, Integer> cache = new LruCache<>(100_000);
+            for (int i = 0; i < 1_000_000; i++) {
+                cache.put(i, i);
+                cache.get(i - 50_000);
+            }
+            assertEquals(100_000, cache.size());
+            assertEquals(900_000, cache.getEvictionCount());
+        });
+    }
+}
@@ -0,0 +1,334 @@
+package com.ukraine.dc.map;
+
+import org.junit.jupiter.api.*;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+abstract class MapTest {
+    private Map<String, String> map;
+
+    @BeforeEach
+    void setUp() {
+        map = getMap();
+    }
+
+    protected abstract <K, V> Map<K, V> getMap();
+
+    @Test
+    @DisplayName("Test put(k,v) new element to the collection with same key, multiply times.")
+    void givenNullKeyWhenPutMultipleTimesThenSizeShouldBeEqualToOneAndValueShouldBeOverwrittenWithLast() {
+        map.put(null, "value1");
+        map.put(null, "value2");
+        map.put(null, "value3");
+
+        assertEquals(1, map.size());
+        assertEquals("value3", map.get(null));
+    }
+
+    @Test
+    @DisplayName("Test clear() method on collection.")
+    void shouldClearTheCollection() {
+        map.put("key1", "val1");
+        map.put("key2", "val1");
+        map.put("key3", "val1");
+        map.put("key4", "val1");
+        assertEquals(4, map.size());
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(null));
+    }
+
+    @Test
+    @DisplayName("Test get(null) on empty map.")
+    void givenEmptyMapWhenGetByNullKeyThenNullShouldBeReturned() {
+        assertNull(map.get(null));
+    }
+
+    @Test
+    @DisplayName("Test get(key) and remove(key) for a missing key which falls into an empty bucket.")
+    void givenMissingKeyWhenGetOrRemoveThenNullShouldBeReturned() {
+        Map<Integer, String> map = getMap();
+        map.put(1, "value");
+        assertNull(map.get(16));
+        assertNull(map.remove(16));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    @DisplayName("Test get(key) on empty map.")
+    void givenEmptyMapWhenGetByNotNullKeyThenNullShouldBeReturned() {
+        assertNull(map.get("key"));
+    }
+
+    @Test
+    @DisplayName("Test put(null, 'val') then check size and added element.")
+    void givenNullKeyWhenPutOnceThenSizeShouldBeEqualToOneAndValueShouldBeEqualToInserted() {
+        map.put(null, "test");
+        assertEquals(1, map.size());
+        assertEquals("test", map.get(null));
+    }
+
+    @Test
+    @DisplayName("Test put('key', 'val') then check size and added element.")
+    void givenNotNullKeyWhenPutThenSizeShouldBeEqualToOneAndValueShouldBeEqualToInserted() {
+        map.put("key", "value");
+        assertEquals(1, map.size());
+        assertEquals("value", map.get("key"));
+    }
+
+    @Test
+    @DisplayName("Test put() multiple times with non null keys, check size and added elements.")
+    void givenMultipleNotNullKeysWhenPutThenSizeShouldBeEqualToSizeOfKeysAndGetByKeyReturnsCorrespondingValue() {
+        map.put("key1", "value1");
+        map.put("key2", "value2");
+
+        assertEquals(2, map.size());
+        assertEquals("value1", map.get("key1"));
+        assertEquals("value2", map.get("key2"));
+    }
+
+    @Test
+    void shouldReturnNullOnGetByNonExistingKey() {
+        map.put("existingKey", "value1");
+        assertNull(map.get("notExistingKey"));
+    }
+
+    @Test
+    @DisplayName("Test get(key) on empty map")
+    void shouldReturnNullOnGetCallWhenMapIsEmpty() {
+        assertNull(map.get("key1"));
+    }
+
+    @Test
+    @DisplayName("Test put() method adding data to the map with the same key")
+    void shouldAddOneElementToMapByTheSameKey_ValueWillBeOverWrittenTwoTimesTheLastValueWillPresent() {
+        map.put("key", "val1");
+        map.put("key", "val2");
+        map.put("key", "val3");
+
+        assertEquals(1, map.size());
+        assertEquals("val3", map.get("key"));
+    }
+
+    @Test
+    @DisplayName("Test remove() method on empty map")
+    void givenEmptyMapWhenRemoveByNullKeyThenSizeShouldBeEqualToZero() {
+        map.remove(null);
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    @DisplayName("Test remove() on non empty map")
+    void givenNotEmptyMapWhenRemoveByNullKeyThenSizeShouldBeEqualToZero() {
+        map.put(null, "value");
+        assertEquals("[null=value]", map.toString());
+
+        map.remove(null);
+        assertEquals(0, map.size());
+        assertEquals("[]", map.toString());
+    }
+
+    @Test
+    @DisplayName("Test remove() method by map key.")
+    void givenNotEmptyMapWhenRemoveRandomlyThenSizeShouldDecreaseAfterEachRemovalByOne() {
+        map.put("key1", "val1");
+        map.put("key2", "val2");
+        map.put("key3", "val3");
+
+        assertEquals(3, map.size());
+
+        map.remove("key1");
+        assertEquals(2, map.size());
+
+        map.remove("key3");
+        assertEquals(1, map.size());
+
+        map.remove("key2");
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    @DisplayName("Test map.containsKey() by null key on empty map")
+    void givenEmptyMapWhenContainsNullKeyThenFalseShouldBeReturned() {
+        assertFalse(map.containsKey(null));
+    }
+
+    @Test
+    @DisplayName("Test map.containsKey() by not null key on empty map")
+    void givenEmptyMapWhenContainsNotNullKeyThenFalseShouldBeReturned() {
+        assertFalse(map.containsKey("key"));
+    }
+
+    @Test
+    @DisplayName("Test map.containsKey() by null key on not empty map")
+    void givenMapWithExistingNullKeyWhenContainsNullKeyThenTrueShouldBeReturned() {
+        map.put(null, "value");
+        assertTrue(map.containsKey(null));
+    }
+
+    @Test
+    @DisplayName("Test map.containsKey() by not null key on not empty map")
+    void givenMapWithExistingNotNullKeyWhenContainsNullKeyThenTrueShouldBeReturned() {
+        map.put("key", "value");
+        assertTrue(map.containsKey("key"));
+    }
+
+    @Test
+    @DisplayName("Test containsKey() on not empty map with non existing key.")
+    void givenExistingKeyWhenContainsKeyThenTrueShouldBeReturned() {
+        map.put("key", "value");
+        assertFalse(map.containsKey("notExistingKey"));
+    }
+
+    @Test
+    @DisplayName("Test containsKey() on not empty map")
+    void givenMultipleNodesInSameBucketAndExistingKeyWhenContainsByKeyThenTrueShouldBeReturned() {
+        map.put("key1", "val1");
+        map.put("key2", "val2");
+        map.put("key3", "val3");
+        map.put("key4", "val4");
+
+        assertTrue(map.containsKey("key1"));
+        assertTrue(map.containsKey("key2"));
+        assertTrue(map.containsKey("key3"));
+        assertTrue(map.containsKey("key4"));
+    }
+
+    @Test
+    @DisplayName("Test iterator next() on empty map.")
+    void givenEmptyMapWhenIteratorNextThenNoSuchElementExceptionShouldBeRaised() {
+        NoSuchElementException exception = assertThrows(NoSuchElementException.class,
+                () -> getMap().iterator().next());
+        assertEquals("There are no more element in the collection.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Test iterator next() after last element of the map")
+    void givenIteratorWhenNextAfterLastElementThenNoSuchElementExceptionShouldBeRaised() {
+        map.put("key", "value");
+        Iterator<Map.Entry<String, String>> iterator = map.iterator();
+
+        Map.Entry<String, String> entry = iterator.next();
+        assertEquals("key", entry.getKey());
+        assertEquals("value", entry.getValue());
+        Exception exception = assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals("There are no more element in the collection.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Test iterator hasNex() on empty map")
+    void givenEmptyMapWhenIteratorHasNextThenShouldReturnFalse() {
+        assertFalse(map.iterator().hasNext());
+    }
+
+    @Test
+    @DisplayName("Test iterator hasNext(true)/next/hasNext(true) on map with 2 elements")
+    void givenMapWithTwoElementsWhenIteratorNextThenIteratorHasNextShouldReturnFalse() {
+        map.put("key", "value");
+        map.put("key2", "value");
+
+        var iterator = map.iterator();
+        assertTrue(iterator.hasNext());
+        iterator.next();
+        assertTrue(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("Test iterator hasNext(true)/next/hasNext(false) on map with 1 element")
+    void givenMapWithOneElementWhenIteratorNextThenIteratorHasNextShouldReturnFalse() {
+        map.put("key", "value");
+        var iterator = map.iterator();
+
+        assertTrue(iterator.hasNext());
+        iterator.next();
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("Test iterator method, throws IllegalStateException on empty map")
+    void givenEmptyMapWhenIteratorRemoveThenNoSuchElementExceptionShouldBeRaised() {
+        Exception exception = assertThrows(IllegalStateException.class, () -> getMap().iterator().remove());
+        assertEquals("Incorrect behavior for the iterator, when called remove() previously next() wasn't called", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Test iterator method, throws IllegalStateException on not empty map")
+    void givenIteratorWhenRemoveCalledWithoutNextThenIllegalStateExceptionShouldBeRaised() {
+        map.put("key", "value");
+        assertEquals(1, map.size());
+        Exception exception = Assertions.assertThrows(IllegalStateException.class,
+                () -> map.iterator().remove());
+        assertEquals("Incorrect behavior for the iterator, when called remove() previously next() wasn't called", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Test iterator hasNext/next/remove then check the size of map")
+    void givenIteratorWhenRemoveCalledAfterNextThenSizeShouldBeDecreasedByOneAndMapShouldNotContainKey() {
+        map.put("key", "value");
+        assertEquals(1, map.size());
+
+        var iterator = map.iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey("key"));
+    }
+
+    @Test
+    @DisplayName("Test put/get/remove/size methods together with one element.")
+    void givenNotEmptyMapPerformRemoveAndCheckSize() {
+        map.put(null, "val1");
+        assertEquals(1, map.size());
+        assertEquals("val1", map.get(null));
+        assertEquals("val1", map.remove(null));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    @DisplayName("Test put() when we fill our buckets more then on 75%, expected that bucket size should be increased")
+    void givenMapIsFullShouldCallExpandAndIncreasedBucketsSize() {
+        for (int i = 0; i < 120; i++) {
+            map.put(String.valueOf(i), String.valueOf(i));
+        }
+        assertEquals(120, map.size());
+    }
+
+    @Test
+    @DisplayName("Test stream() and parallelStream() see every entry once.")
+    void givenEntriesWhenStreamThenEveryEntryShouldBeProcessedOnce() {
+        for (int i = 0; i < 5000; i++) {
+            map.put("key" + i, String.valueOf(i));
+        }
+        Set<String> expected = IntStream.range(0, 5000).mapToObj(i -> "key" + i).collect(Collectors.toSet());
+        assertEquals(expected, map.stream().map(Map.Entry::getKey).collect(Collectors.toSet()));
+        assertEquals(5000, map.parallelStream().map(Map.Entry::getKey).distinct().count());
+        assertEquals(4999L * 5000 / 2, map.parallelStream().mapToLong(entry -> Long.parseLong(entry.getValue())).sum());
+    }
+
+    @Test
+    @DisplayName("Test spliterator() parts cover the map.")
+    void givenEntriesWhenSpliteratorIsSplitThenPartsShouldCoverTheMap() {
+        for (int i = 0; i < 3000; i++) {
+            map.put("key" + i, "value");
+        }
+        Spliterator<Map.Entry<String, String>> spliterator = map.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+        assertEquals(3000, spliterator.estimateSize());
+        Spliterator<Map.Entry<String, String>> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        int[] count = new int[1];
+        assertTrue(prefix.tryAdvance(entry -> count[0]++));
+        prefix.forEachRemaining(entry -> count[0]++);
+        spliterator.forEachRemaining(entry -> count[0]++);
+        assertFalse(spliterator.tryAdvance(entry -> count[0]++));
+        assertEquals(3000, count[0]);
+    }
+}
@@ -0,0 +1,107 @@
+package com.ukraine.dc.map;
+
+import com.ukraine.dc.offheap.Serializers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedHashMapTest extends MapTest {
+    @TempDir
+    Path directory;
+    private int files;
+
+    @Override
+    protected <K, V> Map<K, V> getMap() {
+        return new MappedHashMap<>(directory.resolve("map" + files++), Serializers.serializable(), Serializers.serializable());
+    }
+
+    @Test
+    @DisplayName("Test reopened map contains the mappings put before close(), including null key and value.")
+    void givenClosedMapWhenReopenThenMappingsShouldBePresent() {
+        Path path = directory.resolve("persistent");
+        try (MappedHashMap<String, String> map = new MappedHashMap<>(path, Serializers.STRING, Serializers.STRING)) {
+            for (int i = 0; i < 1_000; i++) {
+                map.put("key" + i, "value" + i);
+            }
+            map.put(null, "null key");
+            map.put("null value", null);
+            map.remove("key500");
+        }
+        try (MappedHashMap<String, String> map = new MappedHashMap<>(path, Serializers.STRING, Serializers.STRING)) {
+            assertEquals(1_001, map.size());
+            assertEquals("value0", map.get("key0"));
+            assertEquals("value999", map.get("key999"));
+            assertNull(map.get("key500"));
+            assertEquals("null key", map.get(null));
+            assertTrue(map.containsKey("null value"));
+            assertNull(map.get("null value"));
+            map.put("key1000", "value1000");
+            assertEquals(1_002, map.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Test replaced values are compacted into a new data file which survives reopening.")
+    void givenManyUpdatesWhenPutThenDataFileShouldBeCompacted() throws IOException {
+        Path path = directory.resolve("compacted");
+        String padding = "x".repeat(1_000);
+        try (MappedHashMap<Integer, String> map = new MappedHashMap<>(path, Serializers.INTEGER, Serializers.STRING)) {
+            for (int i = 0; i < 40_000; i++) {
+                map.put(i % 10, padding + i);
+            }
+            map.force();
+        }
+        assertFalse(Files.exists(directory.resolve("compacted.data0")));
+        try (MappedHashMap<Integer, String> map = new MappedHashMap<>(path, Serializers.INTEGER, Serializers.STRING)) {
+            assertEquals(10, map.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(padding + (39_990 + i), map.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test random put/remove sequence against java.util.HashMap.")
+    void givenRandomOperationsWhenCompareWithJdkMapThenContentShouldBeEqual() {
+        try (MappedHashMap<Long, Long> map = new MappedHashMap<>(directory.resolve("random"), Serializers.LONG, Serializers.LONG)) {
+            java.util.Map<Long, Long> expected = new java.util.HashMap<>();
+            Random random = new Random(7);
+            for (int i = 0; i < 50_000; i++) {
+                long key = (long) random.nextInt(2_000) << 32;
+                if (random.nextInt(3) == 0) {
+                    assertEquals(expected.remove(key), map.remove(key));
+                } else {
+                    map.put(key, (long) i);
+                    expected.put(key, (long) i);
+                }
+                assertEquals(expected.size(), map.size());
+            }
+            for (Map.Entry<Long, Long> entry : map) {
+                assertEquals(expected.get(entry.getKey()), entry.getValue());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test opening a file which is not a map.")
+    void givenForeignFileWhenOpenThenIllegalArgumentExceptionShouldBeRaised() throws IOException {
+        Path path = Files.writeString(directory.resolve("foreign"), "not a map");
+        assertThrows(IllegalArgumentException.class,
+                () -> new MappedHashMap<>(path, Serializers.STRING, Serializers.STRING));
+    }
+
+    @Test
+    @DisplayName("Test closed map can't be used.")
+    void givenClosedMapWhenGetThenIllegalStateExceptionShouldBeRaised() {
+        MappedHashMap<String, String> map = new MappedHashMap<>(directory.resolve("closed"), Serializers.STRING, Serializers.STRING);
+        map.close();
+        assertThrows(IllegalStateException.class, () -> map.get("key"));
+    }
+}
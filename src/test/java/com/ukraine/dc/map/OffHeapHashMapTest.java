@@ -0,0 +1,119 @@
+package com.ukraine.dc.map;
+
+import com.ukraine.dc.offheap.Serializers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapHashMapTest extends MapTest {
+
+    @Override
+    protected <K, V> Map<K, V> getMap() {
+        return new OffHeapHashMap<>(Serializers.serializable(), Serializers.serializable());
+    }
+
+    @Test
+    @DisplayName("Test random put/remove sequence against java.util.HashMap.")
+    void givenRandomOperationsWhenCompareWithJdkMapThenContentShouldBeEqual() {
+        try (OffHeapHashMap<Integer, String> map = new OffHeapHashMap<>(Serializers.INTEGER, Serializers.STRING)) {
+            java.util.Map<Integer, String> expected = new java.util.HashMap<>();
+            Random random = new Random(7);
+            for (int i = 0; i < 100_000; i++) {
+                // keys share low bits, so clusters are long and the backward shift is exercised
+                int key = random.nextInt(2_000) << 16;
+                if (random.nextInt(3) == 0) {
+                    assertEquals(expected.remove(key), map.remove(key));
+                } else {
+                    map.put(key, "value" + i);
+                    expected.put(key, "value" + i);
+                }
+                assertEquals(expected.size(), map.size());
+            }
+            for (int key = 0; key < 2_000; key++) {
+                assertEquals(expected.get(key << 16), map.get(key << 16));
+            }
+            int count = 0;
+            for (Map.Entry<Integer, String> entry : map) {
+                assertEquals(expected.get(entry.getKey()), entry.getValue());
+                count++;
+            }
+            assertEquals(expected.size(), count);
+        }
+    }
+
+    @Test
+    @DisplayName("Test replaced values are compacted, so the memory does not grow with the number of updates.")
+    void givenManyUpdatesWhenPutThenMemoryShouldStayBounded() {
+        try (OffHeapHashMap<String, String> map = new OffHeapHashMap<>(Serializers.STRING, Serializers.STRING)) {
+            for (int i = 0; i < 10; i++) {
+                map.put("key" + i, "value" + i);
+            }
+            long bytes = map.offHeapBytes();
+            for (int i = 0; i < 100_000; i++) {
+                map.put("key" + i % 10, "updated" + i);
+            }
+            assertTrue(map.offHeapBytes() <= bytes * 4, "off-heap bytes " + map.offHeapBytes());
+            assertEquals("updated99999", map.get("key9"));
+        }
+    }
+
+    @Test
+    @DisplayName("Test bounded map throws IllegalStateException when the limit is reached and keeps its content.")
+    void givenMemoryLimitWhenExceededThenIllegalStateExceptionShouldBeRaised() {
+        try (OffHeapHashMap<Long, String> map = new OffHeapHashMap<>(Serializers.LONG, Serializers.STRING, 16, 0.75, 64 * 1024)) {
+            Exception exception = assertThrows(IllegalStateException.class, () -> {
+                for (long i = 0; ; i++) {
+                    map.put(i, "value" + i);
+                }
+            });
+            assertTrue(exception.getMessage().contains("limit"));
+            for (long i = 0; i < map.size(); i++) {
+                assertEquals("value" + i, map.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test compaction near the limit keeps the content and remove()/put() of an existing key don't fail.")
+    void givenMemoryNearLimitWhenCompactThenContentShouldBeKept() {
+        for (long maxBytes = 16 * 1024; maxBytes <= 32 * 1024; maxBytes += 1013) {
+            try (OffHeapHashMap<Integer, String> map = new OffHeapHashMap<>(Serializers.INTEGER, Serializers.STRING, 512, 0.75, maxBytes)) {
+                java.util.Map<Integer, String> expected = new java.util.HashMap<>();
+                Random random = new Random(maxBytes);
+                for (int i = 0; i < 20_000; i++) {
+                    int key = random.nextInt(300);
+                    if (random.nextInt(3) == 0) {
+                        assertEquals(expected.remove(key), map.remove(key));
+                    } else {
+                        String value = "v".repeat(random.nextInt(40)) + i;
+                        try {
+                            map.put(key, value);
+                            expected.put(key, value);
+                        } catch (IllegalStateException e) {
+                            // the value does not fit, the map stays as it was
+                            assertTrue(e.getMessage().contains("limit"));
+                        }
+                    }
+                    assertEquals(expected.size(), map.size());
+                }
+                for (java.util.Map.Entry<Integer, String> entry : expected.entrySet()) {
+                    assertEquals(entry.getValue(), map.get(entry.getKey()));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test closed map can't be used.")
+    void givenClosedMapWhenGetThenIllegalStateExceptionShouldBeRaised() {
+        OffHeapHashMap<String, String> map = new OffHeapHashMap<>(Serializers.STRING, Serializers.STRING);
+        map.put("key", "value");
+        map.close();
+        assertEquals(0, map.offHeapBytes());
+        assertThrows(IllegalStateException.class, () -> map.get("key"));
+        assertThrows(IllegalStateException.class, () -> map.put("key", "value"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.ukraine.dc.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenAddressingHashMapTest extends MapTest {
+
+    @Override
+    protected <K, V> Map<K, V> getMap() {
+        return new OpenAddressingHashMap<>();
+    }
+
+    @Test
+    @DisplayName("Test random put/remove sequence against java.util.HashMap.")
+    void givenRandomOperationsWhenCompareWithJdkMapThenContentShouldBeEqual() {
+        Map<Integer, Integer> map = new OpenAddressingHashMap<>(4, 0.9);
+        java.util.Map<Integer, Integer> expected = new java.util.HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            // keys share low bits, so clusters are long and the robin hood swaps are exercised
+            int key = random.nextInt(2_000) << 8;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (int key = 0; key < 2_000; key++) {
+            assertEquals(expected.get(key << 8), map.get(key << 8));
+        }
+    }
+
+    @Test
+    @DisplayName("Test iterator remove() returns every entry exactly once while clusters shift back.")
+    void givenCollidingKeysWhenIteratorRemoveEveryEntryThenEachEntryShouldBeVisitedOnce() {
+        Map<Integer, String> map = new OpenAddressingHashMap<>(16);
+        for (int i = 0; i < 10; i++) {
+            // all keys have home slot 15, so the cluster wraps around the end of the table
+            map.put(15 + (i << 4), String.valueOf(i));
+        }
+        Set<Integer> visited = new HashSet<>();
+        var iterator = map.iterator();
+        while (iterator.hasNext()) {
+            assertTrue(visited.add(iterator.next().getKey()));
+            iterator.remove();
+        }
+        assertEquals(10, visited.size());
+        assertEquals(0, map.size());
+        assertEquals("[]", map.toString());
+    }
+
+    @Test
+    @DisplayName("Test containsKey() on key mapped to null value.")
+    void givenNullValueWhenContainsKeyThenShouldReturnTrue() {
+        Map<String, String> map = getMap();
+        map.put("key", null);
+        assertTrue(map.containsKey("key"));
+        assertFalse(map.containsKey("other"));
+    }
+
+    @Test
+    @DisplayName("Test constructor with invalid load factor.")
+    void givenInvalidLoadFactorWhenCreateMapThenIllegalArgumentExceptionShouldBeRaised() {
+        assertThrows(IllegalArgumentException.class, () -> new OpenAddressingHashMap<>(16, 1));
+        assertThrows(IllegalArgumentException.class, () -> new OpenAddressingHashMap<>(16, 0));
+    }
+}
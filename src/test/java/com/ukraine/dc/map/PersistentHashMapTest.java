@@ -0,0 +1,157 @@
+package com.ukraine.dc.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentHashMapTest {
+
+    @Test
+    @DisplayName("Test random with/without sequence against java.util.HashMap, including colliding and null keys.")
+    void givenRandomOperationsWhenCompareWithJdkMapThenContentShouldBeEqual() {
+        PersistentHashMap<Object, Integer> map = PersistentHashMap.empty();
+        java.util.Map<Object, Integer> expected = new java.util.HashMap<>();
+        Random random = new Random(23);
+        for (int i = 0; i < 100_000; i++) {
+            Object key = randomKey(random);
+            if (random.nextInt(3) == 0) {
+                map = map.without(key);
+                expected.remove(key);
+            } else {
+                map = map.with(key, i);
+                expected.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertContentEquals(expected, map);
+        // remove everything, so the trie shrinks back through the inlining of single entries
+        for (Object key : expected.keySet()) {
+            map = map.without(key);
+        }
+        assertTrue(map.isEmpty());
+        assertFalse(map.iterator().hasNext());
+    }
+
+    @Test
+    @DisplayName("Test with() and without() leave the previous versions unchanged.")
+    void givenVersionsWhenUpdateThenPreviousVersionsShouldStayUnchanged() {
+        PersistentHashMap<Integer, String> empty = PersistentHashMap.empty();
+        PersistentHashMap<Integer, String> first = empty;
+        for (int i = 0; i < 1_000; i++) {
+            first = first.with(i, "a" + i);
+        }
+        PersistentHashMap<Integer, String> second = first.with(5, "b").without(7).with(1_000, "c");
+        assertEquals(0, empty.size());
+        assertNull(empty.get(5));
+        assertEquals(1_000, first.size());
+        assertEquals("a5", first.get(5));
+        assertEquals("a7", first.get(7));
+        assertFalse(first.containsKey(1_000));
+        assertEquals(1_000, second.size());
+        assertEquals("b", second.get(5));
+        assertFalse(second.containsKey(7));
+        assertEquals("c", second.get(1_000));
+        assertSame(second, second.with(5, "b"));
+        assertSame(second, second.without(7));
+    }
+
+    @Test
+    @DisplayName("Test null values and keys with the same hash code.")
+    void givenNullValuesAndCollidingKeysWhenWithThenAllShouldBeFound() {
+        PersistentHashMap<String, String> map = PersistentHashMap.<String, String>empty()
+                .with("Aa", "1").with("BB", "2").with(null, null).with("AaAa", null);
+        assertEquals(4, map.size());
+        assertEquals("1", map.get("Aa"));
+        assertEquals("2", map.get("BB"));
+        assertTrue(map.containsKey(null));
+        assertTrue(map.containsKey("AaAa"));
+        assertNull(map.get("AaAa"));
+        assertFalse(map.containsKey("BBBB"));
+        map = map.without("Aa");
+        assertEquals("2", map.get("BB"));
+        assertFalse(map.containsKey("Aa"));
+    }
+
+    @Test
+    @DisplayName("Test transient batch construction, then the transient can't be used.")
+    void givenTransientWhenPutAndRemoveThenPersistentMapShouldHaveSameContent() {
+        PersistentHashMap<Object, Integer> base = PersistentHashMap.empty();
+        for (int i = 0; i < 100; i++) {
+            base = base.with(i, i);
+        }
+        PersistentHashMap.Transient<Object, Integer> builder = base.asTransient();
+        java.util.Map<Object, Integer> expected = new java.util.HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            expected.put(i, i);
+        }
+        Random random = new Random(29);
+        for (int i = 0; i < 50_000; i++) {
+            Object key = randomKey(random);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), builder.remove(key));
+            } else {
+                Integer previous = expected.put(key, i);
+                assertEquals(previous == null ? Integer.valueOf(i) : previous, builder.put(key, i));
+            }
+        }
+        PersistentHashMap<Object, Integer> map = builder.persistent();
+        assertContentEquals(expected, map);
+        assertThrows(IllegalStateException.class, () -> builder.put(1, 1));
+        assertThrows(IllegalStateException.class, () -> builder.get(1));
+        // the base version is not changed by the transient
+        assertEquals(100, base.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, base.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Test the mutating methods of Map are not supported.")
+    void givenPersistentMapWhenPutRemoveClearThenUnsupportedOperationExceptionShouldBeThrown() {
+        PersistentHashMap<String, String> map = PersistentHashMap.<String, String>empty().with("k", "v");
+        assertThrows(UnsupportedOperationException.class, () -> map.put("k", "w"));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("k"));
+        assertThrows(UnsupportedOperationException.class, map::clear);
+        assertThrows(UnsupportedOperationException.class, () -> {
+            var iterator = map.iterator();
+            iterator.next();
+            iterator.remove();
+        });
+        assertEquals("[k=v]", map.toString());
+    }
+
+    /**
+     * Integer keys from a small range, so they are replaced and removed often, and strings from a set
+     * of keys with the same hash code, so collision nodes are built and shrunk.
+     */
+    private static Object randomKey(Random random) {
+        int id = random.nextInt(5_000);
+        if (id < 100) {
+            StringBuilder builder = new StringBuilder();
+            for (int bit = 0; bit < 7; bit++) {
+                builder.append((id >> bit & 1) == 0 ? "Aa" : "BB");
+            }
+            return builder.toString();
+        }
+        return id == 100 ? null : id;
+    }
+
+    private static void assertContentEquals(java.util.Map<Object, Integer> expected, Map<Object, Integer> map) {
+        assertEquals(expected.size(), map.size());
+        for (java.util.Map.Entry<Object, Integer> entry : expected.entrySet()) {
+            assertTrue(map.containsKey(entry.getKey()));
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        Set<Object> keys = new HashSet<>();
+        for (Map.Entry<Object, Integer> entry : map) {
+            assertTrue(keys.add(entry.getKey()));
+            assertEquals(expected.get(entry.getKey()), entry.getValue());
+        }
+        assertEquals(expected.size(), keys.size());
+    }
+}
@@ -0,0 +1,160 @@
+package com.ukraine.dc.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TinyLfuCacheTest extends MapTest {
+
+    @Override
+    protected <K, V> Map<K, V> getMap() {
+        // large enough for the common tests, so nothing is evicted there
+        return new TinyLfuCache<>(1 << 20);
+    }
+
+    @Test
+    @DisplayName("Test the cache never grows over the maximum size and reports every eviction.")
+    void givenMoreKeysThanMaximumSizeWhenPutThenSizeShouldStayBounded() {
+        AtomicInteger evicted = new AtomicInteger();
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100, (key, value) -> {
+            assertEquals(key, value);
+            evicted.incrementAndGet();
+        });
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(i, i);
+            assertTrue(cache.size() <= 100);
+        }
+        assertEquals(100, cache.size());
+        assertEquals(9_900, cache.getEvictionCount());
+        assertEquals(9_900, evicted.get());
+        // the youngest key always sits in the window
+        assertEquals(9_999, cache.get(9_999));
+        assertEquals(1, cache.getHitCount());
+
+        TinyLfuCache<String, String> single = new TinyLfuCache<>(1);
+        single.put("a", "1");
+        single.put("b", "2");
+        assertEquals("[b=2]", single.toString());
+        assertThrows(IllegalArgumentException.class, () -> new TinyLfuCache<>(0));
+    }
+
+    @Test
+    @DisplayName("Test the hot keys survive a scan of keys used once mixed into the traffic, while LruCache loses them.")
+    void givenHotKeysWhenScanThenHotKeysShouldStayInCache() {
+        TinyLfuCache<Integer, Integer> tinyLfu = new TinyLfuCache<>(100);
+        LruCache<Integer, Integer> lru = new LruCache<>(100);
+        for (int round = 0; round < 20; round++) {
+            for (int key = 0; key < 50; key++) {
+                load(tinyLfu, key);
+                load(lru, key);
+            }
+        }
+        // every hot key is used once per 100 scanned keys, so the LRU sees 150 distinct keys between its uses
+        for (int key = 1_000; key < 21_000; key++) {
+            load(tinyLfu, key);
+            load(lru, key);
+            if (key % 2 == 0) {
+                load(tinyLfu, key / 2 % 50);
+                load(lru, key / 2 % 50);
+            }
+        }
+        // then a short burst of keys used once
+        for (int key = 30_000; key < 30_100; key++) {
+            load(tinyLfu, key);
+            load(lru, key);
+        }
+        int tinyLfuHot = 0;
+        int lruHot = 0;
+        for (int key = 0; key < 50; key++) {
+            tinyLfuHot += tinyLfu.containsKey(key) ? 1 : 0;
+            lruHot += lru.containsKey(key) ? 1 : 0;
+        }
+        assertEquals(50, tinyLfuHot);
+        assertEquals(0, lruHot);
+    }
+
+    @Test
+    @DisplayName("Test the frequency sketch counts keys, saturates at 15 and halves the counters on reset.")
+    void givenFrequencySketchWhenIncrementThenFrequencyShouldBeEstimated() {
+        FrequencySketch sketch = new FrequencySketch(1_000);
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("hot");
+        }
+        sketch.increment("warm");
+        assertEquals(5, sketch.frequency("hot"));
+        assertEquals(1, sketch.frequency("warm"));
+        assertEquals(0, sketch.frequency("cold"));
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("hot");
+        }
+        assertEquals(15, sketch.frequency("hot"));
+        sketch.reset();
+        assertEquals(7, sketch.frequency("hot"));
+        assertEquals(0, sketch.frequency("warm"));
+
+        // the sample of 10 * maximumSize increments ages the sketch by itself
+        FrequencySketch aging = new FrequencySketch(10);
+        for (int i = 0; i < 8; i++) {
+            aging.increment(-1);
+        }
+        for (int i = 0; i < 92; i++) {
+            aging.increment(i);
+        }
+        assertTrue(aging.frequency(-1) <= 4, "frequency: " + aging.frequency(-1));
+    }
+
+    @Test
+    @DisplayName("Test concurrent readers and writers keep the cache bounded and consistent.")
+    void givenConcurrentReadersAndWritersWhenRunThenCacheShouldStayConsistent() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(500);
+            int threads = 4;
+            CountDownLatch done = new CountDownLatch(threads);
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                new Thread(() -> {
+                    try {
+                        Random random = new Random(seed);
+                        for (int i = 0; i < 50_000; i++) {
+                            int key = random.nextInt(2_000);
+                            Integer value = cache.get(key);
+                            if (value == null) {
+                                cache.put(key, key);
+                            } else {
+                                assertEquals(key, value);
+                            }
+                        }
+                    } catch (Throwable e) {
+                        failure.set(e);
+                    } finally {
+                        done.countDown();
+                    }
+                }).start();
+            }
+            done.await();
+            assertNull(failure.get());
+            assertTrue(cache.size() <= 500);
+            assertEquals(4 * 50_000, cache.getHitCount() + cache.getMissCount());
+            int count = 0;
+            for (Map.Entry<Integer, Integer> entry : cache) {
+                assertEquals(entry.getKey(), entry.getValue());
+                count++;
+            }
+            assertEquals(cache.size(), count);
+        });
+    }
+
+    private static void load(Map<Integer, Integer> cache, int key) {
+        if (cache.get(key) == null) {
+            cache.put(key, key);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ukraine.dc.offheap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapLogTest {
+
+    @Test
+    @DisplayName("Test rejected writes of a bounded log don't change the live and garbage bytes.")
+    void givenMemoryLimitWhenWriteRejectedThenAccountingShouldNotChange() {
+        try (OffHeapMemory memory = new OffHeapMemory(4096)) {
+            OffHeapLog log = new OffHeapLog(memory);
+            long[] addresses = new long[510];
+            for (int i = 0; i < addresses.length; i++) {
+                addresses[i] = log.write(Serializers.LONG, (long) i);
+            }
+            long liveBytes = log.liveBytes();
+            long garbageBytes = log.garbageBytes();
+            for (int i = 0; i < 3; i++) {
+                Exception exception = assertThrows(IllegalStateException.class,
+                        () -> log.write(Serializers.STRING, "does not fit into the tail"));
+                assertTrue(exception.getMessage().contains("limit"));
+                assertEquals(liveBytes, log.liveBytes());
+                assertEquals(garbageBytes, log.garbageBytes());
+            }
+            assertFalse(log.needsCompaction());
+            for (int i = 0; i < addresses.length; i++) {
+                assertEquals((long) i, log.read(Serializers.LONG, addresses[i]));
+            }
+            // the tail is still usable by a value that fits
+            assertEquals(7L, log.read(Serializers.LONG, log.write(Serializers.LONG, 7L)));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ukraine.dc.offheap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializersTest {
+
+    @Test
+    @DisplayName("Test STRING sizeOf() matches the encoded size for multibyte characters and surrogates.")
+    void givenMultibyteStringsWhenWriteThenReadShouldReturnEqualString() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        String[] values = {"", "ascii", "\u043a\u0438\u0457\u0432", "\u20ac", "\uD83D\uDE00 emoji"};
+        for (String value : values) {
+            Serializers.STRING.write(value, buffer, 3);
+            assertEquals(value, Serializers.STRING.read(buffer, 3, Serializers.STRING.sizeOf(value)));
+        }
+        // an unpaired surrogate is replaced by the encoder
+        Serializers.STRING.write("lone \uD83D", buffer, 0);
+        assertEquals("lone ?", Serializers.STRING.read(buffer, 0, Serializers.STRING.sizeOf("lone \uD83D")));
+    }
+
+    @Test
+    @DisplayName("Test fixed-width serializers report their size.")
+    void givenFixedWidthSerializersWhenFixedSizeThenShouldReturnWidth() {
+        assertEquals(Integer.BYTES, Serializers.INTEGER.fixedSize());
+        assertEquals(Long.BYTES, Serializers.LONG.fixedSize());
+        assertEquals(Double.BYTES, Serializers.DOUBLE.fixedSize());
+        assertEquals(Serializer.VARIABLE_SIZE, Serializers.STRING.fixedSize());
+    }
+}